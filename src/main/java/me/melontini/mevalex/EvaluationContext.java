@@ -29,11 +29,26 @@ public class EvaluationContext {
   Map<String, EvaluationValue> parameters;
   Object @Nullable [] context;
 
+  /**
+   * The values of the parameters of the lambda expressions that are currently evaluated, indexed by
+   * the slot that the parser assigned to each lambda parameter.
+   */
+  EvaluationValue @Nullable [] locals;
+
   public EvaluationContext(
       Expression expression, Map<String, EvaluationValue> parameters, Object @Nullable [] context) {
+    this(expression, parameters, context, null);
+  }
+
+  public EvaluationContext(
+      Expression expression,
+      Map<String, EvaluationValue> parameters,
+      Object @Nullable [] context,
+      EvaluationValue @Nullable [] locals) {
     this.expression = expression;
     this.parameters = parameters;
     this.context = context;
+    this.locals = locals;
   }
 
   public EvaluationContext withParameter(String parameter, EvaluationValue value) {
@@ -45,7 +60,19 @@ public class EvaluationContext {
         expression.getConfiguration().getParameterMapSupplier().get();
     parameters.putAll(this.parameters);
     parameters.putAll(map);
-    return new EvaluationContext(expression, Collections.unmodifiableMap(parameters), context);
+    return new EvaluationContext(
+        expression, Collections.unmodifiableMap(parameters), context, locals);
+  }
+
+  /**
+   * Creates a context with other lambda parameter slots. The slots are written by lambda
+   * invocations, so the array must not be shared with another evaluation.
+   *
+   * @param locals The lambda parameter slots.
+   * @return The new context.
+   */
+  public EvaluationContext withLocals(EvaluationValue[] locals) {
+    return new EvaluationContext(expression, parameters, context, locals);
   }
 
   public static EvaluationContextBuilder builder(Expression expression) {
@@ -63,15 +90,83 @@ public class EvaluationContext {
     }
 
     public EvaluationContextBuilder parameter(String parameter, Object value) {
+      checkNotConstant(parameter);
+      return put(parameter, expression.convertValue(value));
+    }
+
+    /**
+     * Sets a number parameter from a primitive double, without boxing it.
+     *
+     * @param parameter The parameter name.
+     * @param value The value.
+     * @return The builder.
+     */
+    public EvaluationContextBuilder parameter(String parameter, double value) {
+      checkNotConstant(parameter);
+      return put(parameter, expression.convertDoubleValue(value));
+    }
+
+    /**
+     * Sets a number parameter from a primitive long, without boxing it.
+     *
+     * @param parameter The parameter name.
+     * @param value The value.
+     * @return The builder.
+     */
+    public EvaluationContextBuilder parameter(String parameter, long value) {
+      checkNotConstant(parameter);
+      return put(parameter, expression.convertLongValue(value));
+    }
+
+    /**
+     * Sets a number parameter from a primitive int, without boxing it.
+     *
+     * @param parameter The parameter name.
+     * @param value The value.
+     * @return The builder.
+     */
+    public EvaluationContextBuilder parameter(String parameter, int value) {
+      checkNotConstant(parameter);
+      return put(parameter, expression.convertLongValue(value));
+    }
+
+    /**
+     * Sets a boolean parameter from a primitive boolean, without boxing it.
+     *
+     * @param parameter The parameter name.
+     * @param value The value.
+     * @return The builder.
+     */
+    public EvaluationContextBuilder parameter(String parameter, boolean value) {
+      checkNotConstant(parameter);
+      return put(parameter, expression.convertBooleanValue(value));
+    }
+
+    /**
+     * Sets a string parameter from a primitive char. Without this overload, a char would be widened
+     * to an int.
+     *
+     * @param parameter The parameter name.
+     * @param value The value.
+     * @return The builder.
+     */
+    public EvaluationContextBuilder parameter(String parameter, char value) {
+      return parameter(parameter, (Object) value);
+    }
+
+    private void checkNotConstant(String parameter) {
       if (!expression.getConfiguration().isAllowOverwriteConstants()) {
         if (expression.getConfiguration().getConstants().containsKey(parameter))
           throw new UnsupportedOperationException(
               String.format("Can't set value for constant '%s'", parameter));
       }
+    }
+
+    private EvaluationContextBuilder put(String parameter, EvaluationValue value) {
       if (this.parameters == null)
         this.parameters = expression.getConfiguration().getParameterMapSupplier().get();
 
-      this.parameters.put(parameter, expression.convertValue(value));
+      this.parameters.put(parameter, value);
       return this;
     }
 
@@ -22,6 +22,7 @@ import me.melontini.mevalex.config.ExpressionConfiguration;
 import me.melontini.mevalex.data.DataAccessorIfc;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.NumberValue;
+import me.melontini.mevalex.parser.BooleanSolvable;
 import me.melontini.mevalex.parser.Solvable;
 import me.melontini.mevalex.parser.Token;
 import org.jetbrains.annotations.Nullable;
@@ -38,6 +39,7 @@ public class Expression {
   private final String expressionString;
   private final @Nullable DataAccessorIfc dataAccessor;
   private final Solvable solvable;
+  private final @Nullable BooleanSolvable booleanSolvable;
 
   /**
    * Creates a new expression with a custom configuration. The expression is not parsed until it is
@@ -47,8 +49,25 @@ public class Expression {
    */
   public Expression(
       String expressionString, Solvable solvable, ExpressionConfiguration configuration) {
+    this(expressionString, solvable, null, configuration);
+  }
+
+  /**
+   * Creates a new expression with a custom configuration and a compiled predicate.
+   *
+   * @param expressionString A string holding an expression.
+   * @param solvable The compiled expression.
+   * @param booleanSolvable The compiled predicate, or <code>null</code> if the expression does not
+   *     compile to a predicate.
+   */
+  public Expression(
+      String expressionString,
+      Solvable solvable,
+      @Nullable BooleanSolvable booleanSolvable,
+      ExpressionConfiguration configuration) {
     this.expressionString = expressionString;
     this.solvable = solvable;
+    this.booleanSolvable = booleanSolvable;
     this.configuration = configuration;
     this.dataAccessor = configuration.getDataAccessorSupplier().get();
   }
@@ -83,6 +102,31 @@ public class Expression {
     return result;
   }
 
+  /**
+   * Evaluates the expression as a predicate, in a context that is configured by the given builder
+   * function, e.g. to pass variables.
+   *
+   * @param builder The function to configure the evaluation context.
+   * @return <code>true</code> if the expression evaluates to boolean <code>true</code>.
+   * @throws EvaluationException If there were problems while evaluating the expression.
+   */
+  public boolean test(UnaryOperator<EvaluationContext.EvaluationContextBuilder> builder)
+      throws EvaluationException {
+    return this.test(builder.apply(EvaluationContext.builder(this)).build());
+  }
+
+  /**
+   * Evaluates the expression as a predicate. Comparisons and logical operations are evaluated
+   * without creating intermediate boolean values.
+   *
+   * @return <code>true</code> if the expression evaluates to boolean <code>true</code>.
+   * @throws EvaluationException If there were problems while evaluating the expression.
+   */
+  public boolean test(EvaluationContext context) throws EvaluationException {
+    if (booleanSolvable != null) return booleanSolvable.test(context);
+    return Boolean.TRUE.equals(evaluate(context).getBooleanValue());
+  }
+
   public EvaluationValue evaluateSubtree(
       Solvable solvable, UnaryOperator<EvaluationContext.EvaluationContextBuilder> builder)
       throws EvaluationException {
@@ -145,7 +189,8 @@ public class Expression {
    * @return The copied Expression instance.
    */
   public Expression copy() {
-    return new Expression(getExpressionString(), getSolvable(), getConfiguration());
+    return new Expression(
+        getExpressionString(), getSolvable(), getBooleanSolvable(), getConfiguration());
   }
 
   /**
@@ -156,7 +201,28 @@ public class Expression {
    * @return An {@link EvaluationValue} of type {@link NumberValue}.
    */
   public EvaluationValue convertDoubleValue(double value) {
-    return convertValue(value);
+    return configuration.getEvaluationValueConverter().convertDouble(value, configuration);
+  }
+
+  /**
+   * Converts a long value to an {@link EvaluationValue}.
+   *
+   * @param value The long value to covert.
+   * @return An {@link EvaluationValue} of type {@link NumberValue}.
+   */
+  public EvaluationValue convertLongValue(long value) {
+    return configuration.getEvaluationValueConverter().convertLong(value, configuration);
+  }
+
+  /**
+   * Converts a boolean value to an {@link EvaluationValue}.
+   *
+   * @param value The boolean value to covert.
+   * @return An {@link EvaluationValue} of type {@link
+   *     me.melontini.mevalex.data.types.BooleanValue}.
+   */
+  public EvaluationValue convertBooleanValue(boolean value) {
+    return configuration.getEvaluationValueConverter().convertBoolean(value, configuration);
   }
 
   /**
@@ -18,6 +18,7 @@ package me.melontini.mevalex.config;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.security.SecureRandom;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
@@ -33,6 +34,7 @@ import me.melontini.mevalex.data.types.BooleanValue;
 import me.melontini.mevalex.data.types.NullValue;
 import me.melontini.mevalex.data.types.NumberValue;
 import me.melontini.mevalex.data.types.StringValue;
+import me.melontini.mevalex.data.util.StringValuePool;
 import me.melontini.mevalex.functions.FunctionIfc;
 import me.melontini.mevalex.functions.basic.*;
 import me.melontini.mevalex.functions.datetime.*;
@@ -69,6 +71,9 @@ public class ExpressionConfiguration {
   public static final MathContext DEFAULT_MATH_CONTEXT =
       new MathContext(68, RoundingMode.HALF_EVEN);
 
+  /** The default maximum base of the <code>FACT()</code> function. */
+  public static final int DEFAULT_MAX_FACTORIAL_BASE = 10_000;
+
   /**
    * The default date time formatters used when parsing a date string. Each format will be tried and
    * the first matching will be used.
@@ -176,6 +181,64 @@ public class ExpressionConfiguration {
    */
   @Builder.Default private final boolean allowOverwriteConstants = false;
 
+  /**
+   * If set to true, chains of logical AND and OR operations are evaluated in the order of the
+   * estimated cost of their operands, instead of the source order. Only chains where all operands
+   * are pure are reordered. Disabled by default.
+   *
+   * <p>Note that an expression that fails when evaluated in source order, may produce a result when
+   * a cheaper operand that is evaluated first already decides the result.
+   */
+  @Builder.Default private final boolean reorderLogicalOperands = false;
+
+  /**
+   * If set to true, reordered logical operations also record how often each operand decides the
+   * result, and adapt the evaluation order accordingly. Only has an effect, if {@link
+   * #reorderLogicalOperands} is enabled. Disabled by default.
+   */
+  @Builder.Default private final boolean logicalOperandStatistics = false;
+
+  /**
+   * If set to a value greater than zero, pure expressions record the types of their variable values
+   * and which conditional parts are evaluated. After the given number of evaluations, the
+   * expression is compiled again, specialized for what was observed. If an observation does not
+   * hold for a later evaluation, the expression falls back to the generic version. The default
+   * value of 0 disables the adaptive optimization.
+   */
+  @Builder.Default private final int adaptiveOptimizationThreshold = 0;
+
+  /**
+   * The source of random numbers for the <code>RANDOM()</code> function. The supplier is called for
+   * each evaluation of the function, so it can return a thread-local generator like {@link
+   * java.util.concurrent.ThreadLocalRandom#current()}. A seeded generator gives reproducible
+   * results when evaluated by a single thread. By default, a {@link SecureRandom} shared by all
+   * configurations is used.
+   */
+  @Builder.Default private final Supplier<Random> randomSupplier = () -> SecureRandomHolder.RANDOM;
+
+  /**
+   * The maximum base of the <code>FACT()</code> function. The number of digits of a factorial grows
+   * faster than its base, so this limit protects against expressions that take very long to
+   * evaluate. By default, {@link #DEFAULT_MAX_FACTORIAL_BASE} is used.
+   */
+  @Builder.Default private final int maxFactorialBase = DEFAULT_MAX_FACTORIAL_BASE;
+
+  /**
+   * If set to a value greater than zero, the maximum number of characters a regular expression
+   * function may read from its input, including the characters read again when backtracking. This
+   * protects applications that evaluate user supplied regular expressions against patterns with
+   * catastrophic backtracking. The default value of 0 disables the limit.
+   */
+  @Builder.Default private final long maxRegexSteps = 0;
+
+  /**
+   * If set to a value greater than zero, the <code>SUM()</code>, <code>AVERAGE()</code>, <code>
+   * MIN()</code>, <code>MAX()</code>, <code>VARIANCE()</code> and <code>STDDEV()</code> functions
+   * process primitive arrays with at least this many elements in parallel, using the common
+   * fork-join pool. The default value of 0 disables parallel processing.
+   */
+  @Builder.Default private final int parallelAggregationThreshold = 0;
+
   /** The time zone id. By default, the system default zone ID is used. */
   @Builder.Default private final ZoneId zoneId = ZoneId.systemDefault();
 
@@ -196,6 +259,19 @@ public class ExpressionConfiguration {
   private final EvaluationValueConverterIfc evaluationValueConverter =
       new DefaultEvaluationValueConverter();
 
+  /**
+   * The pool for string values. String literals of all expressions parsed with this configuration
+   * share one value per distinct string. By default, each configuration has its own pool.
+   */
+  @Builder.Default private final StringValuePool stringValuePool = new StringValuePool();
+
+  /**
+   * If set to true, strings passed as variable values are also deduplicated using the {@link
+   * #stringValuePool}. This saves memory for frequently repeated strings like status codes, at the
+   * cost of a pool lookup per conversion. Disabled by default.
+   */
+  @Builder.Default private final boolean internStrings = false;
+
   /**
    * Convenience method to get the default configuration.
    *
@@ -245,22 +321,32 @@ public class ExpressionConfiguration {
     return FunctionDictionary.builder(supplier)
         // basic functions
         .add("ABS", new AbsFunction())
+        .add("ALL", new AllFunction())
+        .add("ANY", new AnyFunction())
         .add("AVERAGE", new AverageFunction())
         .add("CEILING", new CeilingFunction())
         .add("COALESCE", new CoalesceFunction())
+        .add("COUNT", new CountFunction())
         .add("FACT", new FactFunction())
+        .add("FILTER", new FilterFunction())
         .add("FLOOR", new FloorFunction())
         .add("IF", new IfFunction())
         .add("LOG", new LogFunction())
         .add("LOG10", new Log10Function())
+        .add("MAP", new MapFunction())
         .add("MAX", new MaxFunction())
+        .add("MEDIAN", new MedianFunction())
         .add("MIN", new MinFunction())
         .add("NOT", new NotFunction())
+        .add("PERCENTILE", new PercentileFunction())
         .add("RANDOM", new RandomFunction())
+        .add("REDUCE", new ReduceFunction())
         .add("ROUND", new RoundFunction())
         .add("SQRT", new SqrtFunction())
+        .add("STDDEV", new StdDevFunction())
         .add("SUM", new SumFunction())
         .add("SWITCH", new SwitchFunction())
+        .add("VARIANCE", new VarianceFunction())
         // trigonometric
         .add("ACOS", new AcosFunction())
         .add("ACOSH", new AcosHFunction())
@@ -299,8 +385,11 @@ public class ExpressionConfiguration {
         // string functions
         .add("STR_CONTAINS", new StringContains())
         .add("STR_ENDS_WITH", new StringEndsWithFunction())
+        .add("STR_FIND", new StringFindFunction())
         .add("STR_FORMAT", new StringFormatFunction())
         .add("STR_LOWER", new StringLowerFunction())
+        .add("STR_MATCHES", new StringMatchesFunction())
+        .add("STR_REPLACE_REGEX", new StringReplaceRegexFunction())
         .add("STR_STARTS_WITH", new StringStartsWithFunction())
         .add("STR_TRIM", new StringTrimFunction())
         .add("STR_UPPER", new StringUpperFunction())
@@ -343,4 +432,9 @@ public class ExpressionConfiguration {
 
     return constants;
   }
+
+  /** Creates the shared {@link SecureRandom} on first use. */
+  private static final class SecureRandomHolder {
+    private static final SecureRandom RANDOM = new SecureRandom();
+  }
 }
@@ -0,0 +1,82 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.data;
+
+/**
+ * The statically known type of a value. Used to declare variable types when parsing an expression
+ * and by the type inference, which annotates the parsed abstract syntax tree with the types that
+ * can be determined before evaluation.
+ */
+public enum EvaluationType {
+  NUMBER,
+  STRING,
+  BOOLEAN,
+  DATE_TIME,
+  DURATION,
+  ARRAY,
+  STRUCTURE,
+  NULL,
+  /** The type is not known before evaluation. */
+  ANY;
+
+  /**
+   * Returns the type of the given value.
+   *
+   * @param value The value.
+   * @return The type, or {@link #ANY} for values of custom types.
+   */
+  public static EvaluationType of(EvaluationValue value) {
+    if (value.isNumberValue()) return NUMBER;
+    if (value.isStringValue()) return STRING;
+    if (value.isBooleanValue()) return BOOLEAN;
+    if (value.isDateTimeValue()) return DATE_TIME;
+    if (value.isDurationValue()) return DURATION;
+    if (value.isArrayValue()) return ARRAY;
+    if (value.isStructureValue()) return STRUCTURE;
+    if (value.isNullValue()) return NULL;
+    return ANY;
+  }
+
+  /**
+   * Checks if a value is of this type.
+   *
+   * @param value The value to check.
+   * @return <code>true</code> if the value is of this type, always <code>true</code> for {@link
+   *     #ANY}.
+   */
+  public boolean matches(EvaluationValue value) {
+    return switch (this) {
+      case NUMBER -> value.isNumberValue();
+      case STRING -> value.isStringValue();
+      case BOOLEAN -> value.isBooleanValue();
+      case DATE_TIME -> value.isDateTimeValue();
+      case DURATION -> value.isDurationValue();
+      case ARRAY -> value.isArrayValue();
+      case STRUCTURE -> value.isStructureValue();
+      case NULL -> value.isNullValue();
+      case ANY -> true;
+    };
+  }
+
+  /**
+   * Checks if this type is known before evaluation.
+   *
+   * @return <code>false</code> for {@link #ANY}.
+   */
+  public boolean isKnown() {
+    return this != ANY;
+  }
+}
@@ -36,4 +36,17 @@ public interface IndexedAccessor {
   @Nullable
   EvaluationValue getIndexedData(BigDecimal index, Token token, EvaluationContext context)
       throws EvaluationException;
+
+  /**
+   * Retrieves a data value by an integer index. Used for indices without fractional part, the
+   * default implementation delegates to {@link #getIndexedData(BigDecimal, Token,
+   * EvaluationContext)}.
+   *
+   * @return The data value, or <code>null</code> if index is out of bounds.
+   */
+  @Nullable
+  default EvaluationValue getIndexedData(int index, Token token, EvaluationContext context)
+      throws EvaluationException {
+    return getIndexedData(BigDecimal.valueOf(index), token, context);
+  }
 }
@@ -19,17 +19,45 @@ import java.util.List;
 import me.melontini.mevalex.config.ExpressionConfiguration;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.ArrayValue;
+import me.melontini.mevalex.data.util.DoubleArrayWrapper;
 import me.melontini.mevalex.data.util.LazyArrayWrapper;
 import me.melontini.mevalex.data.util.LazyListWrapper;
+import me.melontini.mevalex.data.util.LongArrayWrapper;
+import me.melontini.mevalex.data.util.MemoizingListWrapper;
 
-/** Converter to convert to the ARRAY data type. */
+/**
+ * Converter to convert to the ARRAY data type. The elements are converted lazily, when they are
+ * accessed. Primitive integer and double arrays are converted without boxing the elements.
+ *
+ * <p>By default, an element is converted on each access. A memoizing converter remembers the
+ * converted elements, which pays off if expressions access the same elements several times, like in
+ * <code>SUM(values) / MAX(values)</code>.
+ */
 public class ArrayConverter implements ConverterIfc {
+
+  private final boolean memoizing;
+
+  /** Creates a converter that converts an element on each access. */
+  public ArrayConverter() {
+    this(false);
+  }
+
+  /**
+   * Creates a converter, that optionally remembers converted elements.
+   *
+   * @param memoizing If each element should be converted at most once per converted array.
+   */
+  public ArrayConverter(boolean memoizing) {
+    this.memoizing = memoizing;
+  }
+
   @Override
   public EvaluationValue convert(Object object, ExpressionConfiguration configuration) {
-    if (object.getClass().isArray()) return ArrayValue.of(convertArray(object, configuration));
-    if (object instanceof List<?> list)
-      return ArrayValue.of(new LazyListWrapper(list, configuration));
-    throw illegalArgument(object);
+    List<EvaluationValue> elements;
+    if (object.getClass().isArray()) elements = convertArray(object, configuration);
+    else if (object instanceof List<?> list) elements = new LazyListWrapper(list, configuration);
+    else throw illegalArgument(object);
+    return ArrayValue.of(memoizing ? new MemoizingListWrapper(elements) : elements);
   }
 
   @Override
@@ -39,19 +67,19 @@ public class ArrayConverter implements ConverterIfc {
 
   private List<EvaluationValue> convertArray(Object array, ExpressionConfiguration configuration) {
     if (array instanceof int[] arr)
-      return new LazyArrayWrapper(i -> arr[i], arr.length, configuration);
+      return new LongArrayWrapper(i -> arr[i], arr.length, configuration);
     if (array instanceof long[] arr)
-      return new LazyArrayWrapper(i -> arr[i], arr.length, configuration);
+      return new LongArrayWrapper(i -> arr[i], arr.length, configuration);
     if (array instanceof double[] arr)
-      return new LazyArrayWrapper(i -> arr[i], arr.length, configuration);
+      return new DoubleArrayWrapper(i -> arr[i], arr.length, configuration);
     if (array instanceof float[] arr)
       return new LazyArrayWrapper(i -> arr[i], arr.length, configuration);
     if (array instanceof short[] arr)
-      return new LazyArrayWrapper(i -> arr[i], arr.length, configuration);
+      return new LongArrayWrapper(i -> arr[i], arr.length, configuration);
     if (array instanceof char[] arr)
       return new LazyArrayWrapper(i -> arr[i], arr.length, configuration);
     if (array instanceof byte[] arr)
-      return new LazyArrayWrapper(i -> arr[i], arr.length, configuration);
+      return new LongArrayWrapper(i -> arr[i], arr.length, configuration);
     if (array instanceof boolean[] arr)
       return new LazyArrayWrapper(i -> arr[i], arr.length, configuration);
     var arr = ((Object[]) array);
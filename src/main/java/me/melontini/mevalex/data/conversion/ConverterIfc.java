@@ -31,7 +31,8 @@ public interface ConverterIfc {
   EvaluationValue convert(Object object, ExpressionConfiguration configuration);
 
   /**
-   * Checks, if a given object can be converted by this converter.
+   * Checks, if a given object can be converted by this converter. The result is remembered for the
+   * class of the object, so it must not depend on the state of the object.
    *
    * @param object The object to convert.
    * @return <code>true</code> if the object can be converted, false otherwise.
@@ -15,6 +15,7 @@
 */
 package me.melontini.mevalex.data.conversion;
 
+import java.text.ParsePosition;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAccessor;
@@ -49,18 +50,34 @@ public class DateTimeConverter implements ConverterIfc {
    * result is returned. If none of the formats can be used to parse the string, <code>null</code>
    * is returned.
    *
+   * <p>If the list starts with {@link DateTimeFormatter#ISO_DATE_TIME}, like the default list,
+   * common ISO-8601 shapes are parsed directly without using the formatters. Formatters are checked
+   * for a match before the result is resolved, so that non-matching formatters do not throw
+   * exceptions.
+   *
    * @param value The string to parse.
    * @param zoneId The {@link ZoneId} to use for parsing.
    * @param formatters The list of formatters.
    * @return A parsed {@link Instant} if parsing was successful, else <code>null</code>.
    */
   public Instant parseDateTime(String value, ZoneId zoneId, List<DateTimeFormatter> formatters) {
-    for (DateTimeFormatter formatter : formatters)
+    if (!formatters.isEmpty() && formatters.get(0) == DateTimeFormatter.ISO_DATE_TIME) {
+      boolean allowDate = formatters.size() > 1 && formatters.get(1) == DateTimeFormatter.ISO_DATE;
+      Instant instant = IsoDateTimeParser.parse(value, zoneId, allowDate);
+      if (instant != null) return instant;
+    }
+
+    for (DateTimeFormatter formatter : formatters) {
+      ParsePosition position = new ParsePosition(0);
+      if (formatter.parseUnresolved(value, position) == null
+          || position.getErrorIndex() >= 0
+          || position.getIndex() < value.length()) continue;
       try {
         return parseToInstant(value, zoneId, formatter);
       } catch (DateTimeException ignored) {
-        // ignore
+        // the value matches the pattern, but is invalid, e.g. a day of month 31 in April
       }
+    }
     return null;
   }
 
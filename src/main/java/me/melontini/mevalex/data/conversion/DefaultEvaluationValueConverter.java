@@ -15,14 +15,16 @@
 */
 package me.melontini.mevalex.data.conversion;
 
-import java.math.BigDecimal;
-import java.time.Duration;
-import java.time.Instant;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import me.melontini.mevalex.config.ExpressionConfiguration;
 import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.types.BooleanValue;
 import me.melontini.mevalex.data.types.NullValue;
-import me.melontini.mevalex.parser.Solvable;
+import me.melontini.mevalex.data.types.NumberValue;
 
 /**
  * The default implementation of the {@link EvaluationValueConverterIfc}, used in the standard
@@ -51,11 +53,16 @@ import me.melontini.mevalex.parser.Solvable;
  *   <tr><td>Duration</td><td>DurationConverter</td></tr>
  *   <tr><td>ASTNode</td><td>ASTNode</td></tr>
  *   <tr><td>List&lt;?&gt;</td><td>ArrayConverter - each entry will be lazily converted</td></tr>
- *   <tr><td>Map&lt?,?&gt;</td><td>StructureConverter - each entry will be converted</td></tr>
+ *   <tr><td>Map&lt?,?&gt;</td><td>StructureConverter - each entry will be lazily converted</td></tr>
  * </table>
  *
  * <i>* Be careful with conversion problems when using float or double, which are fractional
  * numbers. A (float)0.1 is e.g. converted to 0.10000000149011612</i>
+ *
+ * <p>The converter that matches a class is remembered on first use, so {@link
+ * ConverterIfc#canConvert(Object)} is only called once per class. Custom converters can be
+ * registered using the {@link #builder()}. Plain Java objects can be accessed as structures by
+ * adding a {@link PojoConverter}.
  */
 public class DefaultEvaluationValueConverter implements EvaluationValueConverterIfc {
 
@@ -68,8 +75,9 @@ public class DefaultEvaluationValueConverter implements EvaluationValueConverter
   public static final ArrayConverter ARRAY_CONVERTER = new ArrayConverter();
   public static final StructureConverter STRUCTURE_CONVERTER = new StructureConverter();
 
-  static final List<ConverterIfc> converters =
-      Arrays.asList(
+  /** The standard converters, in the order they are checked. */
+  public static final List<ConverterIfc> STANDARD_CONVERTERS =
+      List.of(
           NUMBER_CONVERTER,
           STRING_CONVERTER,
           BOOLEAN_CONVERTER,
@@ -79,33 +87,58 @@ public class DefaultEvaluationValueConverter implements EvaluationValueConverter
           ARRAY_CONVERTER,
           STRUCTURE_CONVERTER);
 
-  static final Map<Class<?>, ConverterIfc> FAST_PATH;
-
-  static {
-    IdentityHashMap<Class<?>, ConverterIfc> fastPath = new IdentityHashMap<>();
-    fastPath.put(BigDecimal.class, NUMBER_CONVERTER);
-    fastPath.put(Double.class, NUMBER_CONVERTER);
-    fastPath.put(Float.class, NUMBER_CONVERTER);
-    fastPath.put(Integer.class, NUMBER_CONVERTER);
-    fastPath.put(Long.class, NUMBER_CONVERTER);
-
-    fastPath.put(String.class, STRING_CONVERTER);
-    fastPath.put(Character.class, STRING_CONVERTER);
-
-    fastPath.put(Boolean.class, BOOLEAN_CONVERTER);
-
-    fastPath.put(Instant.class, DATE_TIME_CONVERTER);
-    fastPath.put(Date.class, DATE_TIME_CONVERTER);
-
-    fastPath.put(Duration.class, DURATION_CONVERTER);
+  private final List<ConverterIfc> converters;
+
+  /**
+   * If the standard converters are used for numbers and booleans, primitives skip the boxing. Also
+   * allows functions to read numbers directly from primitive arrays.
+   */
+  @Getter private final boolean standardNumbers;
+
+  private final boolean standardBooleans;
+
+  /**
+   * Remembers the converter found for each class, as index into the converters, so that the cache
+   * does not keep custom converters (and their class loaders) reachable from the converted classes.
+   * Entries are removed together with the class or this converter. Slots are updated without
+   * synchronization, as concurrent updates always store the same index.
+   */
+  private final ClassValue<int[]> dispatch =
+      new ClassValue<>() {
+        @Override
+        protected int[] computeValue(Class<?> type) {
+          return new int[] {-1};
+        }
+      };
+
+  /** Creates a converter using the {@link #STANDARD_CONVERTERS}. */
+  public DefaultEvaluationValueConverter() {
+    this(STANDARD_CONVERTERS);
+  }
 
-    fastPath.put(Solvable.class, SOLVABLE_CONVERTER);
+  private DefaultEvaluationValueConverter(List<ConverterIfc> converters) {
+    this.converters = List.copyOf(converters);
+    this.standardNumbers =
+        isConvertedBy(0d, NUMBER_CONVERTER)
+            && isConvertedBy(0L, NUMBER_CONVERTER)
+            && isConvertedBy(0, NUMBER_CONVERTER);
+    this.standardBooleans = isConvertedBy(false, BOOLEAN_CONVERTER);
+  }
 
-    fastPath.put(List.class, ARRAY_CONVERTER);
-    fastPath.put(Object[].class, ARRAY_CONVERTER);
+  private boolean isConvertedBy(Object sample, ConverterIfc converter) {
+    for (ConverterIfc candidate : converters) {
+      if (candidate.canConvert(sample)) return candidate == converter;
+    }
+    return false;
+  }
 
-    fastPath.put(Map.class, STRUCTURE_CONVERTER);
-    FAST_PATH = Collections.unmodifiableMap(fastPath);
+  /**
+   * Creates a builder, that starts with the {@link #STANDARD_CONVERTERS}.
+   *
+   * @return The new builder.
+   */
+  public static Builder builder() {
+    return new Builder(new ArrayList<>(STANDARD_CONVERTERS));
   }
 
   @Override
@@ -113,16 +146,71 @@ public class DefaultEvaluationValueConverter implements EvaluationValueConverter
     if (object == null) return NullValue.of();
     if (object instanceof EvaluationValue value) return value;
 
-    var fastPath = FAST_PATH.get(object.getClass());
-    if (fastPath != null) return fastPath.convert(object, configuration);
+    int[] slot = dispatch.get(object.getClass());
+    int index = slot[0];
+    if (index < 0) slot[0] = index = findConverter(object);
+    return converters.get(index).convert(object, configuration);
+  }
 
-    for (ConverterIfc converter : converters) {
-      if (converter.canConvert(object)) {
-        return converter.convert(object, configuration);
-      }
-    }
+  @Override
+  public EvaluationValue convertDouble(double value, ExpressionConfiguration configuration) {
+    if (!standardNumbers) return convertObject(value, configuration);
+    return NumberConverter.convertDouble(value, configuration.getMathContext());
+  }
 
+  @Override
+  public EvaluationValue convertLong(long value, ExpressionConfiguration configuration) {
+    if (!standardNumbers) return convertObject(value, configuration);
+    return NumberValue.of(value);
+  }
+
+  @Override
+  public EvaluationValue convertBoolean(boolean value, ExpressionConfiguration configuration) {
+    if (!standardBooleans) return convertObject(value, configuration);
+    return BooleanValue.of(value);
+  }
+
+  private int findConverter(Object object) {
+    for (int i = 0; i < converters.size(); i++) {
+      if (converters.get(i).canConvert(object)) return i;
+    }
     throw new IllegalArgumentException(
         "Unsupported data type '" + object.getClass().getName() + "'");
   }
+
+  /**
+   * Builder for a converter with custom {@link ConverterIfc}s. The first converter that can convert
+   * an object is used.
+   */
+  @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+  public static final class Builder {
+    private final List<ConverterIfc> converters;
+
+    /**
+     * Adds a converter that is checked before all converters added so far, including the standard
+     * converters.
+     *
+     * @param converter The converter to add.
+     * @return The builder.
+     */
+    public Builder addFirst(ConverterIfc converter) {
+      this.converters.add(0, converter);
+      return this;
+    }
+
+    /**
+     * Adds a converter that is checked after all converters added so far.
+     *
+     * @param converter The converter to add.
+     * @return The builder.
+     */
+    public Builder add(ConverterIfc converter) {
+      this.converters.add(converter);
+      return this;
+    }
+
+    public DefaultEvaluationValueConverter build() {
+      return new DefaultEvaluationValueConverter(converters);
+    }
+  }
 }
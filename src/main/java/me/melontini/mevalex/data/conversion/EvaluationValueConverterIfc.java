@@ -33,4 +33,40 @@ public interface EvaluationValueConverterIfc {
    * @throws IllegalArgumentException if the object can't be converted.
    */
   EvaluationValue convertObject(Object object, ExpressionConfiguration configuration);
+
+  /**
+   * Called whenever a primitive double has to be converted to an {@link EvaluationValue}. By
+   * default, the boxed value is converted.
+   *
+   * @param value The value.
+   * @param configuration The configuration to use.
+   * @return The converted {@link EvaluationValue}.
+   */
+  default EvaluationValue convertDouble(double value, ExpressionConfiguration configuration) {
+    return convertObject(value, configuration);
+  }
+
+  /**
+   * Called whenever a primitive long or int has to be converted to an {@link EvaluationValue}. By
+   * default, the boxed value is converted.
+   *
+   * @param value The value.
+   * @param configuration The configuration to use.
+   * @return The converted {@link EvaluationValue}.
+   */
+  default EvaluationValue convertLong(long value, ExpressionConfiguration configuration) {
+    return convertObject(value, configuration);
+  }
+
+  /**
+   * Called whenever a primitive boolean has to be converted to an {@link EvaluationValue}. By
+   * default, the boxed value is converted.
+   *
+   * @param value The value.
+   * @param configuration The configuration to use.
+   * @return The converted {@link EvaluationValue}.
+   */
+  default EvaluationValue convertBoolean(boolean value, ExpressionConfiguration configuration) {
+    return convertObject(value, configuration);
+  }
 }
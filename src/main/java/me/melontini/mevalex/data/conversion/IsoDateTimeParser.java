@@ -0,0 +1,139 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.data.conversion;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A hand-written parser for the most common ISO-8601 shapes, which produces the same results as
+ * {@link DateTimeFormatter#ISO_DATE_TIME} and {@link DateTimeFormatter#ISO_DATE}, without
+ * allocating a parse context. Supported are:
+ *
+ * <ul>
+ *   <li><code>yyyy-MM-dd</code>
+ *   <li><code>yyyy-MM-ddTHH:mm[:ss[.fraction]]</code>
+ *   <li><code>yyyy-MM-ddTHH:mm[:ss[.fraction]]Z</code>
+ *   <li><code>yyyy-MM-ddTHH:mm[:ss[.fraction]]+HH:mm</code>
+ * </ul>
+ *
+ * All other inputs, including invalid dates and times, are rejected, so that the caller can fall
+ * back to the formatters.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class IsoDateTimeParser {
+
+  private static final int[] FRACTION_SCALE = {
+    100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+  };
+
+  /**
+   * Parses an ISO-8601 string of a supported shape.
+   *
+   * @param value The string to parse.
+   * @param zoneId The zone for values without offset.
+   * @param allowDate If a date without a time is accepted.
+   * @return The parsed instant, or <code>null</code> if the value has an unsupported shape or is
+   *     invalid.
+   */
+  static @Nullable Instant parse(String value, ZoneId zoneId, boolean allowDate) {
+    int length = value.length();
+    if (length < 10 || value.charAt(4) != '-' || value.charAt(7) != '-') return null;
+
+    int year = digits(value, 0, 4);
+    int month = digits(value, 5, 2);
+    int day = digits(value, 8, 2);
+    if (year < 0 || month < 1 || month > 12 || day < 1) return null;
+    if (day > Month.of(month).length(Year.isLeap(year))) return null;
+
+    if (length == 10) {
+      if (!allowDate) return null;
+      return LocalDate.of(year, month, day).atStartOfDay(zoneId).toInstant();
+    }
+
+    char separator = value.charAt(10);
+    if ((separator != 'T' && separator != 't') || length < 16 || value.charAt(13) != ':')
+      return null;
+    int hour = digits(value, 11, 2);
+    int minute = digits(value, 14, 2);
+    if (hour < 0 || hour > 23 || minute < 0 || minute > 59) return null;
+
+    int position = 16;
+    int second = 0;
+    int nano = 0;
+    if (position < length && value.charAt(position) == ':') {
+      second = digits(value, position + 1, 2);
+      if (second < 0 || second > 59) return null;
+      position += 3;
+
+      if (position < length && value.charAt(position) == '.') {
+        int start = ++position;
+        while (position < length && position - start < 9 && isDigit(value.charAt(position)))
+          position++;
+        int count = position - start;
+        if (count == 0) return null;
+        nano = digits(value, start, count) * FRACTION_SCALE[count - 1];
+      }
+    }
+
+    LocalDateTime dateTime = LocalDateTime.of(year, month, day, hour, minute, second, nano);
+    if (position == length) return dateTime.atZone(zoneId).toInstant();
+
+    ZoneOffset offset = offset(value, position);
+    if (offset == null) return null;
+    return dateTime.toInstant(offset);
+  }
+
+  private static @Nullable ZoneOffset offset(String value, int position) {
+    int length = value.length();
+    char sign = value.charAt(position);
+    if (sign == 'Z') return position + 1 == length ? ZoneOffset.UTC : null;
+    if ((sign != '+' && sign != '-') || position + 6 != length || value.charAt(position + 3) != ':')
+      return null;
+
+    int hours = digits(value, position + 1, 2);
+    int minutes = digits(value, position + 4, 2);
+    if (hours < 0 || hours > 18 || minutes < 0 || minutes > 59) return null;
+    if (hours == 18 && minutes != 0) return null;
+    int seconds = hours * 3600 + minutes * 60;
+    return ZoneOffset.ofTotalSeconds(sign == '-' ? -seconds : seconds);
+  }
+
+  /** Reads a number of decimal digits, returns -1 if there are not enough digits. */
+  private static int digits(String value, int start, int count) {
+    if (start + count > value.length()) return -1;
+    int result = 0;
+    for (int i = start; i < start + count; i++) {
+      char c = value.charAt(i);
+      if (!isDigit(c)) return -1;
+      result = result * 10 + (c - '0');
+    }
+    return result;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+}
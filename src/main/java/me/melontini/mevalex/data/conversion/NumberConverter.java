@@ -17,25 +17,81 @@ package me.melontini.mevalex.data.conversion;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
 import me.melontini.mevalex.config.ExpressionConfiguration;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.NumberValue;
+import org.jetbrains.annotations.Nullable;
 
 /** Converter to convert to the NUMBER data type. */
 public class NumberConverter implements ConverterIfc {
 
+  private static final double[] POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+  };
+
+  /** The fast conversion of doubles is limited to 15 significant digits. */
+  private static final int MAX_FAST_DIGITS = 15;
+
+  private static final long MAX_FAST_UNSCALED = 999_999_999_999_999L;
+
+  /**
+   * Converts a double value to a number, with the same result as converting its {@link
+   * Double#toString(double)} representation, but without creating the string for most values with
+   * up to 15 significant digits.
+   *
+   * @param value The double value.
+   * @param mathContext The math context to use for the conversion.
+   * @return The converted value.
+   */
+  public static NumberValue convertDouble(double value, MathContext mathContext) {
+    int precision = mathContext.getPrecision();
+    if (precision == 0 || precision >= MAX_FAST_DIGITS) {
+      BigDecimal decimal = toShortestDecimal(value);
+      if (decimal != null) return NumberValue.of(decimal);
+    }
+    return NumberValue.of(new BigDecimal(Double.toString(value), mathContext));
+  }
+
+  /**
+   * Finds the shortest decimal with at least one fraction digit, that is converted back to the same
+   * double. This is what {@link Double#toString(double)} prints for values from 10<sup>-3</sup> to
+   * 10<sup>7</sup>. If there is more than one candidate, the string conversion decides.
+   */
+  private static @Nullable BigDecimal toShortestDecimal(double value) {
+    double magnitude = Math.abs(value);
+    if (!(magnitude >= 1e-3 && magnitude < 1e7)) return null;
+
+    for (int scale = 1; scale < POWERS_OF_TEN.length; scale++) {
+      double power = POWERS_OF_TEN[scale];
+      long rounded = Math.round(magnitude * power);
+      if (rounded > MAX_FAST_UNSCALED) return null;
+
+      long unscaled = -1;
+      for (long candidate = rounded - 1;
+          candidate <= Math.min(rounded + 1, MAX_FAST_UNSCALED);
+          candidate++) {
+        if (candidate / power == magnitude) {
+          if (unscaled >= 0) return null;
+          unscaled = candidate;
+        }
+      }
+      if (unscaled >= 0) return BigDecimal.valueOf(value < 0 ? -unscaled : unscaled, scale);
+    }
+    return null;
+  }
+
   @Override
   public EvaluationValue convert(Object object, ExpressionConfiguration configuration) {
     if (object instanceof BigDecimal decimal) return NumberValue.of(decimal);
     if (object instanceof BigInteger integer)
       return NumberValue.of(new BigDecimal(integer, configuration.getMathContext()));
-    if (object instanceof Double d)
-      return NumberValue.of(new BigDecimal(Double.toString(d), configuration.getMathContext()));
+    if (object instanceof Double d) return convertDouble(d, configuration.getMathContext());
     if (object instanceof Float f) return NumberValue.of(BigDecimal.valueOf(f));
-    if (object instanceof Integer i) return NumberValue.of(BigDecimal.valueOf(i));
-    if (object instanceof Long l) return NumberValue.of(BigDecimal.valueOf(l));
-    if (object instanceof Short s) return NumberValue.of(BigDecimal.valueOf(s));
-    if (object instanceof Byte b) return NumberValue.of(BigDecimal.valueOf(b));
+    if (object instanceof Integer i) return NumberValue.of(i.longValue());
+    if (object instanceof Long l) return NumberValue.of(l.longValue());
+    if (object instanceof Short s) return NumberValue.of(s.longValue());
+    if (object instanceof Byte b) return NumberValue.of(b.longValue());
     throw illegalArgument(object);
   }
 
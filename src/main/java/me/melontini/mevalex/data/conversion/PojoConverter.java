@@ -0,0 +1,51 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.data.conversion;
+
+import me.melontini.mevalex.config.ExpressionConfiguration;
+import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.types.StructureValue;
+import me.melontini.mevalex.data.util.PojoAccessor;
+import me.melontini.mevalex.data.util.PojoMapWrapper;
+
+/**
+ * Converter to convert plain Java objects and records to the STRUCTURE data type, without copying
+ * them. Properties are read through a {@link PojoAccessor} when they are accessed for the first
+ * time.
+ *
+ * <p>The converter accepts all objects with at least one readable property, except for arrays and
+ * classes of the <code>java.*</code> and <code>javax.*</code> packages. It is not part of the
+ * standard converters and should be added after them, using {@link
+ * DefaultEvaluationValueConverter.Builder#add(ConverterIfc)}.
+ */
+public class PojoConverter implements ConverterIfc {
+  @Override
+  public EvaluationValue convert(Object object, ExpressionConfiguration configuration) {
+    if (!canConvert(object)) throw illegalArgument(object);
+    return StructureValue.of(
+        new PojoMapWrapper(object, PojoAccessor.forClass(object.getClass()), configuration));
+  }
+
+  @Override
+  public boolean canConvert(Object object) {
+    Class<?> type = object.getClass();
+    if (type.isArray()) return false;
+
+    String name = type.getName();
+    if (name.startsWith("java.") || name.startsWith("javax.")) return false;
+    return !PojoAccessor.forClass(type).getPropertyNames().isEmpty();
+  }
+}
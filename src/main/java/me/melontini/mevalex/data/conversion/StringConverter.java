@@ -24,8 +24,12 @@ public class StringConverter implements ConverterIfc {
 
   @Override
   public EvaluationValue convert(Object object, ExpressionConfiguration configuration) {
-    if (object instanceof CharSequence sequence) return StringValue.of(sequence.toString());
-    if (object instanceof Character character) return StringValue.of(character.toString());
+    if (object instanceof CharSequence sequence) {
+      if (configuration.isInternStrings())
+        return configuration.getStringValuePool().get(sequence.toString());
+      return StringValue.of(sequence.toString());
+    }
+    if (object instanceof Character character) return StringValue.of(character.charValue());
     throw illegalArgument(object);
   }
 
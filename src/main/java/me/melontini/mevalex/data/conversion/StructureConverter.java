@@ -15,22 +15,20 @@
 */
 package me.melontini.mevalex.data.conversion;
 
-import java.util.HashMap;
 import java.util.Map;
 import me.melontini.mevalex.config.ExpressionConfiguration;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.StructureValue;
+import me.melontini.mevalex.data.util.LazyMapWrapper;
 
-/** Converter to convert to the STRUCTURE data type. */
+/**
+ * Converter to convert to the STRUCTURE data type. The map values are converted lazily, when a
+ * field is accessed for the first time.
+ */
 public class StructureConverter implements ConverterIfc {
   @Override
   public EvaluationValue convert(Object object, ExpressionConfiguration configuration) {
-    Map<String, EvaluationValue> structure = new HashMap<>();
-    for (Map.Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
-      String name = entry.getKey().toString();
-      structure.put(name, EvaluationValue.of(entry.getValue(), configuration));
-    }
-    return StructureValue.of(structure);
+    return StructureValue.of(new LazyMapWrapper((Map<?, ?>) object, configuration));
   }
 
   @Override
@@ -59,10 +59,15 @@ public final class ArrayValue implements EvaluationValue, IndexedAccessor {
   @Override
   public @Nullable EvaluationValue getIndexedData(
       BigDecimal index, Token token, EvaluationContext context) throws EvaluationException {
-    int intIndex = index.intValue();
-    if (intIndex < 0 || intIndex >= value.size()) {
+    return getIndexedData(index.intValue(), token, context);
+  }
+
+  @Override
+  public @Nullable EvaluationValue getIndexedData(
+      int index, Token token, EvaluationContext context) {
+    if (index < 0 || index >= value.size()) {
       return null;
     }
-    return value.get(intIndex);
+    return value.get(index);
   }
 }
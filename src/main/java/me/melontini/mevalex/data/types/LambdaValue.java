@@ -0,0 +1,150 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.data.types;
+
+import lombok.*;
+import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.parser.BooleanSolvable;
+import me.melontini.mevalex.parser.Solvable;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A compiled lambda expression, like <code>x -> x.price > 10</code>, that is passed to function
+ * parameters that are declared as lambda expressions. The lambda parameters are bound to slots of
+ * the evaluation context, so applying a lambda expression to an element neither creates a new
+ * context nor looks up the parameters by name.
+ *
+ * <p>A lambda expression must only be applied while the function it was passed to is evaluated.
+ */
+@ToString(onlyExplicitlyIncluded = true)
+@EqualsAndHashCode(callSuper = false)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LambdaValue implements EvaluationValue {
+
+  @ToString.Include private final String expression;
+  private final int[] slots;
+  private final int localCount;
+  private final Solvable body;
+  private final @Nullable BooleanSolvable predicate;
+
+  /**
+   * Creates a lambda value.
+   *
+   * @param expression The string representation, for error messages.
+   * @param slots The slots of the lambda parameters.
+   * @param localCount The number of slots that are used by the body, including nested lambda
+   *     expressions.
+   * @param body The compiled body.
+   * @param predicate The body compiled to a predicate, or <code>null</code> if the body is not a
+   *     comparison or logical operation.
+   * @return The lambda value.
+   */
+  public static LambdaValue of(
+      String expression,
+      int @NonNull [] slots,
+      int localCount,
+      @NonNull Solvable body,
+      @Nullable BooleanSolvable predicate) {
+    return new LambdaValue(expression, slots, localCount, body, predicate);
+  }
+
+  @Override
+  public Object getValue() {
+    return expression;
+  }
+
+  @Override
+  public String getName() {
+    return "lambda";
+  }
+
+  /**
+   * Returns the number of parameters.
+   *
+   * @return The parameter count.
+   */
+  public int getParameterCount() {
+    return slots.length;
+  }
+
+  /**
+   * Prepares the lambda expression to be applied repeatedly in the given context. The slots of an
+   * enclosing lambda expression are reused if there are enough, else a larger copy is created once.
+   *
+   * @param context The context of the function evaluation.
+   * @return The invocation to apply the lambda expression with.
+   */
+  public Invocation bind(EvaluationContext context) {
+    EvaluationValue[] locals = context.locals();
+    if (locals == null || locals.length < localCount) {
+      EvaluationValue[] grown = new EvaluationValue[localCount];
+      if (locals != null) System.arraycopy(locals, 0, grown, 0, locals.length);
+      locals = grown;
+      context = context.withLocals(locals);
+    }
+    return new Invocation(context, locals);
+  }
+
+  /** A lambda expression bound to an evaluation context. */
+  @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+  public final class Invocation {
+    private final EvaluationContext context;
+    private final EvaluationValue[] locals;
+
+    /**
+     * Evaluates the body of a lambda expression with one parameter.
+     *
+     * @param argument The parameter value.
+     * @return The result.
+     * @throws EvaluationException If the evaluation of the body failed.
+     */
+    public EvaluationValue apply(EvaluationValue argument) throws EvaluationException {
+      locals[slots[0]] = argument;
+      return body.solve(context);
+    }
+
+    /**
+     * Evaluates the body of a lambda expression with two parameters.
+     *
+     * @param first The first parameter value.
+     * @param second The second parameter value.
+     * @return The result.
+     * @throws EvaluationException If the evaluation of the body failed.
+     */
+    public EvaluationValue apply(EvaluationValue first, EvaluationValue second)
+        throws EvaluationException {
+      locals[slots[0]] = first;
+      locals[slots[1]] = second;
+      return body.solve(context);
+    }
+
+    /**
+     * Evaluates the body of a lambda expression with one parameter as a predicate. Comparisons and
+     * logical operations are evaluated without creating intermediate boolean values.
+     *
+     * @param argument The parameter value.
+     * @return <code>true</code> if the body evaluates to boolean <code>true</code>.
+     * @throws EvaluationException If the evaluation of the body failed.
+     */
+    public boolean test(EvaluationValue argument) throws EvaluationException {
+      locals[slots[0]] = argument;
+      if (predicate != null) return predicate.test(context);
+      return Boolean.TRUE.equals(body.solve(context).getBooleanValue());
+    }
+  }
+}
@@ -28,12 +28,47 @@ import me.melontini.mevalex.data.EvaluationValue;
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class NumberValue implements EvaluationValue {
 
+  private static final int CACHE_LOW = -128;
+  private static final int CACHE_HIGH = 1024;
+
+  /** Canonical instances of the integers from {@value CACHE_LOW} to {@value CACHE_HIGH}. */
+  private static final NumberValue[] CACHE = new NumberValue[CACHE_HIGH - CACHE_LOW + 1];
+
+  static {
+    for (int i = 0; i < CACHE.length; i++) {
+      CACHE[i] = new NumberValue(BigDecimal.valueOf(i + CACHE_LOW));
+    }
+  }
+
   private final BigDecimal value;
 
+  /**
+   * Creates a {@link NumberValue} from a {@link BigDecimal}. Small integers with a scale of zero
+   * return a shared instance.
+   *
+   * @param decimal The {@link BigDecimal} value.
+   * @return The number value.
+   */
   public static NumberValue of(@NonNull BigDecimal decimal) {
+    if (decimal.scale() == 0 && decimal.precision() <= 4) {
+      int integer = decimal.intValue();
+      if (integer >= CACHE_LOW && integer <= CACHE_HIGH) return CACHE[integer - CACHE_LOW];
+    }
     return new NumberValue(decimal);
   }
 
+  /**
+   * Creates a {@link NumberValue} from a <code>long</code>. Small integers return a shared
+   * instance.
+   *
+   * @param value The value.
+   * @return The number value.
+   */
+  public static NumberValue of(long value) {
+    if (value >= CACHE_LOW && value <= CACHE_HIGH) return CACHE[(int) value - CACHE_LOW];
+    return new NumberValue(BigDecimal.valueOf(value));
+  }
+
   /**
    * Creates a {@link NumberValue} value from a {@link String}.
    *
@@ -91,6 +126,7 @@ public final class NumberValue implements EvaluationValue {
 
   @Override
   public int compareTo(EvaluationValue toCompare) {
+    if (toCompare == this) return 0;
     return value.compareTo(toCompare.getNumberValue());
   }
 }
@@ -32,12 +32,30 @@ import org.jetbrains.annotations.Nullable;
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class StringValue implements EvaluationValue, IndexedAccessor {
 
+  /** Cached single character strings of the Latin-1 range. */
+  private static final StringValue[] CHARACTERS = new StringValue[256];
+
+  static {
+    for (char c = 0; c < CHARACTERS.length; c++) CHARACTERS[c] = new StringValue(String.valueOf(c));
+  }
+
   private final String value;
 
   public static StringValue of(@NonNull String string) {
     return new StringValue(string);
   }
 
+  /**
+   * Returns a string value with a single character. Values for Latin-1 characters are cached.
+   *
+   * @param character The character.
+   * @return The string value.
+   */
+  public static StringValue of(char character) {
+    if (character < CHARACTERS.length) return CHARACTERS[character];
+    return new StringValue(String.valueOf(character));
+  }
+
   @Override
   public Object getValue() {
     return value;
@@ -101,10 +119,15 @@ public final class StringValue implements EvaluationValue, IndexedAccessor {
   @Override
   public @Nullable EvaluationValue getIndexedData(
       BigDecimal index, Token token, EvaluationContext context) throws EvaluationException {
-    int intIndex = index.intValue();
-    if (intIndex < 0 || intIndex >= value.length()) {
+    return getIndexedData(index.intValue(), token, context);
+  }
+
+  @Override
+  public @Nullable EvaluationValue getIndexedData(
+      int index, Token token, EvaluationContext context) {
+    if (index < 0 || index >= value.length()) {
       return null;
     }
-    return StringValue.of(String.valueOf(value.charAt(intIndex)));
+    return StringValue.of(value.charAt(index));
   }
 }
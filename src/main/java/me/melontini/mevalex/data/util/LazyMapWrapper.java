@@ -0,0 +1,131 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.data.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+import me.melontini.mevalex.config.ExpressionConfiguration;
+import me.melontini.mevalex.data.EvaluationValue;
+
+/**
+ * A structure view on a map, that converts a value on its first access and remembers it. Keys are
+ * the string representation of the map keys. Changes to the map are visible until a value has been
+ * converted.
+ */
+public class LazyMapWrapper extends AbstractMap<String, EvaluationValue> {
+
+  private static final Object NOT_FOUND = new Object();
+
+  private final Map<?, ?> delegate;
+  private final ExpressionConfiguration configuration;
+  private final Map<String, EvaluationValue> converted = new ConcurrentHashMap<>();
+  private final boolean lookupByName;
+  private volatile Map<String, Object> keys;
+
+  public LazyMapWrapper(Map<?, ?> delegate, ExpressionConfiguration configuration) {
+    this.delegate = delegate;
+    this.configuration = configuration;
+    // keys of a sorted map compare to each other, so the first key tells if a name can be compared
+    this.lookupByName =
+        !(delegate instanceof SortedMap<?, ?> sorted)
+            || (!sorted.isEmpty() && sorted.firstKey() instanceof String);
+  }
+
+  @Override
+  public EvaluationValue get(Object key) {
+    if (!(key instanceof String name)) return null;
+
+    EvaluationValue value = converted.get(name);
+    if (value != null) return value;
+
+    Object original = findKey(name);
+    if (original == NOT_FOUND) return null;
+    return convert(name, original);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return key instanceof String name
+        && (converted.containsKey(name) || findKey(name) != NOT_FOUND);
+  }
+
+  @Override
+  public int size() {
+    return delegate.size();
+  }
+
+  @Override
+  public Set<Entry<String, EvaluationValue>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<String, EvaluationValue>> iterator() {
+        Iterator<?> iterator = delegate.keySet().iterator();
+        return new Iterator<>() {
+          @Override
+          public boolean hasNext() {
+            return iterator.hasNext();
+          }
+
+          @Override
+          public Entry<String, EvaluationValue> next() {
+            Object original = iterator.next();
+            String name = String.valueOf(original);
+            EvaluationValue value = converted.get(name);
+            if (value == null) value = convert(name, original);
+            return new SimpleImmutableEntry<>(name, value);
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return delegate.size();
+      }
+    };
+  }
+
+  private EvaluationValue convert(String name, Object original) {
+    EvaluationValue value =
+        configuration
+            .getEvaluationValueConverter()
+            .convertObject(delegate.get(original), configuration);
+    EvaluationValue previous = converted.putIfAbsent(name, value);
+    return previous == null ? value : previous;
+  }
+
+  /**
+   * Finds the map key for a name. Maps with string keys are asked directly, other keys are matched
+   * by their string representation, which is indexed on the first miss. Sorted maps without string
+   * keys can not compare a name, they only use the index.
+   */
+  private Object findKey(String name) {
+    if (lookupByName && delegate.containsKey(name)) return name;
+
+    Map<String, Object> index = keys;
+    if (index == null) {
+      index = new HashMap<>();
+      for (Object key : delegate.keySet()) index.putIfAbsent(String.valueOf(key), key);
+      keys = index;
+    }
+    return index.getOrDefault(name, NOT_FOUND);
+  }
+}
@@ -0,0 +1,53 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.data.util;
+
+import java.util.AbstractList;
+import java.util.function.IntToLongFunction;
+import lombok.RequiredArgsConstructor;
+import me.melontini.mevalex.config.ExpressionConfiguration;
+import me.melontini.mevalex.data.EvaluationValue;
+
+/** Lazily converts the elements of a primitive integer array, without boxing them. */
+@RequiredArgsConstructor
+public class LongArrayWrapper extends AbstractList<EvaluationValue> {
+
+  private final IntToLongFunction function;
+  private final int size;
+  private final ExpressionConfiguration configuration;
+
+  @Override
+  public EvaluationValue get(int index) {
+    return configuration
+        .getEvaluationValueConverter()
+        .convertLong(function.applyAsLong(index), configuration);
+  }
+
+  /**
+   * Returns an element without converting it.
+   *
+   * @param index The index of the element.
+   * @return The primitive value.
+   */
+  public long getLong(int index) {
+    return function.applyAsLong(index);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+}
@@ -0,0 +1,54 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.data.util;
+
+import java.util.AbstractList;
+import java.util.List;
+import lombok.Getter;
+import me.melontini.mevalex.data.EvaluationValue;
+
+/**
+ * Remembers the elements of a lazily converted list, so that each element is converted at most once
+ * (per thread, as the cache is not synchronized). Changes to already converted elements of the
+ * underlying data are not visible anymore, and elements added after the wrapper was created are
+ * converted on every access.
+ */
+public class MemoizingListWrapper extends AbstractList<EvaluationValue> {
+
+  /** The wrapped list. */
+  @Getter private final List<EvaluationValue> delegate;
+
+  private final EvaluationValue[] cache;
+
+  public MemoizingListWrapper(List<EvaluationValue> delegate) {
+    this.delegate = delegate;
+    this.cache = new EvaluationValue[delegate.size()];
+  }
+
+  @Override
+  public EvaluationValue get(int index) {
+    if (index >= cache.length) return delegate.get(index);
+
+    EvaluationValue value = cache[index];
+    if (value == null) cache[index] = value = delegate.get(index);
+    return value;
+  }
+
+  @Override
+  public int size() {
+    return delegate.size();
+  }
+}
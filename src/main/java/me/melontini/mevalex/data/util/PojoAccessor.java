@@ -0,0 +1,216 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.data.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reads the properties of plain Java objects. The properties of a class are resolved once, into
+ * method handles for:
+ *
+ * <ul>
+ *   <li>public getters, like <code>getAmount()</code> or <code>isActive()</code> for booleans,
+ *   <li>public accessors with the same name as a field, like <code>amount()</code> of records,
+ *   <li>public fields.
+ * </ul>
+ *
+ * If several of them exist for the same name, the first one in this list is used. The accessors are
+ * cached per class and are released together with the class.
+ */
+public final class PojoAccessor {
+
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  private static final ClassValue<PojoAccessor> ACCESSORS =
+      new ClassValue<>() {
+        @Override
+        protected PojoAccessor computeValue(Class<?> type) {
+          return new PojoAccessor(type);
+        }
+      };
+
+  private final Map<String, MethodHandle> properties;
+
+  private PojoAccessor(Class<?> type) {
+    Map<String, MethodHandle> found = new TreeMap<>();
+    for (Field field : type.getFields()) {
+      if (isInstanceMember(field)) {
+        MethodHandle handle = unreflect(field);
+        if (handle != null) found.put(field.getName(), handle);
+      }
+    }
+
+    Set<String> fieldNames = instanceFieldNames(type);
+    Map<String, MethodHandle> getters = new TreeMap<>();
+    for (Method method : type.getMethods()) {
+      if (!isInstanceMember(method)
+          || method.getParameterCount() != 0
+          || method.getReturnType() == void.class
+          || method.getDeclaringClass().getName().startsWith("java.")) continue;
+
+      String property = propertyName(method);
+      if (property != null) {
+        MethodHandle handle = unreflect(method);
+        if (handle != null) getters.put(property, handle);
+      } else if (fieldNames.contains(method.getName())) {
+        MethodHandle handle = unreflect(method);
+        if (handle != null) found.put(method.getName(), handle);
+      }
+    }
+    found.putAll(getters);
+
+    this.properties = Collections.unmodifiableMap(new LinkedHashMap<>(found));
+  }
+
+  /**
+   * Returns the accessor for a class.
+   *
+   * @param type The class to access.
+   * @return The cached accessor.
+   */
+  public static PojoAccessor forClass(Class<?> type) {
+    return ACCESSORS.get(type);
+  }
+
+  /**
+   * @return The names of all readable properties, in alphabetical order.
+   */
+  public Set<String> getPropertyNames() {
+    return properties.keySet();
+  }
+
+  /**
+   * @param name The property name.
+   * @return <code>true</code>, if the property can be read.
+   */
+  public boolean hasProperty(String name) {
+    return properties.containsKey(name);
+  }
+
+  /**
+   * Reads a property value.
+   *
+   * @param target The object to read from, an instance of the class of this accessor.
+   * @param name The property name.
+   * @return The property value, may be <code>null</code>.
+   * @throws IllegalArgumentException If there is no such property.
+   */
+  public @Nullable Object read(Object target, String name) {
+    MethodHandle getter = properties.get(name);
+    if (getter == null)
+      throw new IllegalArgumentException(
+          "Unknown property '" + name + "' of '" + target.getClass().getName() + "'");
+    return read(target, name, getter);
+  }
+
+  /**
+   * Returns the getter of a property, which can be cached by callers for objects of the same class.
+   *
+   * @param name The property name.
+   * @return The getter, or <code>null</code> if there is no such property.
+   */
+  public @Nullable MethodHandle getGetter(String name) {
+    return properties.get(name);
+  }
+
+  /**
+   * Reads a property value with a getter of this accessor.
+   *
+   * @param target The object to read from, an instance of the class of this accessor.
+   * @param name The property name.
+   * @param getter The getter of the property.
+   * @return The property value, may be <code>null</code>.
+   */
+  public static @Nullable Object read(Object target, String name, MethodHandle getter) {
+    try {
+      return (Object) getter.invokeExact(target);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException("Could not read property '" + name + "'", e);
+    }
+  }
+
+  private static boolean isInstanceMember(Member member) {
+    return !Modifier.isStatic(member.getModifiers());
+  }
+
+  private static Set<String> instanceFieldNames(Class<?> type) {
+    Set<String> names = new HashSet<>();
+    for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+      for (Field field : current.getDeclaredFields()) {
+        if (isInstanceMember(field)) names.add(field.getName());
+      }
+    }
+    return names;
+  }
+
+  private static @Nullable String propertyName(Method method) {
+    String name = method.getName();
+    if (name.startsWith("get") && name.length() > 3) return decapitalize(name.substring(3));
+    if (name.startsWith("is") && name.length() > 2 && method.getReturnType() == boolean.class)
+      return decapitalize(name.substring(2));
+    return null;
+  }
+
+  private static String decapitalize(String name) {
+    if (name.length() > 1
+        && Character.isUpperCase(name.charAt(0))
+        && Character.isUpperCase(name.charAt(1))) return name;
+    return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+  }
+
+  private static @Nullable MethodHandle unreflect(Method method) {
+    try {
+      return MethodHandles.publicLookup().unreflect(method).asType(GETTER_TYPE);
+    } catch (IllegalAccessException e) {
+      // public method of a non-public class
+    }
+    try {
+      if (!method.trySetAccessible()) return null;
+      return MethodHandles.lookup().unreflect(method).asType(GETTER_TYPE);
+    } catch (IllegalAccessException | SecurityException e) {
+      return null;
+    }
+  }
+
+  private static @Nullable MethodHandle unreflect(Field field) {
+    try {
+      return MethodHandles.publicLookup().unreflectGetter(field).asType(GETTER_TYPE);
+    } catch (IllegalAccessException e) {
+      // public field of a non-public class
+    }
+    try {
+      if (!field.trySetAccessible()) return null;
+      return MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+    } catch (IllegalAccessException | SecurityException e) {
+      return null;
+    }
+  }
+}
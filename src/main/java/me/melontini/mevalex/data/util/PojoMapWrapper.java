@@ -0,0 +1,112 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.data.util;
+
+import java.lang.invoke.MethodHandle;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import me.melontini.mevalex.config.ExpressionConfiguration;
+import me.melontini.mevalex.data.EvaluationValue;
+
+/**
+ * A structure view on a plain Java object, that reads and converts a property on its first access
+ * and remembers it.
+ */
+@RequiredArgsConstructor
+public class PojoMapWrapper extends AbstractMap<String, EvaluationValue> {
+
+  @Getter private final Object target;
+  @Getter private final PojoAccessor accessor;
+  private final ExpressionConfiguration configuration;
+  private final Map<String, EvaluationValue> converted = new ConcurrentHashMap<>();
+
+  @Override
+  public EvaluationValue get(Object key) {
+    if (!(key instanceof String name)) return null;
+
+    EvaluationValue value = converted.get(name);
+    if (value != null) return value;
+    if (!accessor.hasProperty(name)) return null;
+    return convert(name);
+  }
+
+  /**
+   * Returns a property value, using a getter that was resolved before for the class of the target.
+   *
+   * @param name The property name.
+   * @param getter The getter of the property, from the {@link #getAccessor()} of this class.
+   * @return The converted property value.
+   */
+  public EvaluationValue get(String name, MethodHandle getter) {
+    EvaluationValue value = converted.get(name);
+    if (value != null) return value;
+    return remember(name, PojoAccessor.read(target, name, getter));
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return key instanceof String name && accessor.hasProperty(name);
+  }
+
+  @Override
+  public int size() {
+    return accessor.getPropertyNames().size();
+  }
+
+  @Override
+  public Set<Entry<String, EvaluationValue>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<String, EvaluationValue>> iterator() {
+        Iterator<String> iterator = accessor.getPropertyNames().iterator();
+        return new Iterator<>() {
+          @Override
+          public boolean hasNext() {
+            return iterator.hasNext();
+          }
+
+          @Override
+          public Entry<String, EvaluationValue> next() {
+            String name = iterator.next();
+            return new SimpleImmutableEntry<>(name, get(name));
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return PojoMapWrapper.this.size();
+      }
+    };
+  }
+
+  private EvaluationValue convert(String name) {
+    return remember(name, accessor.read(target, name));
+  }
+
+  private EvaluationValue remember(String name, Object property) {
+    EvaluationValue value =
+        configuration.getEvaluationValueConverter().convertObject(property, configuration);
+    EvaluationValue previous = converted.putIfAbsent(name, value);
+    return previous == null ? value : previous;
+  }
+}
@@ -0,0 +1,78 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.data.util;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import me.melontini.mevalex.data.types.StringValue;
+
+/**
+ * A pool of deduplicated {@link StringValue}s. Equal strings share one value, as long as it is
+ * referenced from somewhere else, e.g. from a parsed expression. Values that are no longer used are
+ * removed by the garbage collector.
+ *
+ * <p>The pool is split into stripes, each guarded by its own lock, so that concurrent lookups of
+ * different strings rarely block each other.
+ */
+public final class StringValuePool {
+
+  private static final int STRIPES = 16;
+
+  @SuppressWarnings("unchecked")
+  private final Map<String, WeakReference<StringValue>>[] stripes = new Map[STRIPES];
+
+  public StringValuePool() {
+    for (int i = 0; i < STRIPES; i++) stripes[i] = new WeakHashMap<>();
+  }
+
+  /**
+   * Returns the pooled value for a string, adding a new value if there is none.
+   *
+   * @param string The string.
+   * @return A string value, that is shared with all other callers for an equal string.
+   */
+  public StringValue get(String string) {
+    int hash = string.hashCode();
+    Map<String, WeakReference<StringValue>> stripe =
+        stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    synchronized (stripe) {
+      WeakReference<StringValue> reference = stripe.get(string);
+      StringValue value = reference == null ? null : reference.get();
+      if (value == null) {
+        value = StringValue.of(string);
+        // put() keeps the key of a cleared entry, so the new value's string would not be the key
+        if (reference != null) stripe.remove(string);
+        // the value holds its key, so the entry is not removed while the value is still in use
+        stripe.put(value.getStringValue(), new WeakReference<>(value));
+      }
+      return value;
+    }
+  }
+
+  /**
+   * @return The number of pooled values, including values that are about to be removed.
+   */
+  public int size() {
+    int size = 0;
+    for (Map<String, WeakReference<StringValue>> stripe : stripes) {
+      synchronized (stripe) {
+        size += stripe.size();
+      }
+    }
+    return size;
+  }
+}
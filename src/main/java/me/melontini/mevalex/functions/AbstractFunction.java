@@ -21,6 +21,7 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.data.EvaluationType;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.parser.Token;
 
@@ -35,6 +36,14 @@ public abstract class AbstractFunction implements FunctionIfc {
 
   private final boolean hasVarArgs;
 
+  private final EvaluationType resultType;
+
+  private final boolean pure;
+
+  private final boolean deterministic;
+
+  private final int cost;
+
   /**
    * Creates a new function and uses the {@link FunctionParameter} annotations to create the
    * parameter definitions.
@@ -60,10 +69,25 @@ public abstract class AbstractFunction implements FunctionIfc {
               .isLazy(parameter.isLazy())
               .nonZero(parameter.nonZero())
               .nonNegative(parameter.nonNegative())
+              .lambdaParameters(parameter.lambdaParameters())
+              .type(parameter.type())
               .build());
     }
 
     hasVarArgs = varArgParameterFound;
+
+    FunctionMetadata metadata = getClass().getAnnotation(FunctionMetadata.class);
+    if (metadata != null) {
+      resultType = metadata.resultType();
+      pure = metadata.pure();
+      deterministic = metadata.deterministic();
+      cost = metadata.cost();
+    } else {
+      resultType = EvaluationType.ANY;
+      pure = true;
+      deterministic = true;
+      cost = 1;
+    }
   }
 
   @Override
@@ -91,6 +115,26 @@ public abstract class AbstractFunction implements FunctionIfc {
     return hasVarArgs;
   }
 
+  @Override
+  public EvaluationType getResultType() {
+    return resultType;
+  }
+
+  @Override
+  public boolean isPure() {
+    return pure;
+  }
+
+  @Override
+  public boolean isDeterministic() {
+    return deterministic;
+  }
+
+  @Override
+  public int getCost() {
+    return cost;
+  }
+
   private FunctionParameterDefinition getParameterDefinitionForParameter(int index) {
 
     if (hasVarArgs && index >= functionParameterDefinitions.size()) {
@@ -0,0 +1,614 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.functions;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import me.melontini.mevalex.data.conversion.NumberConverter;
+
+/**
+ * Transcendental functions on {@link BigDecimal}, that honour the precision of a {@link
+ * MathContext}. Results are correct to the requested precision, apart from a possible error in the
+ * last digit.
+ *
+ * <p>For precisions up to {@link #DOUBLE_PRECISION} digits, and for unlimited precision, a double
+ * already has enough digits, so the functions fall back to {@link Math} and convert the result.
+ *
+ * <p>Arguments are reduced before a series is evaluated: trigonometric arguments to the range of
+ * ±π/4 (angles in degrees are reduced exactly), exponents by multiples of ln(2). The constants π,
+ * ln(2) and ln(10) are stored with {@value #TABLE_PRECISION} digits. Higher precisions are computed
+ * once and cached. Angles in radians of 10<sup>{@value #MAX_ANGLE_MAGNITUDE}</sup> and more are
+ * rejected with an {@link ArithmeticException}, as reducing them needs π with as many digits.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BigDecimalMath {
+
+  /** The highest precision, that is computed with double arithmetic. */
+  public static final int DOUBLE_PRECISION = 16;
+
+  /** The precision of the stored constants. */
+  public static final int TABLE_PRECISION = 115;
+
+  /**
+   * The highest magnitude of an angle in radians, about the range of a double. Reducing an angle
+   * needs π with as many digits as the angle has integer digits, so larger angles are rejected
+   * instead of taking very long.
+   */
+  public static final int MAX_ANGLE_MAGNITUDE = 308;
+
+  private static final int GUARD_DIGITS = 10;
+  private static final int EXP_HALVINGS = 8;
+  private static final int MAX_POWER = 999_999_999;
+
+  private static final int SEQUENTIAL_PRODUCT_LENGTH = 16;
+
+  /** The factorials from 0! to 20!, the largest that fits into a long. */
+  private static final long[] FACTORIALS = new long[21];
+
+  static {
+    FACTORIALS[0] = 1;
+    for (int i = 1; i < FACTORIALS.length; i++) FACTORIALS[i] = FACTORIALS[i - 1] * i;
+  }
+
+  private static final BigDecimal PI_TABLE =
+      new BigDecimal(
+          "3.14159265358979323846264338327950288419716939937510582097494459230781640628620899862803482534211706798214808651328");
+  private static final BigDecimal LN2_TABLE =
+      new BigDecimal(
+          "0.693147180559945309417232121458176568075500134360255254120680009493393621969694715605863326996418687542001481021");
+  private static final BigDecimal LN10_TABLE =
+      new BigDecimal(
+          "2.30258509299404568401799145468436420760110148862877297603332790096757260967735248023599720508959829834196778404");
+
+  private static final BigDecimal TWO = BigDecimal.valueOf(2);
+  private static final BigDecimal HALF = new BigDecimal("0.5");
+  private static final BigDecimal QUARTER_PI_BOUND = new BigDecimal("0.78");
+  private static final BigDecimal THIRTY = BigDecimal.valueOf(30);
+  private static final BigDecimal FORTY_FIVE = BigDecimal.valueOf(45);
+  private static final BigDecimal NINETY = BigDecimal.valueOf(90);
+  private static final BigDecimal HUNDRED_EIGHTY = BigDecimal.valueOf(180);
+  private static final BigDecimal THREE_HUNDRED_SIXTY = BigDecimal.valueOf(360);
+  private static final BigDecimal EXP_SCALE = BigDecimal.ONE.divide(TWO.pow(EXP_HALVINGS));
+
+  private static volatile BigDecimal piCache = PI_TABLE;
+  private static volatile BigDecimal ln2Cache = LN2_TABLE;
+  private static volatile BigDecimal ln10Cache = LN10_TABLE;
+
+  private enum Trigonometric {
+    SIN,
+    COS,
+    TAN,
+    COT,
+    SEC,
+    CSC
+  }
+
+  /**
+   * @param mathContext The math context.
+   * @return <code>true</code>, if functions with this context are computed with double arithmetic.
+   */
+  public static boolean isDoublePrecision(MathContext mathContext) {
+    int precision = mathContext.getPrecision();
+    return precision == 0 || precision <= DOUBLE_PRECISION;
+  }
+
+  /**
+   * @param mathContext The math context.
+   * @return π, rounded to the precision of the math context.
+   */
+  public static BigDecimal pi(MathContext mathContext) {
+    BigDecimal pi = piCache;
+    if (pi.precision() < mathContext.getPrecision()) {
+      MathContext working = working(mathContext, 0);
+      pi =
+          inverseSeries(5, true, working)
+              .multiply(BigDecimal.valueOf(16))
+              .subtract(inverseSeries(239, true, working).multiply(BigDecimal.valueOf(4)), working);
+      piCache = pi;
+    }
+    return pi.round(mathContext);
+  }
+
+  /**
+   * @param mathContext The math context.
+   * @return ln(2), rounded to the precision of the math context.
+   */
+  public static BigDecimal ln2(MathContext mathContext) {
+    BigDecimal ln2 = ln2Cache;
+    if (ln2.precision() < mathContext.getPrecision()) {
+      /* Formula: ln(2) = 2 * atanh(1/3) */
+      ln2 = inverseSeries(3, false, working(mathContext, 0)).multiply(TWO);
+      ln2Cache = ln2;
+    }
+    return ln2.round(mathContext);
+  }
+
+  /**
+   * @param mathContext The math context.
+   * @return ln(10), rounded to the precision of the math context.
+   */
+  public static BigDecimal ln10(MathContext mathContext) {
+    BigDecimal ln10 = ln10Cache;
+    if (ln10.precision() < mathContext.getPrecision()) {
+      /* Formula: ln(10) = 3 * ln(2) + ln(5/4) = 3 * ln(2) + 2 * atanh(1/9) */
+      MathContext working = working(mathContext, 0);
+      ln10 =
+          ln2(working)
+              .multiply(BigDecimal.valueOf(3))
+              .add(inverseSeries(9, false, working).multiply(TWO), working);
+      ln10Cache = ln10;
+    }
+    return ln10.round(mathContext);
+  }
+
+  /**
+   * Returns the sine of an angle in radians.
+   *
+   * @throws ArithmeticException If the angle is 10<sup>{@value #MAX_ANGLE_MAGNITUDE}</sup> or more.
+   */
+  public static BigDecimal sin(BigDecimal x, MathContext mathContext) {
+    if (isDoublePrecision(mathContext)) return fromDouble(Math.sin(x.doubleValue()), mathContext);
+    return radians(x, Trigonometric.SIN, mathContext);
+  }
+
+  /**
+   * Returns the cosine of an angle in radians.
+   *
+   * @throws ArithmeticException If the angle is 10<sup>{@value #MAX_ANGLE_MAGNITUDE}</sup> or more.
+   */
+  public static BigDecimal cos(BigDecimal x, MathContext mathContext) {
+    if (isDoublePrecision(mathContext)) return fromDouble(Math.cos(x.doubleValue()), mathContext);
+    return radians(x, Trigonometric.COS, mathContext);
+  }
+
+  /**
+   * Returns the tangent of an angle in radians.
+   *
+   * @throws ArithmeticException If the angle is 10<sup>{@value #MAX_ANGLE_MAGNITUDE}</sup> or more.
+   */
+  public static BigDecimal tan(BigDecimal x, MathContext mathContext) {
+    if (isDoublePrecision(mathContext)) return fromDouble(Math.tan(x.doubleValue()), mathContext);
+    return radians(x, Trigonometric.TAN, mathContext);
+  }
+
+  /**
+   * Returns the co-tangent of an angle in radians.
+   *
+   * @throws ArithmeticException If the angle is zero, or 10<sup>{@value #MAX_ANGLE_MAGNITUDE}</sup>
+   *     or more.
+   */
+  public static BigDecimal cot(BigDecimal x, MathContext mathContext) {
+    if (isDoublePrecision(mathContext))
+      return fromDouble(1 / Math.tan(x.doubleValue()), mathContext);
+    return radians(x, Trigonometric.COT, mathContext);
+  }
+
+  /**
+   * Returns the secant of an angle in radians.
+   *
+   * @throws ArithmeticException If the angle is 10<sup>{@value #MAX_ANGLE_MAGNITUDE}</sup> or more.
+   */
+  public static BigDecimal sec(BigDecimal x, MathContext mathContext) {
+    if (isDoublePrecision(mathContext))
+      return fromDouble(1 / Math.cos(x.doubleValue()), mathContext);
+    return radians(x, Trigonometric.SEC, mathContext);
+  }
+
+  /**
+   * Returns the co-secant of an angle in radians.
+   *
+   * @throws ArithmeticException If the angle is zero, or 10<sup>{@value #MAX_ANGLE_MAGNITUDE}</sup>
+   *     or more.
+   */
+  public static BigDecimal csc(BigDecimal x, MathContext mathContext) {
+    if (isDoublePrecision(mathContext))
+      return fromDouble(1 / Math.sin(x.doubleValue()), mathContext);
+    return radians(x, Trigonometric.CSC, mathContext);
+  }
+
+  /** Returns the sine of an angle in degrees. Multiples of 30° give exact results. */
+  public static BigDecimal sinDegrees(BigDecimal x, MathContext mathContext) {
+    if (isDoublePrecision(mathContext))
+      return fromDouble(Math.sin(Math.toRadians(x.doubleValue())), mathContext);
+    return degrees(x, Trigonometric.SIN, mathContext);
+  }
+
+  /** Returns the cosine of an angle in degrees. Multiples of 30° give exact results. */
+  public static BigDecimal cosDegrees(BigDecimal x, MathContext mathContext) {
+    if (isDoublePrecision(mathContext))
+      return fromDouble(Math.cos(Math.toRadians(x.doubleValue())), mathContext);
+    return degrees(x, Trigonometric.COS, mathContext);
+  }
+
+  /**
+   * Returns the tangent of an angle in degrees. Multiples of 45° give exact results.
+   *
+   * @throws ArithmeticException If the angle is an odd multiple of 90°.
+   */
+  public static BigDecimal tanDegrees(BigDecimal x, MathContext mathContext) {
+    if (isDoublePrecision(mathContext))
+      return fromDouble(Math.tan(Math.toRadians(x.doubleValue())), mathContext);
+    return degrees(x, Trigonometric.TAN, mathContext);
+  }
+
+  /**
+   * Returns the co-tangent of an angle in degrees. Multiples of 45° give exact results.
+   *
+   * @throws ArithmeticException If the angle is a multiple of 180°.
+   */
+  public static BigDecimal cotDegrees(BigDecimal x, MathContext mathContext) {
+    if (isDoublePrecision(mathContext))
+      return fromDouble(1 / Math.tan(Math.toRadians(x.doubleValue())), mathContext);
+    return degrees(x, Trigonometric.COT, mathContext);
+  }
+
+  /**
+   * Returns the secant of an angle in degrees.
+   *
+   * @throws ArithmeticException If the angle is an odd multiple of 90°.
+   */
+  public static BigDecimal secDegrees(BigDecimal x, MathContext mathContext) {
+    if (isDoublePrecision(mathContext))
+      return fromDouble(1 / Math.cos(Math.toRadians(x.doubleValue())), mathContext);
+    return degrees(x, Trigonometric.SEC, mathContext);
+  }
+
+  /**
+   * Returns the co-secant of an angle in degrees.
+   *
+   * @throws ArithmeticException If the angle is a multiple of 180°.
+   */
+  public static BigDecimal cscDegrees(BigDecimal x, MathContext mathContext) {
+    if (isDoublePrecision(mathContext))
+      return fromDouble(1 / Math.sin(Math.toRadians(x.doubleValue())), mathContext);
+    return degrees(x, Trigonometric.CSC, mathContext);
+  }
+
+  /**
+   * Returns e raised to the power of x.
+   *
+   * @throws ArithmeticException If the result is out of the range of a {@link BigDecimal}.
+   */
+  public static BigDecimal exp(BigDecimal x, MathContext mathContext) {
+    if (isDoublePrecision(mathContext)) return fromDouble(Math.exp(x.doubleValue()), mathContext);
+    if (x.signum() == 0) return BigDecimal.ONE;
+    return expWorking(x, working(mathContext, 0), mathContext);
+  }
+
+  /**
+   * Returns the natural logarithm (base e) of x.
+   *
+   * @throws ArithmeticException If x is not positive.
+   */
+  public static BigDecimal ln(BigDecimal x, MathContext mathContext) {
+    checkPositive(x);
+    if (isDoublePrecision(mathContext)) return fromDouble(Math.log(x.doubleValue()), mathContext);
+    return lnWorking(x, working(mathContext, 0)).round(mathContext);
+  }
+
+  /**
+   * Returns the logarithm (base 10) of x. Powers of ten give exact results.
+   *
+   * @throws ArithmeticException If x is not positive.
+   */
+  public static BigDecimal log10(BigDecimal x, MathContext mathContext) {
+    checkPositive(x);
+    if (isDoublePrecision(mathContext)) return fromDouble(Math.log10(x.doubleValue()), mathContext);
+    BigDecimal stripped = x.stripTrailingZeros();
+    if (stripped.unscaledValue().equals(BigInteger.ONE))
+      return BigDecimal.valueOf(-(long) stripped.scale());
+    MathContext working = working(mathContext, 0);
+    return lnWorking(x, working).divide(ln10(working), mathContext);
+  }
+
+  /**
+   * Returns x raised to the power of y. Integer powers are computed with {@link BigDecimal#pow(int,
+   * MathContext)}, all others as e<sup>y * ln(x)</sup>.
+   *
+   * @throws ArithmeticException If x is zero and y is negative, or if x is negative and y is not an
+   *     integer.
+   */
+  public static BigDecimal pow(BigDecimal x, BigDecimal y, MathContext mathContext) {
+    if (y.signum() == 0) return BigDecimal.ONE;
+    if (x.signum() == 0) {
+      if (y.signum() < 0) throw new ArithmeticException("Division by zero");
+      return BigDecimal.ZERO;
+    }
+    if (isInteger(y) && y.abs().compareTo(BigDecimal.valueOf(MAX_POWER)) <= 0)
+      return x.pow(y.intValueExact(), mathContext);
+    if (x.signum() < 0) throw new ArithmeticException("Fractional power of a negative number");
+    if (isDoublePrecision(mathContext))
+      return fromDouble(Math.pow(x.doubleValue(), y.doubleValue()), mathContext);
+
+    // the absolute error of the exponent is the relative error of the result
+    MathContext working = working(mathContext, 0);
+    BigDecimal exponent = y.multiply(lnWorking(x, working));
+    int magnitude = magnitude(exponent);
+    if (magnitude > 0) {
+      working = working(mathContext, magnitude);
+      exponent = y.multiply(lnWorking(x, working));
+    }
+    return expWorking(exponent, working, mathContext);
+  }
+
+  /**
+   * Returns the square root of x, using {@link BigDecimal#sqrt(MathContext)}, which is already
+   * correctly rounded.
+   *
+   * @throws ArithmeticException If x is negative.
+   */
+  public static BigDecimal sqrt(BigDecimal x, MathContext mathContext) {
+    return x.sqrt(mathContext);
+  }
+
+  /**
+   * Returns the factorial of n. Small factorials are looked up in a table, larger ones are computed
+   * by binary splitting, so that the multiplied numbers have similar sizes.
+   *
+   * @param n The base, must not be negative.
+   * @return n!
+   * @throws ArithmeticException If n is negative.
+   */
+  public static BigInteger factorial(int n) {
+    if (n < 0) throw new ArithmeticException("Factorial of a negative number");
+    if (n < FACTORIALS.length) return BigInteger.valueOf(FACTORIALS[n]);
+    return BigInteger.valueOf(FACTORIALS[FACTORIALS.length - 1])
+        .multiply(product(FACTORIALS.length, n));
+  }
+
+  /** Returns the product of all numbers from <code>from</code> to <code>to</code>. */
+  private static BigInteger product(int from, int to) {
+    if (to - from < SEQUENTIAL_PRODUCT_LENGTH) {
+      BigInteger result = BigInteger.ONE;
+      long partial = 1;
+      for (long i = from; i <= to; i++) {
+        if (partial > Long.MAX_VALUE / i) {
+          result = result.multiply(BigInteger.valueOf(partial));
+          partial = 1;
+        }
+        partial *= i;
+      }
+      return result.multiply(BigInteger.valueOf(partial));
+    }
+    int middle = (from + to) >>> 1;
+    return product(from, middle).multiply(product(middle + 1, to));
+  }
+
+  private static BigDecimal radians(BigDecimal x, Trigonometric function, MathContext mathContext) {
+    MathContext working = working(mathContext, 0);
+    if (x.abs().compareTo(QUARTER_PI_BOUND) <= 0)
+      return select(function, 0, x, working).round(mathContext);
+
+    // x = q * π/2 + r, with |r| <= π/4, π needs as many more digits as x has integer digits
+    if (magnitude(x) > MAX_ANGLE_MAGNITUDE) throw new ArithmeticException("Angle is too large");
+    int baseExtra = Math.max(0, magnitude(x)) + 3;
+    int maxExtra = baseExtra + x.precision() + GUARD_DIGITS;
+    int extra = baseExtra;
+    while (true) {
+      working = working(mathContext, extra);
+      BigDecimal halfPi = pi(working).multiply(HALF);
+      BigInteger q =
+          x.divide(halfPi, new MathContext(extra))
+              .setScale(0, RoundingMode.HALF_EVEN)
+              .toBigInteger();
+      BigDecimal r = x.subtract(halfPi.multiply(new BigDecimal(q)), working);
+      // close to a multiple of π/2, the reduction cancels leading digits: repeat with as many more
+      // digits as were lost, until no more are lost. x can not be closer to a multiple of π/2 than
+      // its own digits allow, which bounds the repetitions.
+      int needed = r.signum() == 0 ? maxExtra : baseExtra + Math.max(0, -magnitude(r));
+      if (needed > extra && extra < maxExtra) {
+        extra = Math.min(needed, maxExtra);
+        continue;
+      }
+      return select(function, q.intValue() & 3, r, working).round(mathContext);
+    }
+  }
+
+  private static BigDecimal degrees(BigDecimal x, Trigonometric function, MathContext mathContext) {
+    // x = q * 90 + d, with |d| <= 45, exact in decimal arithmetic
+    BigDecimal d = x.remainder(THREE_HUNDRED_SIXTY);
+    BigDecimal q = d.divide(NINETY, 0, RoundingMode.HALF_EVEN);
+    d = d.subtract(NINETY.multiply(q));
+    int quadrant = q.intValue() & 3;
+
+    MathContext working = working(mathContext, 0);
+    BigDecimal sin;
+    BigDecimal cos;
+    if (d.signum() == 0) {
+      sin = BigDecimal.ZERO;
+      cos = BigDecimal.ONE;
+    } else {
+      BigDecimal r = d.multiply(pi(working)).divide(HUNDRED_EIGHTY, working);
+      BigDecimal abs = d.abs();
+      if (abs.compareTo(THIRTY) == 0) {
+        sin = d.signum() < 0 ? HALF.negate() : HALF;
+        cos = cosSeries(r, working);
+      } else if (abs.compareTo(FORTY_FIVE) == 0) {
+        cos = cosSeries(r, working);
+        sin = d.signum() < 0 ? cos.negate() : cos;
+      } else {
+        return select(function, quadrant, r, working).round(mathContext);
+      }
+    }
+    return select(function, quadrant, sin, cos, working).round(mathContext);
+  }
+
+  private static BigDecimal select(
+      Trigonometric function, int quadrant, BigDecimal r, MathContext working) {
+    boolean odd = (quadrant & 1) == 1;
+    boolean needsSin =
+        switch (function) {
+          case SIN, CSC -> !odd;
+          case COS, SEC -> odd;
+          case TAN, COT -> true;
+        };
+    boolean needsCos =
+        switch (function) {
+          case SIN, CSC -> odd;
+          case COS, SEC -> !odd;
+          case TAN, COT -> true;
+        };
+    return select(
+        function,
+        quadrant,
+        needsSin ? sinSeries(r, working) : null,
+        needsCos ? cosSeries(r, working) : null,
+        working);
+  }
+
+  private static BigDecimal select(
+      Trigonometric function, int quadrant, BigDecimal sin, BigDecimal cos, MathContext working) {
+    boolean odd = (quadrant & 1) == 1;
+    return switch (function) {
+      case SIN -> quadrant >= 2 ? (odd ? cos : sin).negate() : (odd ? cos : sin);
+      case COS -> quadrant == 1 || quadrant == 2 ? (odd ? sin : cos).negate() : (odd ? sin : cos);
+      case TAN -> odd ? cos.negate().divide(sin, working) : sin.divide(cos, working);
+      case COT -> odd ? sin.divide(cos.negate(), working) : cos.divide(sin, working);
+      case SEC -> BigDecimal.ONE.divide(
+          select(Trigonometric.COS, quadrant, sin, cos, working), working);
+      case CSC -> BigDecimal.ONE.divide(
+          select(Trigonometric.SIN, quadrant, sin, cos, working), working);
+    };
+  }
+
+  private static BigDecimal sinSeries(BigDecimal r, MathContext working) {
+    if (r.signum() == 0) return BigDecimal.ZERO;
+    BigDecimal square = r.multiply(r, working).negate();
+    BigDecimal term = r;
+    BigDecimal sum = r;
+    for (long n = 2; ; n += 2) {
+      term = term.multiply(square).divide(BigDecimal.valueOf(n * (n + 1)), working);
+      if (isNegligible(term, sum, working)) return sum;
+      sum = sum.add(term, working);
+    }
+  }
+
+  private static BigDecimal cosSeries(BigDecimal r, MathContext working) {
+    if (r.signum() == 0) return BigDecimal.ONE;
+    BigDecimal square = r.multiply(r, working).negate();
+    BigDecimal term = BigDecimal.ONE;
+    BigDecimal sum = BigDecimal.ONE;
+    for (long n = 1; ; n += 2) {
+      term = term.multiply(square).divide(BigDecimal.valueOf(n * (n + 1)), working);
+      if (isNegligible(term, sum, working)) return sum;
+      sum = sum.add(term, working);
+    }
+  }
+
+  private static BigDecimal expWorking(BigDecimal x, MathContext working, MathContext mathContext) {
+    // x = k * ln(2) + r, with |r| <= ln(2)/2
+    int magnitude = Math.max(0, magnitude(x));
+    if (magnitude > 10) throw new ArithmeticException(x.signum() > 0 ? "Overflow" : "Underflow");
+    BigDecimal ln2 = ln2(working(working, magnitude));
+    BigDecimal k =
+        x.divide(ln2, new MathContext(magnitude + 3)).setScale(0, RoundingMode.HALF_EVEN);
+    if (k.abs().compareTo(BigDecimal.valueOf(MAX_POWER)) > 0)
+      throw new ArithmeticException(x.signum() > 0 ? "Overflow" : "Underflow");
+    BigDecimal r = x.subtract(ln2.multiply(k), working).multiply(EXP_SCALE);
+
+    BigDecimal term = BigDecimal.ONE;
+    BigDecimal sum = BigDecimal.ONE;
+    for (long n = 1; ; n++) {
+      term = term.multiply(r).divide(BigDecimal.valueOf(n), working);
+      if (isNegligible(term, sum, working)) break;
+      sum = sum.add(term, working);
+    }
+    for (int i = 0; i < EXP_HALVINGS; i++) sum = sum.multiply(sum, working);
+    return sum.multiply(TWO.pow(k.intValue(), working), mathContext);
+  }
+
+  private static BigDecimal lnWorking(BigDecimal x, MathContext working) {
+    if (x.compareTo(BigDecimal.ONE) == 0) return BigDecimal.ZERO;
+    // x = m * 10^e, values from 0.1 to 10 are not split, to avoid cancellation near 1
+    int magnitude = magnitude(x);
+    int exponent = magnitude == 0 || magnitude == 1 ? 0 : magnitude - 1;
+    BigDecimal mantissa = x.movePointLeft(exponent);
+
+    // the double logarithm a is refined with ln(m) = a + ln(m * e^-a)
+    int lost = Math.max(0, -magnitude(mantissa.subtract(BigDecimal.ONE)));
+    MathContext mantissaContext = working(working, lost);
+    BigDecimal a = BigDecimal.valueOf(Math.log(mantissa.doubleValue()));
+    BigDecimal t =
+        a.signum() == 0
+            ? mantissa.subtract(BigDecimal.ONE)
+            : mantissa
+                .multiply(expWorking(a.negate(), mantissaContext, mantissaContext))
+                .subtract(BigDecimal.ONE, mantissaContext);
+    /* Formula: ln(1 + t) = 2 * atanh(t / (2 + t)) */
+    BigDecimal z = t.divide(t.add(TWO), mantissaContext);
+    BigDecimal result = a.add(atanhSeries(z, mantissaContext).multiply(TWO), working);
+
+    if (exponent == 0) return result;
+    MathContext ln10Context = working(working, magnitude(BigDecimal.valueOf(exponent)));
+    return result.add(ln10(ln10Context).multiply(BigDecimal.valueOf(exponent)), working);
+  }
+
+  private static BigDecimal atanhSeries(BigDecimal z, MathContext working) {
+    if (z.signum() == 0) return BigDecimal.ZERO;
+    BigDecimal square = z.multiply(z, working);
+    BigDecimal power = z;
+    BigDecimal sum = z;
+    for (long n = 3; ; n += 2) {
+      power = power.multiply(square, working);
+      BigDecimal term = power.divide(BigDecimal.valueOf(n), working);
+      if (isNegligible(term, sum, working)) return sum;
+      sum = sum.add(term, working);
+    }
+  }
+
+  /** Computes the sum of (±1)^k / ((2k + 1) * n^(2k + 1)), which is atan(1/n) or atanh(1/n). */
+  private static BigDecimal inverseSeries(long n, boolean alternating, MathContext working) {
+    BigDecimal square = BigDecimal.valueOf(n * n);
+    BigDecimal power = BigDecimal.ONE.divide(BigDecimal.valueOf(n), working);
+    BigDecimal sum = power;
+    for (long k = 1; ; k++) {
+      power = power.divide(square, working);
+      BigDecimal term = power.divide(BigDecimal.valueOf(2 * k + 1), working);
+      if (isNegligible(term, sum, working)) return sum;
+      sum = alternating && (k & 1) == 1 ? sum.subtract(term, working) : sum.add(term, working);
+    }
+  }
+
+  private static boolean isNegligible(BigDecimal term, BigDecimal sum, MathContext working) {
+    return term.signum() == 0 || magnitude(sum) - magnitude(term) > working.getPrecision();
+  }
+
+  /** Returns the position of the most significant digit, e.g. 1 for 1.5, 0 for 0.5. */
+  private static int magnitude(BigDecimal value) {
+    return value.precision() - value.scale();
+  }
+
+  private static boolean isInteger(BigDecimal value) {
+    return value.scale() <= 0 || value.stripTrailingZeros().scale() <= 0;
+  }
+
+  private static void checkPositive(BigDecimal x) {
+    if (x.signum() <= 0) throw new ArithmeticException("Logarithm of a non-positive number");
+  }
+
+  private static MathContext working(MathContext mathContext, int extraDigits) {
+    return new MathContext(
+        mathContext.getPrecision() + GUARD_DIGITS + extraDigits, RoundingMode.HALF_EVEN);
+  }
+
+  private static BigDecimal fromDouble(double value, MathContext mathContext) {
+    return NumberConverter.convertDouble(value, mathContext).getNumberValue();
+  }
+}
@@ -18,8 +18,12 @@ package me.melontini.mevalex.functions;
 import java.util.List;
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.data.EvaluationType;
 import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.parser.ParseException;
+import me.melontini.mevalex.parser.Solvable;
 import me.melontini.mevalex.parser.Token;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Interface that is required for all functions in a function dictionary for evaluation of
@@ -78,6 +82,21 @@ public interface FunctionIfc {
     return getFunctionParameterDefinitions().get(parameterIndex).isLazy();
   }
 
+  /**
+   * Returns the number of parameters of a lambda expression parameter.
+   *
+   * @param parameterIndex The parameter index, starts at 0 for the first parameter. If the index is
+   *     bigger than the list of parameter definitions, the last parameter definition will be
+   *     checked.
+   * @return The number of lambda parameters, or 0 if the parameter is not a lambda expression.
+   */
+  default int getLambdaParameterCount(int parameterIndex) {
+    if (parameterIndex >= getFunctionParameterDefinitions().size()) {
+      parameterIndex = getFunctionParameterDefinitions().size() - 1;
+    }
+    return getFunctionParameterDefinitions().get(parameterIndex).getLambdaParameters();
+  }
+
   /**
    * Returns the count of non-var-arg parameters defined by this function. If the function has
    * var-args, the result is the count of parameter definitions - 1.
@@ -89,7 +108,105 @@ public interface FunctionIfc {
     return hasVarArgs() ? numOfParameters - 1 : numOfParameters;
   }
 
-  default boolean canInline() {
+  /**
+   * The declared type of the function result.
+   *
+   * @return The result type, {@link EvaluationType#ANY} if the result type is not fixed.
+   */
+  default EvaluationType getResultType() {
+    return EvaluationType.ANY;
+  }
+
+  /**
+   * Checks if the function has no side effects. Pure functions may be skipped or evaluated in a
+   * different order than written in the expression.
+   *
+   * @return <code>true</code> if the function has no side effects.
+   */
+  default boolean isPure() {
+    return true;
+  }
+
+  /**
+   * Checks if the function always returns the same result for the same parameters. Deterministic
+   * results may be computed once and reused.
+   *
+   * @return <code>true</code> if the function is deterministic.
+   */
+  default boolean isDeterministic() {
     return true;
   }
+
+  /**
+   * Returns a hint for the relative cost of evaluating this function, where 1 is the cost of a
+   * simple arithmetic operation.
+   *
+   * @return The relative cost.
+   */
+  default int getCost() {
+    return 1;
+  }
+
+  /**
+   * Checks if the function can be evaluated when parsing the expression, if all of its parameters
+   * are constant.
+   *
+   * @return <code>true</code> if the function is pure and deterministic.
+   */
+  default boolean canInline() {
+    return isPure() && isDeterministic();
+  }
+
+  /**
+   * Called during parsing, can be implemented to return an implementation of this function that
+   * makes use of constant parameters, e.g. to compile a pattern only once. Not called for functions
+   * with lazy parameters, or if no parameter is constant. The returned implementation is
+   * responsible for validating the parameters, like {@link #validatePreEvaluation(Token,
+   * EvaluationValue...)}.
+   *
+   * @param functionToken The function token from the parsed expression.
+   * @param constants The values of the constant parameters, with <code>null</code> entries for
+   *     parameters that are only known at evaluation time.
+   * @param parameters The compiled parameters.
+   * @return The specialized implementation, or <code>null</code> to use {@link
+   *     #evaluate(EvaluationContext, Token, EvaluationValue...)}.
+   */
+  default @Nullable Solvable specialize(
+      Token functionToken, EvaluationValue[] constants, Solvable... parameters) {
+    return null;
+  }
+
+  /**
+   * Called by the type inference during parsing, infers the result type of this function from the
+   * statically known parameter types. By default, checks the parameter types against the declared
+   * parameter types and returns the declared result type.
+   *
+   * @param functionToken The function token from the parsed expression.
+   * @param parameterTypes The parameter types, {@link EvaluationType#ANY} for parameters whose type
+   *     is not known before evaluation.
+   * @return The result type, or {@link EvaluationType#ANY} if it can not be determined.
+   * @throws ParseException If the function does not support the parameter types.
+   */
+  default EvaluationType inferResultType(Token functionToken, EvaluationType... parameterTypes)
+      throws ParseException {
+    List<FunctionParameterDefinition> definitions = getFunctionParameterDefinitions();
+    for (int i = 0; i < parameterTypes.length && !definitions.isEmpty(); i++) {
+      FunctionParameterDefinition definition = definitions.get(Math.min(i, definitions.size() - 1));
+      if (i >= definitions.size() && !definition.isVarArg()) break;
+
+      EvaluationType expected = definition.getType();
+      EvaluationType actual = parameterTypes[i];
+      // null is accepted for any parameter type, e.g. for optional parameters
+      if (expected.isKnown()
+          && actual.isKnown()
+          && actual != EvaluationType.NULL
+          && actual != expected)
+        throw new ParseException(
+            functionToken,
+            String.format(
+                "Parameter '%s' must be of type %s, but is of type %s",
+                definition.getName(), expected, actual));
+    }
+    return getResultType();
+  }
 }
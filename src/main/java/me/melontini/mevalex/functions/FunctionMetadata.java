@@ -0,0 +1,52 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.functions;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import me.melontini.mevalex.data.EvaluationType;
+
+/**
+ * Annotation to describe the result and evaluation characteristics of a function. Used by the type
+ * inference and optimizations when parsing an expression.
+ */
+@Documented
+@Inherited
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface FunctionMetadata {
+
+  /** The type of the function result. Defaults to {@link EvaluationType#ANY}. */
+  EvaluationType resultType() default EvaluationType.ANY;
+
+  /** If the function has no side effects. Defaults to <code>true</code>. */
+  boolean pure() default true;
+
+  /**
+   * If the function always returns the same result for the same parameters. Defaults to <code>true
+   * </code>.
+   */
+  boolean deterministic() default true;
+
+  /**
+   * Relative evaluation cost, where 1 is the cost of a simple arithmetic operation. Defaults to 1.
+   */
+  int cost() default 1;
+}
@@ -21,6 +21,7 @@ import java.lang.annotation.Repeatable;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import me.melontini.mevalex.data.EvaluationType;
 
 /** Annotation to define a function parameter. */
 @Documented
@@ -43,4 +44,13 @@ public @interface FunctionParameter {
 
   /** If the parameter does not allow negative values. */
   boolean nonNegative() default false;
+
+  /**
+   * The number of parameters, if the parameter is a lambda expression like <code>x -> x * 2</code>.
+   * Defaults to 0, for a parameter that is not a lambda expression.
+   */
+  int lambdaParameters() default 0;
+
+  /** The expected parameter type. Defaults to {@link EvaluationType#ANY}. */
+  EvaluationType type() default EvaluationType.ANY;
 }
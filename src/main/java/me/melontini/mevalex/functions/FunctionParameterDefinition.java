@@ -17,7 +17,10 @@ package me.melontini.mevalex.functions;
 
 import lombok.Builder;
 import lombok.Value;
+import me.melontini.mevalex.data.EvaluationType;
+import me.melontini.mevalex.data.types.LambdaValue;
 import me.melontini.mevalex.functions.basic.IfFunction;
+import me.melontini.mevalex.functions.basic.MapFunction;
 import me.melontini.mevalex.functions.basic.MinFunction;
 import me.melontini.mevalex.parser.ASTNode;
 
@@ -49,4 +52,15 @@ public class FunctionParameterDefinition {
 
   /** If the parameter does not allow negative values. */
   boolean nonNegative;
+
+  /**
+   * If greater than zero, the parameter is a lambda expression with this number of parameters,
+   * which is passed as a {@link LambdaValue}.
+   *
+   * @see MapFunction for an example.
+   */
+  int lambdaParameters;
+
+  /** The expected parameter type, {@link EvaluationType#ANY} if any type is accepted. */
+  @Builder.Default EvaluationType type = EvaluationType.ANY;
 }
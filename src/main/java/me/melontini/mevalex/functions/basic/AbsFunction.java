@@ -15,15 +15,19 @@
 */
 package me.melontini.mevalex.functions.basic;
 
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.NumberValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
 /** Absolute (non-negative) value. */
-@FunctionParameter(name = "value")
+@FunctionMetadata(resultType = NUMBER)
+@FunctionParameter(name = "value", type = NUMBER)
 public class AbsFunction extends AbstractFunction {
 
   @Override
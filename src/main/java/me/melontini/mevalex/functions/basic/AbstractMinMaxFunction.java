@@ -16,16 +16,25 @@
 package me.melontini.mevalex.functions.basic;
 
 import java.math.BigDecimal;
+import java.util.List;
+import me.melontini.mevalex.config.ExpressionConfiguration;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.functions.AbstractFunction;
 import me.melontini.mevalex.functions.FunctionParameter;
 
 @FunctionParameter(name = "value", isVarArg = true)
 public abstract class AbstractMinMaxFunction extends AbstractFunction {
-  BigDecimal findMinOrMax(BigDecimal current, EvaluationValue parameter, boolean findMin) {
+  BigDecimal findMinOrMax(
+      BigDecimal current,
+      EvaluationValue parameter,
+      boolean findMin,
+      ExpressionConfiguration configuration) {
     if (parameter.isArrayValue()) {
-      for (EvaluationValue element : parameter.getArrayValue()) {
-        current = findMinOrMax(current, element, findMin);
+      List<EvaluationValue> array = parameter.getArrayValue();
+      BigDecimal primitive = NumberAggregator.findMinOrMax(array, findMin, configuration);
+      if (primitive != null) return compareAndAssign(current, primitive, findMin);
+      for (EvaluationValue element : array) {
+        current = findMinOrMax(current, element, findMin, configuration);
       }
     } else {
       current = compareAndAssign(current, parameter.getNumberValue(), findMin);
@@ -0,0 +1,50 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.functions.basic;
+
+import static me.melontini.mevalex.data.EvaluationType.ARRAY;
+import static me.melontini.mevalex.data.EvaluationType.BOOLEAN;
+
+import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.types.BooleanValue;
+import me.melontini.mevalex.data.types.LambdaValue;
+import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
+import me.melontini.mevalex.functions.FunctionParameter;
+import me.melontini.mevalex.parser.Token;
+
+/**
+ * Returns <code>true</code> if a lambda expression evaluates to <code>true</code> for all elements
+ * of an array, e.g. <code>ALL(items, x -> x.price > 0)</code>. The remaining elements are not
+ * evaluated once a mismatch was found. Returns <code>true</code> for an empty array.
+ */
+@FunctionMetadata(resultType = BOOLEAN, cost = 10)
+@FunctionParameter(name = "array", type = ARRAY)
+@FunctionParameter(name = "predicate", lambdaParameters = 1)
+public class AllFunction extends AbstractFunction {
+  @Override
+  public EvaluationValue evaluate(
+      EvaluationContext context, Token functionToken, EvaluationValue... parameterValues)
+      throws EvaluationException {
+    LambdaValue.Invocation predicate = ((LambdaValue) parameterValues[1]).bind(context);
+    for (EvaluationValue element : MapFunction.arrayParameter(functionToken, parameterValues[0])) {
+      if (!predicate.test(element)) return BooleanValue.FALSE;
+    }
+    return BooleanValue.TRUE;
+  }
+}
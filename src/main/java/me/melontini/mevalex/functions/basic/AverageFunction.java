@@ -15,33 +15,42 @@
 */
 package me.melontini.mevalex.functions.basic;
 
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+
 import java.math.BigDecimal;
 import java.math.MathContext;
-import java.util.Arrays;
 import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.EvaluationException;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.NumberValue;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
 /**
- * Returns the average (arithmetic mean) of the numeric arguments.
+ * Returns the average (arithmetic mean) of the numeric arguments. Arrays are flattened, so that
+ * each element counts as one argument.
  *
  * @author oswaldo.bapvic.jr
  */
+@FunctionMetadata(resultType = NUMBER, cost = 5)
 @FunctionParameter(name = "firstValue")
 @FunctionParameter(name = "additionalValues", isVarArg = true)
 public class AverageFunction extends AbstractMinMaxFunction {
   @Override
   public EvaluationValue evaluate(
-      EvaluationContext context, Token functionToken, EvaluationValue... parameterValues) {
+      EvaluationContext context, Token functionToken, EvaluationValue... parameterValues)
+      throws EvaluationException {
     MathContext mathContext = context.expression().getConfiguration().getMathContext();
-    BigDecimal sum =
-        Arrays.stream(parameterValues)
-            .map(EvaluationValue::getNumberValue)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-    BigDecimal count = BigDecimal.valueOf(parameterValues.length);
-    BigDecimal average = sum.divide(count, mathContext);
+    NumberAggregator aggregator = new NumberAggregator(context.expression().getConfiguration());
+    for (EvaluationValue parameter : parameterValues) {
+      aggregator.add(parameter);
+    }
+    if (aggregator.getCount() == 0) {
+      throw new EvaluationException(functionToken, "Average of an empty array");
+    }
+    BigDecimal count = BigDecimal.valueOf(aggregator.getCount());
+    BigDecimal average = aggregator.getSum().divide(count, mathContext);
     return NumberValue.of(average);
   }
 }
@@ -0,0 +1,57 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.functions.basic;
+
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+
+import java.util.List;
+import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.config.ExpressionConfiguration;
+import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.types.NumberValue;
+import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
+import me.melontini.mevalex.functions.FunctionParameter;
+import me.melontini.mevalex.parser.Token;
+
+/**
+ * Returns the number of arguments, of any type. Arrays are flattened, so that each element counts
+ * as one argument. Arrays that were converted from primitive arrays are counted without accessing
+ * their elements.
+ */
+@FunctionMetadata(resultType = NUMBER, cost = 5)
+@FunctionParameter(name = "value", isVarArg = true)
+public class CountFunction extends AbstractFunction {
+  @Override
+  public EvaluationValue evaluate(
+      EvaluationContext context, Token functionToken, EvaluationValue... parameterValues) {
+    ExpressionConfiguration configuration = context.expression().getConfiguration();
+    long count = 0;
+    for (EvaluationValue parameter : parameterValues) {
+      count += count(parameter, configuration);
+    }
+    return NumberValue.of(count);
+  }
+
+  private static long count(EvaluationValue value, ExpressionConfiguration configuration) {
+    if (!value.isArrayValue()) return 1;
+    List<EvaluationValue> array = value.getArrayValue();
+    if (NumberAggregator.primitiveSource(array, configuration) != null) return array.size();
+    long count = 0;
+    for (EvaluationValue element : array) count += count(element, configuration);
+    return count;
+  }
+}
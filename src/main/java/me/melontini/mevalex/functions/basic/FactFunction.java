@@ -15,29 +15,43 @@
 */
 package me.melontini.mevalex.functions.basic;
 
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+
 import java.math.BigDecimal;
 import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.config.ExpressionConfiguration;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.NumberValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.BigDecimalMath;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
-/** Factorial function, calculates the factorial of a base value. */
-@FunctionParameter(name = "base")
+/**
+ * Factorial function, calculates the factorial of a base value. The base is limited by {@link
+ * ExpressionConfiguration#getMaxFactorialBase()}.
+ */
+@FunctionMetadata(resultType = NUMBER, cost = 20)
+@FunctionParameter(name = "base", type = NUMBER)
 public class FactFunction extends AbstractFunction {
 
   @Override
   public EvaluationValue evaluate(
-      EvaluationContext context, Token functionToken, EvaluationValue... parameterValues) {
-    int number = parameterValues[0].getNumberValue().intValue();
-    BigDecimal factorial = BigDecimal.ONE;
-    for (int i = 1; i <= number; i++) {
-      factorial =
-          factorial.multiply(
-              new BigDecimal(i, context.expression().getConfiguration().getMathContext()),
-              context.expression().getConfiguration().getMathContext());
+      EvaluationContext context, Token functionToken, EvaluationValue... parameterValues)
+      throws EvaluationException {
+    ExpressionConfiguration configuration = context.expression().getConfiguration();
+    BigDecimal base = parameterValues[0].getNumberValue();
+    int maxBase = configuration.getMaxFactorialBase();
+    if (base.compareTo(BigDecimal.valueOf(maxBase)) > 0) {
+      throw new EvaluationException(
+          functionToken, String.format("Factorial base must not be greater than %d", maxBase));
     }
-    return NumberValue.of(factorial);
+
+    // bases below one are the empty product
+    int number = Math.max(0, base.intValue());
+    return NumberValue.of(
+        new BigDecimal(BigDecimalMath.factorial(number), configuration.getMathContext()));
   }
 }
@@ -0,0 +1,52 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.functions.basic;
+
+import static me.melontini.mevalex.data.EvaluationType.ARRAY;
+
+import java.util.ArrayList;
+import java.util.List;
+import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.types.ArrayValue;
+import me.melontini.mevalex.data.types.LambdaValue;
+import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
+import me.melontini.mevalex.functions.FunctionParameter;
+import me.melontini.mevalex.parser.Token;
+
+/**
+ * Returns an array with the elements of an array for which a lambda expression evaluates to <code>
+ * true</code>, e.g. <code>FILTER(items, x -> x.price > 10)</code>.
+ */
+@FunctionMetadata(resultType = ARRAY, cost = 10)
+@FunctionParameter(name = "array", type = ARRAY)
+@FunctionParameter(name = "predicate", lambdaParameters = 1)
+public class FilterFunction extends AbstractFunction {
+  @Override
+  public EvaluationValue evaluate(
+      EvaluationContext context, Token functionToken, EvaluationValue... parameterValues)
+      throws EvaluationException {
+    List<EvaluationValue> array = MapFunction.arrayParameter(functionToken, parameterValues[0]);
+    LambdaValue.Invocation predicate = ((LambdaValue) parameterValues[1]).bind(context);
+    List<EvaluationValue> result = new ArrayList<>();
+    for (EvaluationValue element : array) {
+      if (predicate.test(element)) result.add(element);
+    }
+    return ArrayValue.of(result);
+  }
+}
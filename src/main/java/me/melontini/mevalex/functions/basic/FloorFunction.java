@@ -15,16 +15,20 @@
 */
 package me.melontini.mevalex.functions.basic;
 
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+
 import java.math.RoundingMode;
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.NumberValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
 /** Rounds the given value to an integer using the rounding mode {@link RoundingMode#FLOOR} */
-@FunctionParameter(name = "value")
+@FunctionMetadata(resultType = NUMBER)
+@FunctionParameter(name = "value", type = NUMBER)
 public class FloorFunction extends AbstractFunction {
   @Override
   public EvaluationValue evaluate(
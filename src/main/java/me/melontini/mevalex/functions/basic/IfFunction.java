@@ -17,9 +17,11 @@ package me.melontini.mevalex.functions.basic;
 
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.data.EvaluationType;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.functions.AbstractFunction;
 import me.melontini.mevalex.functions.FunctionParameter;
+import me.melontini.mevalex.parser.ParseException;
 import me.melontini.mevalex.parser.Token;
 
 /**
@@ -42,4 +44,11 @@ public class IfFunction extends AbstractFunction {
       return context.expression().evaluateSubtree(parameterValues[2].getSolvable(), context);
     }
   }
+
+  @Override
+  public EvaluationType inferResultType(Token functionToken, EvaluationType... parameterTypes)
+      throws ParseException {
+    super.inferResultType(functionToken, parameterTypes);
+    return parameterTypes[1] == parameterTypes[2] ? parameterTypes[1] : EvaluationType.ANY;
+  }
 }
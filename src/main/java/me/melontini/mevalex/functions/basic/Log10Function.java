@@ -15,21 +15,27 @@
 */
 package me.melontini.mevalex.functions.basic;
 
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+
+import java.math.MathContext;
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.types.NumberValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.BigDecimalMath;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
 /** The base 10 logarithm of a value */
-@FunctionParameter(name = "value", nonZero = true, nonNegative = true)
+@FunctionMetadata(resultType = NUMBER, cost = 10)
+@FunctionParameter(name = "value", nonZero = true, nonNegative = true, type = NUMBER)
 public class Log10Function extends AbstractFunction {
   @Override
   public EvaluationValue evaluate(
       EvaluationContext context, Token functionToken, EvaluationValue... parameterValues) {
 
-    double d = parameterValues[0].getNumberValue().doubleValue();
-
-    return context.expression().convertDoubleValue(Math.log10(d));
+    MathContext mathContext = context.expression().getConfiguration().getMathContext();
+    return NumberValue.of(BigDecimalMath.log10(parameterValues[0].getNumberValue(), mathContext));
   }
 }
@@ -0,0 +1,58 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.functions.basic;
+
+import static me.melontini.mevalex.data.EvaluationType.ARRAY;
+
+import java.util.ArrayList;
+import java.util.List;
+import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.types.ArrayValue;
+import me.melontini.mevalex.data.types.LambdaValue;
+import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
+import me.melontini.mevalex.functions.FunctionParameter;
+import me.melontini.mevalex.parser.Token;
+
+/**
+ * Applies a lambda expression to each element of an array and returns an array with the results,
+ * e.g. <code>MAP(items, x -> x.price * x.quantity)</code>.
+ */
+@FunctionMetadata(resultType = ARRAY, cost = 10)
+@FunctionParameter(name = "array", type = ARRAY)
+@FunctionParameter(name = "function", lambdaParameters = 1)
+public class MapFunction extends AbstractFunction {
+  @Override
+  public EvaluationValue evaluate(
+      EvaluationContext context, Token functionToken, EvaluationValue... parameterValues)
+      throws EvaluationException {
+    List<EvaluationValue> array = arrayParameter(functionToken, parameterValues[0]);
+    LambdaValue.Invocation function = ((LambdaValue) parameterValues[1]).bind(context);
+    List<EvaluationValue> result = new ArrayList<>(array.size());
+    for (EvaluationValue element : array) result.add(function.apply(element));
+    return ArrayValue.of(result);
+  }
+
+  static List<EvaluationValue> arrayParameter(Token functionToken, EvaluationValue value)
+      throws EvaluationException {
+    if (!value.isArrayValue()) {
+      throw EvaluationException.ofUnsupportedDataTypeInOperation(functionToken);
+    }
+    return value.getArrayValue();
+  }
+}
@@ -20,10 +20,12 @@ import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.NullValue;
 import me.melontini.mevalex.data.types.NumberValue;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
 /** Returns the maximum value of all parameters. */
+@FunctionMetadata(cost = 5)
 @FunctionParameter(name = "firstValue")
 @FunctionParameter(name = "value", isVarArg = true)
 public class MaxFunction extends AbstractMinMaxFunction {
@@ -32,7 +34,7 @@ public class MaxFunction extends AbstractMinMaxFunction {
       EvaluationContext context, Token functionToken, EvaluationValue... parameterValues) {
     BigDecimal min = null;
     for (EvaluationValue parameter : parameterValues) {
-      min = findMinOrMax(min, parameter, false);
+      min = findMinOrMax(min, parameter, false, context.expression().getConfiguration());
     }
     return min == null ? NullValue.of() : NumberValue.of(min);
   }
@@ -0,0 +1,53 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.functions.basic;
+
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.types.NumberValue;
+import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
+import me.melontini.mevalex.functions.FunctionParameter;
+import me.melontini.mevalex.parser.Token;
+
+/**
+ * Returns the median of the numeric arguments. Arrays are flattened, so that each element counts as
+ * one argument. For an even number of values, the median is the mean of the two middle values.
+ */
+@FunctionMetadata(resultType = NUMBER, cost = 10)
+@FunctionParameter(name = "value", isVarArg = true)
+public class MedianFunction extends AbstractFunction {
+
+  private static final BigDecimal HALF = new BigDecimal("0.5");
+
+  @Override
+  public EvaluationValue evaluate(
+      EvaluationContext context, Token functionToken, EvaluationValue... parameterValues)
+      throws EvaluationException {
+    BigDecimal median =
+        PercentileSelector.percentile(
+            Arrays.asList(parameterValues), HALF, context.expression().getConfiguration());
+    if (median == null) {
+      throw new EvaluationException(functionToken, "Median of an empty array");
+    }
+    return NumberValue.of(median);
+  }
+}
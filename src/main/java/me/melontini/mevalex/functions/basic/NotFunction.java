@@ -15,14 +15,18 @@
 */
 package me.melontini.mevalex.functions.basic;
 
+import static me.melontini.mevalex.data.EvaluationType.BOOLEAN;
+
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.BooleanValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
 /** Boolean negation function. */
+@FunctionMetadata(resultType = BOOLEAN)
 @FunctionParameter(name = "value")
 public class NotFunction extends AbstractFunction {
 
@@ -0,0 +1,253 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.functions.basic;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.List;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.Getter;
+import me.melontini.mevalex.config.ExpressionConfiguration;
+import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.conversion.DefaultEvaluationValueConverter;
+import me.melontini.mevalex.data.conversion.NumberConverter;
+import me.melontini.mevalex.data.util.DoubleArrayWrapper;
+import me.melontini.mevalex.data.util.LongArrayWrapper;
+import me.melontini.mevalex.data.util.MemoizingListWrapper;
+import me.melontini.mevalex.functions.BigDecimalMath;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Sums up and counts numbers, flattening arrays. Arrays that were converted from primitive arrays
+ * are read directly, without converting each element: integer values are summed up exactly, double
+ * values with a compensated summation if the precision is 16 or lower.
+ */
+final class NumberAggregator {
+
+  private static final int CHUNK_SIZE = 1 << 14;
+
+  private final ExpressionConfiguration configuration;
+  private final MathContext mathContext;
+
+  /** The sum of all added values. */
+  @Getter private BigDecimal sum = BigDecimal.ZERO;
+
+  /** The number of added values. */
+  @Getter private long count;
+
+  NumberAggregator(ExpressionConfiguration configuration) {
+    this.configuration = configuration;
+    this.mathContext = configuration.getMathContext();
+  }
+
+  /**
+   * Adds a number, or all numbers of an array.
+   *
+   * @param value The number or array.
+   */
+  void add(EvaluationValue value) {
+    if (!value.isArrayValue()) {
+      sum = sum.add(value.getNumberValue(), mathContext);
+      count++;
+      return;
+    }
+
+    List<EvaluationValue> array = value.getArrayValue();
+    BigDecimal primitiveSum = sumPrimitives(array);
+    if (primitiveSum != null) {
+      sum = sum.add(primitiveSum, mathContext);
+      count += array.size();
+    } else {
+      for (EvaluationValue element : array) add(element);
+    }
+  }
+
+  /**
+   * Finds the minimum or maximum of an array that was converted from a primitive array.
+   *
+   * @param array The array.
+   * @param findMin <code>true</code> to find the minimum, <code>false</code> for the maximum.
+   * @param configuration The configuration.
+   * @return The minimum or maximum, or <code>null</code> if the array is not backed by a primitive
+   *     array, is empty, or contains a value that can not be converted.
+   */
+  static @Nullable BigDecimal findMinOrMax(
+      List<EvaluationValue> array, boolean findMin, ExpressionConfiguration configuration) {
+    List<EvaluationValue> source = primitiveSource(array, configuration);
+    if (source == null || source.isEmpty()) return null;
+
+    if (source instanceof LongArrayWrapper longs) {
+      BinaryOperator<Long> select = findMin ? Math::min : Math::max;
+      return BigDecimal.valueOf(
+          reduceChunks(
+              longs.size(),
+              configuration,
+              (from, to) -> {
+                long result = longs.getLong(from);
+                for (int i = from + 1; i < to; i++) {
+                  long element = longs.getLong(i);
+                  if (findMin ? element < result : element > result) result = element;
+                }
+                return result;
+              },
+              select));
+    }
+
+    DoubleArrayWrapper doubles = (DoubleArrayWrapper) source;
+    double result =
+        reduceChunks(
+            doubles.size(),
+            configuration,
+            (from, to) -> {
+              double chunkResult = doubles.getDouble(from);
+              for (int i = from; i < to; i++) {
+                double element = doubles.getDouble(i);
+                if (Double.isNaN(element)) return Double.NaN;
+                if (findMin ? element < chunkResult : element > chunkResult) chunkResult = element;
+              }
+              return chunkResult;
+            },
+            (a, b) -> {
+              if (Double.isNaN(a) || Double.isNaN(b)) return Double.NaN;
+              return findMin ? (b < a ? b : a) : (b > a ? b : a);
+            });
+    if (Double.isNaN(result)) return null;
+    return NumberConverter.convertDouble(result, configuration.getMathContext()).getNumberValue();
+  }
+
+  private @Nullable BigDecimal sumPrimitives(List<EvaluationValue> array) {
+    List<EvaluationValue> source = primitiveSource(array, configuration);
+    if (source instanceof LongArrayWrapper longs) {
+      return reduceChunks(
+          longs.size(), configuration, (from, to) -> sumLongs(longs, from, to), BigDecimal::add);
+    }
+    if (source instanceof DoubleArrayWrapper doubles) {
+      int precision = mathContext.getPrecision();
+      if (precision == 0 || precision > BigDecimalMath.DOUBLE_PRECISION) {
+        return reduceChunks(
+            doubles.size(),
+            configuration,
+            (from, to) -> sumDoubles(doubles, from, to),
+            (a, b) -> a.add(b, mathContext));
+      }
+      double[] total =
+          reduceChunks(
+              doubles.size(),
+              configuration,
+              (from, to) -> {
+                double[] partial = new double[2];
+                for (int i = from; i < to; i++) addCompensated(partial, doubles.getDouble(i));
+                return partial;
+              },
+              (a, b) -> {
+                addCompensated(a, b[0]);
+                addCompensated(a, b[1]);
+                return a;
+              });
+      double result = total[0] + total[1];
+      // infinities and NaN are left to the regular conversion
+      if (!Double.isFinite(result)) return null;
+      return NumberConverter.convertDouble(result, mathContext).getNumberValue();
+    }
+    return null;
+  }
+
+  /** Sums up a range of a primitive integer array exactly. */
+  static BigDecimal sumLongs(LongArrayWrapper longs, int from, int to) {
+    long sum = 0;
+    BigInteger overflow = null;
+    for (int i = from; i < to; i++) {
+      long element = longs.getLong(i);
+      long result = sum + element;
+      if (((sum ^ result) & (element ^ result)) < 0) {
+        overflow = (overflow == null ? BigInteger.ZERO : overflow).add(BigInteger.valueOf(sum));
+        result = element;
+      }
+      sum = result;
+    }
+    BigInteger total = BigInteger.valueOf(sum);
+    return new BigDecimal(overflow == null ? total : overflow.add(total));
+  }
+
+  private BigDecimal sumDoubles(DoubleArrayWrapper doubles, int from, int to) {
+    BigDecimal sum = BigDecimal.ZERO;
+    for (int i = from; i < to; i++) {
+      sum =
+          sum.add(
+              NumberConverter.convertDouble(doubles.getDouble(i), mathContext).getNumberValue(),
+              mathContext);
+    }
+    return sum;
+  }
+
+  /** Neumaier's variant of the Kahan summation, the compensation is kept in the second slot. */
+  private static void addCompensated(double[] partial, double value) {
+    double sum = partial[0];
+    double result = sum + value;
+    if (Math.abs(sum) >= Math.abs(value)) partial[1] += (sum - result) + value;
+    else partial[1] += (value - result) + sum;
+    partial[0] = result;
+  }
+
+  /**
+   * Returns the wrapper of a primitive integer or double array, that backs an array value.
+   *
+   * @param array The array value.
+   * @param configuration The configuration.
+   * @return The {@link LongArrayWrapper} or {@link DoubleArrayWrapper}, or <code>null</code> if the
+   *     array is not backed by a primitive array, or its elements are not converted to standard
+   *     numbers.
+   */
+  static @Nullable List<EvaluationValue> primitiveSource(
+      List<EvaluationValue> array, ExpressionConfiguration configuration) {
+    if (!(configuration.getEvaluationValueConverter()
+            instanceof DefaultEvaluationValueConverter converter)
+        || !converter.isStandardNumbers()) return null;
+    List<EvaluationValue> source =
+        array instanceof MemoizingListWrapper memoizing ? memoizing.getDelegate() : array;
+    return source instanceof LongArrayWrapper || source instanceof DoubleArrayWrapper
+        ? source
+        : null;
+  }
+
+  /**
+   * Computes the results of consecutive chunks and combines them in order. The chunks are processed
+   * in parallel if the array is large enough, otherwise the whole array is a single chunk.
+   */
+  static <T> T reduceChunks(
+      int size, ExpressionConfiguration configuration, Chunk<T> chunk, BinaryOperator<T> combine) {
+    int threshold = configuration.getParallelAggregationThreshold();
+    if (threshold <= 0 || size < threshold || size <= CHUNK_SIZE) return chunk.apply(0, size);
+
+    int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    List<T> results =
+        IntStream.range(0, chunks)
+            .parallel()
+            .mapToObj(c -> chunk.apply(c * CHUNK_SIZE, Math.min(size, (c + 1) * CHUNK_SIZE)))
+            .collect(Collectors.toList());
+    T result = results.get(0);
+    for (int i = 1; i < results.size(); i++) result = combine.apply(result, results.get(i));
+    return result;
+  }
+
+  @FunctionalInterface
+  interface Chunk<T> {
+    T apply(int from, int to);
+  }
+}
@@ -0,0 +1,61 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.functions.basic;
+
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.types.NumberValue;
+import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
+import me.melontini.mevalex.functions.FunctionParameter;
+import me.melontini.mevalex.parser.Token;
+
+/**
+ * Returns a percentile of a number or an array of numbers. Nested arrays are flattened. The
+ * percentile must be between 0 and 100. If it falls between two values, the result is interpolated
+ * linearly, e.g. <code>PERCENTILE(values, 50)</code> is the median.
+ */
+@FunctionMetadata(resultType = NUMBER, cost = 10)
+@FunctionParameter(name = "values")
+@FunctionParameter(name = "percentile", type = NUMBER, nonNegative = true)
+public class PercentileFunction extends AbstractFunction {
+
+  private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+  @Override
+  public EvaluationValue evaluate(
+      EvaluationContext context, Token functionToken, EvaluationValue... parameterValues)
+      throws EvaluationException {
+    BigDecimal percentile = parameterValues[1].getNumberValue();
+    if (percentile.compareTo(HUNDRED) > 0) {
+      throw new EvaluationException(functionToken, "Percentile must not be greater than 100");
+    }
+    BigDecimal result =
+        PercentileSelector.percentile(
+            Collections.singletonList(parameterValues[0]),
+            percentile.movePointLeft(2),
+            context.expression().getConfiguration());
+    if (result == null) {
+      throw new EvaluationException(functionToken, "Percentile of an empty array");
+    }
+    return NumberValue.of(result);
+  }
+}
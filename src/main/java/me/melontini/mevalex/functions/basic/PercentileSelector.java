@@ -0,0 +1,244 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.functions.basic;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import me.melontini.mevalex.config.ExpressionConfiguration;
+import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.conversion.NumberConverter;
+import me.melontini.mevalex.data.util.DoubleArrayWrapper;
+import me.melontini.mevalex.data.util.LongArrayWrapper;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Finds percentiles of numbers, flattening arrays. The numbers are copied and partially ordered
+ * with a quickselect, so that only the (at most two) values next to the percentile rank are
+ * determined. Between these values is interpolated linearly.
+ *
+ * <p>If all values come from primitive integer arrays, or all from primitive double arrays, they
+ * are copied into a primitive array without converting each element.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class PercentileSelector {
+
+  /**
+   * Finds a percentile.
+   *
+   * @param values The numbers and arrays of numbers.
+   * @param fraction The percentile as a fraction between 0 and 1, e.g. 0.5 for the median.
+   * @param configuration The configuration.
+   * @return The percentile, or <code>null</code> if there are no values.
+   */
+  static @Nullable BigDecimal percentile(
+      List<EvaluationValue> values, BigDecimal fraction, ExpressionConfiguration configuration) {
+    MathContext mathContext = configuration.getMathContext();
+
+    long[] longs = copyPrimitives(values, configuration, false);
+    if (longs != null) {
+      if (longs.length == 0) return null;
+      Rank rank = Rank.of(fraction, longs.length);
+      select(longs, rank.index);
+      BigDecimal lower = BigDecimal.valueOf(longs[rank.index]);
+      if (rank.weight.signum() == 0) return lower;
+      return rank.interpolate(
+          lower, BigDecimal.valueOf(minimum(longs, rank.index + 1)), mathContext);
+    }
+
+    long[] doubles = copyPrimitives(values, configuration, true);
+    if (doubles != null) {
+      if (doubles.length == 0) return null;
+      Rank rank = Rank.of(fraction, doubles.length);
+      select(doubles, rank.index);
+      BigDecimal lower = fromSortable(doubles[rank.index], mathContext);
+      if (rank.weight.signum() == 0) return lower;
+      BigDecimal upper = fromSortable(minimum(doubles, rank.index + 1), mathContext);
+      return rank.interpolate(lower, upper, mathContext);
+    }
+
+    List<BigDecimal> numbers = new ArrayList<>();
+    for (EvaluationValue value : values) collect(value, numbers);
+    if (numbers.isEmpty()) return null;
+    BigDecimal[] decimals = numbers.toArray(new BigDecimal[0]);
+    Rank rank = Rank.of(fraction, decimals.length);
+    select(decimals, rank.index);
+    BigDecimal lower = decimals[rank.index];
+    if (rank.weight.signum() == 0) return lower;
+    BigDecimal upper = decimals[rank.index + 1];
+    for (int i = rank.index + 2; i < decimals.length; i++) {
+      if (decimals[i].compareTo(upper) < 0) upper = decimals[i];
+    }
+    return rank.interpolate(lower, upper, mathContext);
+  }
+
+  private static void collect(EvaluationValue value, List<BigDecimal> numbers) {
+    if (value.isArrayValue()) {
+      for (EvaluationValue element : value.getArrayValue()) collect(element, numbers);
+    } else {
+      numbers.add(value.getNumberValue());
+    }
+  }
+
+  /**
+   * Copies all values into a primitive array, if they all come from primitive integer arrays, or
+   * all from primitive double arrays. Doubles are stored as {@link #toSortable(double)} keys.
+   *
+   * @return The copied values, or <code>null</code> if the values are not all of the requested
+   *     kind, or a double is NaN.
+   */
+  private static long @Nullable [] copyPrimitives(
+      List<EvaluationValue> values, ExpressionConfiguration configuration, boolean doubles) {
+    long size = 0;
+    for (EvaluationValue value : values) {
+      if (!value.isArrayValue()) return null;
+      List<EvaluationValue> source =
+          NumberAggregator.primitiveSource(value.getArrayValue(), configuration);
+      if (!(doubles ? source instanceof DoubleArrayWrapper : source instanceof LongArrayWrapper)) {
+        return null;
+      }
+      size += source.size();
+    }
+
+    long[] copy = new long[Math.toIntExact(size)];
+    int offset = 0;
+    for (EvaluationValue value : values) {
+      List<EvaluationValue> source =
+          NumberAggregator.primitiveSource(value.getArrayValue(), configuration);
+      if (source instanceof DoubleArrayWrapper wrapper) {
+        for (int i = 0; i < wrapper.size(); i++) {
+          double element = wrapper.getDouble(i);
+          if (Double.isNaN(element)) return null;
+          copy[offset++] = toSortable(element);
+        }
+      } else {
+        LongArrayWrapper wrapper = (LongArrayWrapper) source;
+        for (int i = 0; i < wrapper.size(); i++) copy[offset++] = wrapper.getLong(i);
+      }
+    }
+    return copy;
+  }
+
+  /** Maps a double to a long, so that the order of the longs is the order of the doubles. */
+  private static long toSortable(double value) {
+    long bits = Double.doubleToLongBits(value);
+    return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+  }
+
+  private static BigDecimal fromSortable(long key, MathContext mathContext) {
+    double value = Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE));
+    return NumberConverter.convertDouble(value, mathContext).getNumberValue();
+  }
+
+  private static long minimum(long[] values, int from) {
+    long minimum = values[from];
+    for (int i = from + 1; i < values.length; i++) minimum = Math.min(minimum, values[i]);
+    return minimum;
+  }
+
+  /**
+   * Partially orders the values, so that the value at index k is the one that would be there if the
+   * values were sorted, all values before it are lower or equal, and all values after it are
+   * greater or equal. Falls back to sorting the remaining range if the partitions are unbalanced
+   * too often.
+   */
+  private static void select(long[] values, int k) {
+    int from = 0;
+    int to = values.length - 1;
+    int depth = 2 * (32 - Integer.numberOfLeadingZeros(values.length));
+    while (from < to) {
+      if (depth-- == 0) {
+        Arrays.sort(values, from, to + 1);
+        return;
+      }
+      long a = values[from];
+      long b = values[(from + to) >>> 1];
+      long c = values[to];
+      long pivot = Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+
+      int i = from;
+      int j = to;
+      while (i <= j) {
+        while (values[i] < pivot) i++;
+        while (values[j] > pivot) j--;
+        if (i <= j) {
+          long swap = values[i];
+          values[i++] = values[j];
+          values[j--] = swap;
+        }
+      }
+      if (k <= j) to = j;
+      else if (k >= i) from = i;
+      else return;
+    }
+  }
+
+  /** The same as {@link #select(long[], int)}, for decimal numbers. */
+  private static void select(BigDecimal[] values, int k) {
+    int from = 0;
+    int to = values.length - 1;
+    int depth = 2 * (32 - Integer.numberOfLeadingZeros(values.length));
+    while (from < to) {
+      if (depth-- == 0) {
+        Arrays.sort(values, from, to + 1);
+        return;
+      }
+      BigDecimal a = values[from];
+      BigDecimal b = values[(from + to) >>> 1];
+      BigDecimal c = values[to];
+      BigDecimal pivot = a.min(b).max(a.max(b).min(c));
+
+      int i = from;
+      int j = to;
+      while (i <= j) {
+        while (values[i].compareTo(pivot) < 0) i++;
+        while (values[j].compareTo(pivot) > 0) j--;
+        if (i <= j) {
+          BigDecimal swap = values[i];
+          values[i++] = values[j];
+          values[j--] = swap;
+        }
+      }
+      if (k <= j) to = j;
+      else if (k >= i) from = i;
+      else return;
+    }
+  }
+
+  /** The position of a percentile in the ordered values. */
+  @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+  private static final class Rank {
+    private final int index;
+    private final BigDecimal weight;
+
+    /** The rank is <code>fraction * (size - 1)</code>, as in most spreadsheet applications. */
+    static Rank of(BigDecimal fraction, int size) {
+      BigDecimal position = fraction.multiply(BigDecimal.valueOf(size - 1L));
+      BigDecimal index = position.setScale(0, RoundingMode.FLOOR);
+      return new Rank(index.intValueExact(), position.subtract(index));
+    }
+
+    BigDecimal interpolate(BigDecimal lower, BigDecimal upper, MathContext mathContext) {
+      return lower.add(upper.subtract(lower).multiply(weight), mathContext);
+    }
+  }
+}
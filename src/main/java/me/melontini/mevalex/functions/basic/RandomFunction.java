@@ -15,26 +15,98 @@
 */
 package me.melontini.mevalex.functions.basic;
 
-import java.security.SecureRandom;
+import static me.melontini.mevalex.data.EvaluationType.ANY;
+import static me.melontini.mevalex.data.EvaluationType.ARRAY;
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.Expression;
+import me.melontini.mevalex.config.ExpressionConfiguration;
+import me.melontini.mevalex.data.EvaluationType;
 import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.types.ArrayValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
+import me.melontini.mevalex.functions.FunctionParameter;
+import me.melontini.mevalex.parser.ParseException;
 import me.melontini.mevalex.parser.Token;
 
-/** Random function produces a random value between 0 and 1. */
+/**
+ * Random function produces a random value between 0 (inclusive) and 1 (exclusive). With two
+ * parameters, the value is between <code>min</code> (inclusive) and <code>max</code> (exclusive).
+ * With a third parameter, an array with the given count of random values is produced, up to {@value
+ * #MAX_COUNT} values.
+ *
+ * <p>The random numbers are taken from the {@link ExpressionConfiguration#getRandomSupplier()}.
+ */
+@FunctionMetadata(resultType = ANY, deterministic = false, cost = 5)
+@FunctionParameter(name = "parameters", isVarArg = true, type = NUMBER)
 public class RandomFunction extends AbstractFunction {
 
+  /** The maximum number of random values, that can be produced at once. */
+  public static final int MAX_COUNT = 100_000;
+
   @Override
   public EvaluationValue evaluate(
-      EvaluationContext context, Token functionToken, EvaluationValue... parameterValues) {
+      EvaluationContext context, Token functionToken, EvaluationValue... parameterValues)
+      throws EvaluationException {
+    Expression expression = context.expression();
+    Random random = expression.getConfiguration().getRandomSupplier().get();
+
+    if (parameterValues.length == 0) return expression.convertDoubleValue(random.nextDouble());
+
+    double min = parameterValues[0].getNumberValue().doubleValue();
+    double max = parameterValues[1].getNumberValue().doubleValue();
+    if (!Double.isFinite(min) || !Double.isFinite(max))
+      throw new EvaluationException(
+          functionToken, "Parameters 'min' and 'max' must be within the range of a double");
+    if (!(min < max))
+      throw new EvaluationException(
+          functionToken, "Parameter 'min' must be less than parameter 'max'");
+    if (parameterValues.length == 2) return expression.convertDoubleValue(next(random, min, max));
 
-    SecureRandom secureRandom = new SecureRandom();
+    int count = parameterValues[2].getNumberValue().intValueExact();
+    List<EvaluationValue> values = new ArrayList<>(count);
+    for (int i = 0; i < count; i++)
+      values.add(expression.convertDoubleValue(next(random, min, max)));
+    return ArrayValue.of(values);
+  }
 
-    return context.expression().convertDoubleValue(secureRandom.nextDouble());
+  @Override
+  public void validatePreEvaluation(Token token, EvaluationValue... parameterValues)
+      throws EvaluationException {
+    super.validatePreEvaluation(token, parameterValues);
+    if (parameterValues.length == 1 || parameterValues.length > 3)
+      throw new EvaluationException(token, "Expected 0, 2 or 3 parameters");
+    if (parameterValues.length == 3) {
+      BigDecimal count = parameterValues[2].getNumberValue();
+      if (count.signum() < 0 || count.stripTrailingZeros().scale() > 0)
+        throw new EvaluationException(token, "Parameter 'count' must be a non-negative integer");
+      if (count.compareTo(BigDecimal.valueOf(MAX_COUNT)) > 0)
+        throw new EvaluationException(
+            token, "Parameter 'count' must not be greater than " + MAX_COUNT);
+    }
   }
 
   @Override
-  public boolean canInline() {
-    return false;
+  public EvaluationType inferResultType(Token functionToken, EvaluationType... parameterTypes)
+      throws ParseException {
+    super.inferResultType(functionToken, parameterTypes);
+    return parameterTypes.length == 3 ? ARRAY : NUMBER;
+  }
+
+  private static double next(Random random, double min, double max) {
+    double fraction = random.nextDouble();
+    double range = max - min;
+    // the range of bounds with opposite signs may overflow, the weighted sum can not
+    double value =
+        Double.isInfinite(range) ? min * (1 - fraction) + max * fraction : min + fraction * range;
+    // rounding may produce max for very close bounds
+    return value < max ? value : Math.nextDown(max);
   }
 }
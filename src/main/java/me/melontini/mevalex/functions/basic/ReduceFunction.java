@@ -0,0 +1,50 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.functions.basic;
+
+import static me.melontini.mevalex.data.EvaluationType.ARRAY;
+
+import java.util.List;
+import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.types.LambdaValue;
+import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
+import me.melontini.mevalex.functions.FunctionParameter;
+import me.melontini.mevalex.parser.Token;
+
+/**
+ * Combines the elements of an array, starting with an initial value, by applying a lambda
+ * expression to the accumulated value and each element, e.g. <code>
+ * REDUCE(items, 0, (sum, x) -> sum + x.price)</code>.
+ */
+@FunctionMetadata(cost = 10)
+@FunctionParameter(name = "array", type = ARRAY)
+@FunctionParameter(name = "initial")
+@FunctionParameter(name = "function", lambdaParameters = 2)
+public class ReduceFunction extends AbstractFunction {
+  @Override
+  public EvaluationValue evaluate(
+      EvaluationContext context, Token functionToken, EvaluationValue... parameterValues)
+      throws EvaluationException {
+    List<EvaluationValue> array = MapFunction.arrayParameter(functionToken, parameterValues[0]);
+    LambdaValue.Invocation function = ((LambdaValue) parameterValues[2]).bind(context);
+    EvaluationValue result = parameterValues[1];
+    for (EvaluationValue element : array) result = function.apply(result, element);
+    return result;
+  }
+}
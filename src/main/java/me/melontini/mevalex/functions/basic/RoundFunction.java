@@ -15,10 +15,13 @@
 */
 package me.melontini.mevalex.functions.basic;
 
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.NumberValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
@@ -26,8 +29,9 @@ import me.melontini.mevalex.parser.Token;
  * Rounds the given value to the specified scale, using the {@link java.math.MathContext} of the
  * expression configuration.
  */
-@FunctionParameter(name = "value")
-@FunctionParameter(name = "scale")
+@FunctionMetadata(resultType = NUMBER, cost = 2)
+@FunctionParameter(name = "value", type = NUMBER)
+@FunctionParameter(name = "scale", type = NUMBER)
 public class RoundFunction extends AbstractFunction {
   @Override
   public EvaluationValue evaluate(
@@ -15,26 +15,33 @@
 */
 package me.melontini.mevalex.functions.basic;
 
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+
 import java.math.BigDecimal;
 import java.math.MathContext;
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.NumberValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.BigDecimalMath;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
-/** Square root function, uses the standard {@link BigDecimal#sqrt(MathContext)} implementation. */
-@FunctionParameter(name = "value", nonNegative = true)
+/**
+ * Square root function, uses the standard {@link BigDecimal#sqrt(MathContext)} implementation.
+ *
+ * @see BigDecimalMath#sqrt(BigDecimal, MathContext)
+ */
+@FunctionMetadata(resultType = NUMBER, cost = 10)
+@FunctionParameter(name = "value", nonNegative = true, type = NUMBER)
 public class SqrtFunction extends AbstractFunction {
 
   @Override
   public EvaluationValue evaluate(
       EvaluationContext context, Token functionToken, EvaluationValue... parameterValues) {
 
-    return NumberValue.of(
-        parameterValues[0]
-            .getNumberValue()
-            .sqrt(context.expression().getConfiguration().getMathContext()));
+    MathContext mathContext = context.expression().getConfiguration().getMathContext();
+    return NumberValue.of(BigDecimalMath.sqrt(parameterValues[0].getNumberValue(), mathContext));
   }
 }
@@ -0,0 +1,41 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.functions.basic;
+
+import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.types.NumberValue;
+import me.melontini.mevalex.functions.BigDecimalMath;
+import me.melontini.mevalex.functions.FunctionParameter;
+import me.melontini.mevalex.parser.Token;
+
+/**
+ * Returns the sample standard deviation of the numeric arguments, which is the square root of the
+ * sample variance. Arrays are flattened, so that each element counts as one argument.
+ */
+@FunctionParameter(name = "value", isVarArg = true)
+public class StdDevFunction extends VarianceFunction {
+  @Override
+  public EvaluationValue evaluate(
+      EvaluationContext context, Token functionToken, EvaluationValue... parameterValues)
+      throws EvaluationException {
+    return NumberValue.of(
+        BigDecimalMath.sqrt(
+            variance(context, functionToken, parameterValues),
+            context.expression().getConfiguration().getMathContext()));
+  }
+}
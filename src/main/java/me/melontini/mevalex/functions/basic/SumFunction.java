@@ -15,42 +15,30 @@
 */
 package me.melontini.mevalex.functions.basic;
 
-import java.math.BigDecimal;
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+
 import me.melontini.mevalex.EvaluationContext;
-import me.melontini.mevalex.Expression;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.NumberValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
-/** Returns the sum value of all parameters. */
+/**
+ * Returns the sum value of all parameters. Arrays are summed up element by element. Arrays that
+ * were converted from primitive arrays are summed up without converting each element.
+ */
+@FunctionMetadata(resultType = NUMBER, cost = 5)
 @FunctionParameter(name = "value", isVarArg = true)
 public class SumFunction extends AbstractFunction {
   @Override
   public EvaluationValue evaluate(
       EvaluationContext context, Token functionToken, EvaluationValue... parameterValues) {
-    BigDecimal sum = BigDecimal.ZERO;
+    NumberAggregator aggregator = new NumberAggregator(context.expression().getConfiguration());
     for (EvaluationValue parameter : parameterValues) {
-      sum =
-          sum.add(
-              recursiveSum(parameter, context.expression()),
-              context.expression().getConfiguration().getMathContext());
-    }
-    return NumberValue.of(sum);
-  }
-
-  private BigDecimal recursiveSum(EvaluationValue parameter, Expression expression) {
-    BigDecimal sum = BigDecimal.ZERO;
-    if (parameter.isArrayValue()) {
-      for (EvaluationValue element : parameter.getArrayValue()) {
-        sum =
-            sum.add(
-                recursiveSum(element, expression), expression.getConfiguration().getMathContext());
-      }
-    } else {
-      sum = sum.add(parameter.getNumberValue(), expression.getConfiguration().getMathContext());
+      aggregator.add(parameter);
     }
-    return sum;
+    return NumberValue.of(aggregator.getSum());
   }
 }
@@ -21,6 +21,7 @@ import me.melontini.mevalex.Expression;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.NullValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
@@ -60,6 +61,7 @@ import me.melontini.mevalex.parser.Token;
  *
  * @author oswaldo.bapvic.jr
  */
+@FunctionMetadata(cost = 2)
 @FunctionParameter(name = "expression")
 @FunctionParameter(name = "value1")
 @FunctionParameter(name = "result1", isLazy = true)
@@ -0,0 +1,241 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.functions.basic;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.List;
+import lombok.Getter;
+import me.melontini.mevalex.config.ExpressionConfiguration;
+import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.conversion.NumberConverter;
+import me.melontini.mevalex.data.util.DoubleArrayWrapper;
+import me.melontini.mevalex.data.util.LongArrayWrapper;
+import me.melontini.mevalex.functions.BigDecimalMath;
+
+/**
+ * Calculates the sample variance of numbers in a single pass, flattening arrays. Numbers are added
+ * with Welford's algorithm, partial results of array chunks are merged with the pairwise update of
+ * Chan et al.
+ *
+ * <p>Arrays that were converted from primitive integer arrays are aggregated exactly, by summing up
+ * the values and their squares. Primitive double arrays are aggregated with double arithmetic if
+ * the precision is 16 or lower.
+ */
+final class VarianceAggregator {
+
+  /** Additional digits for intermediate results, so that rounding errors do not accumulate. */
+  private static final int GUARD_DIGITS = 8;
+
+  private final ExpressionConfiguration configuration;
+  private final MathContext mathContext;
+  private final MathContext workingContext;
+
+  /** The number of added values. */
+  @Getter private long count;
+
+  private BigDecimal mean = BigDecimal.ZERO;
+  private BigDecimal squaredDeviations = BigDecimal.ZERO;
+
+  VarianceAggregator(ExpressionConfiguration configuration) {
+    this.configuration = configuration;
+    this.mathContext = configuration.getMathContext();
+    this.workingContext =
+        mathContext.getPrecision() == 0
+            ? mathContext
+            : new MathContext(
+                mathContext.getPrecision() + GUARD_DIGITS, mathContext.getRoundingMode());
+  }
+
+  /**
+   * Adds a number, or all numbers of an array.
+   *
+   * @param value The number or array.
+   */
+  void add(EvaluationValue value) {
+    if (!value.isArrayValue()) {
+      add(value.getNumberValue());
+      return;
+    }
+
+    List<EvaluationValue> array = value.getArrayValue();
+    List<EvaluationValue> source = NumberAggregator.primitiveSource(array, configuration);
+    if (source instanceof LongArrayWrapper longs) {
+      addLongs(longs);
+    } else if (source instanceof DoubleArrayWrapper doubles) {
+      int precision = mathContext.getPrecision();
+      boolean doublePrecision = precision != 0 && precision <= BigDecimalMath.DOUBLE_PRECISION;
+      if (!doublePrecision || !addDoubles(doubles)) addDecimals(doubles);
+    } else {
+      for (EvaluationValue element : array) add(element);
+    }
+  }
+
+  /**
+   * Returns the sample variance of the added values.
+   *
+   * @return The variance, rounded to the math context of the configuration. Must only be called if
+   *     at least two values were added.
+   */
+  BigDecimal getVariance() {
+    return squaredDeviations.divide(BigDecimal.valueOf(count - 1), mathContext);
+  }
+
+  private void add(BigDecimal value) {
+    count++;
+    BigDecimal delta = value.subtract(mean, workingContext);
+    mean = mean.add(delta.divide(BigDecimal.valueOf(count), workingContext), workingContext);
+    squaredDeviations =
+        squaredDeviations.add(
+            delta.multiply(value.subtract(mean, workingContext), workingContext), workingContext);
+  }
+
+  private VarianceAggregator merge(VarianceAggregator other) {
+    merge(other.count, other.mean, other.squaredDeviations);
+    return this;
+  }
+
+  private void merge(long otherCount, BigDecimal otherMean, BigDecimal otherSquaredDeviations) {
+    if (otherCount == 0) return;
+    if (count == 0) {
+      count = otherCount;
+      mean = otherMean;
+      squaredDeviations = otherSquaredDeviations;
+      return;
+    }
+    BigDecimal total = BigDecimal.valueOf(count + otherCount);
+    BigDecimal delta = otherMean.subtract(mean, workingContext);
+    BigDecimal otherWeight = BigDecimal.valueOf(otherCount).divide(total, workingContext);
+    mean = mean.add(delta.multiply(otherWeight, workingContext), workingContext);
+    squaredDeviations =
+        squaredDeviations
+            .add(otherSquaredDeviations, workingContext)
+            .add(
+                delta
+                    .multiply(delta, workingContext)
+                    .multiply(BigDecimal.valueOf(count), workingContext)
+                    .multiply(otherWeight, workingContext),
+                workingContext);
+    count += otherCount;
+  }
+
+  /**
+   * Merges an integer array using exact sums: the squared deviations are <code>
+   * (n * sum(x^2) - sum(x)^2) / n</code>, which is only rounded once.
+   */
+  private void addLongs(LongArrayWrapper longs) {
+    int size = longs.size();
+    if (size == 0) return;
+    BigInteger[] sums =
+        NumberAggregator.reduceChunks(
+            size,
+            configuration,
+            (from, to) ->
+                new BigInteger[] {
+                  NumberAggregator.sumLongs(longs, from, to).toBigIntegerExact(),
+                  sumSquares(longs, from, to)
+                },
+            (a, b) -> new BigInteger[] {a[0].add(b[0]), a[1].add(b[1])});
+    BigDecimal n = BigDecimal.valueOf(size);
+    BigInteger numerator = BigInteger.valueOf(size).multiply(sums[1]).subtract(sums[0].pow(2));
+    merge(
+        size,
+        new BigDecimal(sums[0]).divide(n, workingContext),
+        new BigDecimal(numerator).divide(n, workingContext));
+  }
+
+  /** Sums up the squares with a 128 bit accumulator, that is flushed before it can overflow. */
+  private static BigInteger sumSquares(LongArrayWrapper longs, int from, int to) {
+    BigInteger sum = BigInteger.ZERO;
+    long high = 0;
+    long low = 0;
+    for (int i = from; i < to; i++) {
+      long element = longs.getLong(i);
+      long squareLow = element * element;
+      long newLow = low + squareLow;
+      if (Long.compareUnsigned(newLow, low) < 0) high++;
+      low = newLow;
+      high += Math.multiplyHigh(element, element);
+      if (high > 1L << 61) {
+        sum = sum.add(toBigInteger(high, low));
+        high = 0;
+        low = 0;
+      }
+    }
+    return sum.add(toBigInteger(high, low));
+  }
+
+  private static BigInteger toBigInteger(long high, long low) {
+    BigInteger unsignedLow =
+        BigInteger.valueOf(low >>> 1).shiftLeft(1).or(BigInteger.valueOf(low & 1));
+    return BigInteger.valueOf(high).shiftLeft(64).or(unsignedLow);
+  }
+
+  /** Merges a double array, converting each element to a decimal number. */
+  private void addDecimals(DoubleArrayWrapper doubles) {
+    merge(
+        NumberAggregator.reduceChunks(
+            doubles.size(),
+            configuration,
+            (from, to) -> {
+              VarianceAggregator chunk = new VarianceAggregator(configuration);
+              for (int i = from; i < to; i++) {
+                chunk.add(
+                    NumberConverter.convertDouble(doubles.getDouble(i), mathContext)
+                        .getNumberValue());
+              }
+              return chunk;
+            },
+            VarianceAggregator::merge));
+  }
+
+  /**
+   * Merges a double array using Welford's algorithm with double arithmetic.
+   *
+   * @return <code>false</code> if the array contains values that are not finite, or the calculation
+   *     overflows. Nothing is merged in that case.
+   */
+  private boolean addDoubles(DoubleArrayWrapper doubles) {
+    if (doubles.size() == 0) return true;
+    double[] moments =
+        NumberAggregator.reduceChunks(
+            doubles.size(),
+            configuration,
+            (from, to) -> {
+              double[] chunk = new double[3];
+              for (int i = from; i < to; i++) {
+                double element = doubles.getDouble(i);
+                chunk[0]++;
+                double delta = element - chunk[1];
+                chunk[1] += delta / chunk[0];
+                chunk[2] += delta * (element - chunk[1]);
+              }
+              return chunk;
+            },
+            (a, b) -> {
+              double total = a[0] + b[0];
+              double delta = b[1] - a[1];
+              a[2] += b[2] + delta * delta * a[0] * b[0] / total;
+              a[1] += delta * b[0] / total;
+              a[0] = total;
+              return a;
+            });
+    if (!Double.isFinite(moments[1]) || !Double.isFinite(moments[2])) return false;
+    merge(doubles.size(), new BigDecimal(moments[1]), new BigDecimal(moments[2]));
+    return true;
+  }
+}
@@ -15,15 +15,22 @@
 */
 package me.melontini.mevalex.functions.datetime;
 
+import static me.melontini.mevalex.data.EvaluationType.DATE_TIME;
+import static me.melontini.mevalex.data.EvaluationType.STRING;
+
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.Locale;
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.EvaluationException;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.StringValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
+import me.melontini.mevalex.parser.Solvable;
 import me.melontini.mevalex.parser.Token;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Function to format a DATE_TIME vale. Required parameter is the DATE_TIME value to format. First
@@ -31,8 +38,9 @@ import me.melontini.mevalex.parser.Token;
  * format is given, the first format defined in the configured formats is used. Second optional
  * parameter is the zone-id to use with formatting. Default is the configured zone-id.
  */
-@FunctionParameter(name = "value")
-@FunctionParameter(name = "parameters", isVarArg = true)
+@FunctionMetadata(resultType = STRING, cost = 20)
+@FunctionParameter(name = "value", type = DATE_TIME)
+@FunctionParameter(name = "parameters", isVarArg = true, type = STRING)
 public class DateTimeFormatFunction extends AbstractFunction {
   @Override
   public EvaluationValue evaluate(
@@ -43,10 +51,51 @@ public class DateTimeFormatFunction extends AbstractFunction {
         context.expression().getConfiguration().getDateTimeFormatters().get(0);
     if (parameterValues.length > 1) {
       formatter =
-          DateTimeFormatter.ofPattern(parameterValues[1].getStringValue())
-              .withLocale(context.expression().getConfiguration().getLocale());
+          DateTimeFormatterCache.get(
+              functionToken,
+              parameterValues[1].getStringValue(),
+              context.expression().getConfiguration().getLocale(),
+              1);
     }
+    return format(context, functionToken, parameterValues, formatter);
+  }
+
+  /**
+   * Compiles the formatter once, if the format is constant. The formatter is compiled again, if the
+   * expression is evaluated with a configuration using a different locale.
+   */
+  @Override
+  public @Nullable Solvable specialize(
+      Token functionToken, EvaluationValue[] constants, Solvable... parameters) {
+    if (parameters.length < 2 || constants[1] == null || !constants[1].isStringValue()) return null;
+    String pattern = constants[1].getStringValue();
+
+    return new Solvable() {
+      private volatile DateTimeFormatter compiled;
 
+      @Override
+      public EvaluationValue solve(EvaluationContext context) throws EvaluationException {
+        EvaluationValue[] parameterValues = new EvaluationValue[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+          parameterValues[i] = parameters[i].solve(context);
+        }
+        validatePreEvaluation(functionToken, parameterValues);
+
+        Locale locale = context.expression().getConfiguration().getLocale();
+        DateTimeFormatter formatter = compiled;
+        if (formatter == null || !formatter.getLocale().equals(locale))
+          compiled = formatter = DateTimeFormatterCache.get(functionToken, pattern, locale, 1);
+        return format(context, functionToken, parameterValues, formatter);
+      }
+    };
+  }
+
+  private static EvaluationValue format(
+      EvaluationContext context,
+      Token functionToken,
+      EvaluationValue[] parameterValues,
+      DateTimeFormatter formatter)
+      throws EvaluationException {
     ZoneId zoneId = context.expression().getConfiguration().getZoneId();
     if (parameterValues.length == 3) {
       zoneId = ZoneIdConverter.convert(functionToken, parameterValues[2].getStringValue());
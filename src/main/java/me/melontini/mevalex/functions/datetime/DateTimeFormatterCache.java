@@ -0,0 +1,80 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.functions.datetime;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.parser.Token;
+
+/**
+ * A bounded cache of compiled {@link DateTimeFormatter} patterns, shared by the date-time
+ * functions. Formatters are immutable and thread-safe, so a cached formatter can be used by all
+ * expressions. If the cache is full, it is cleared, so that a flood of distinct patterns can not
+ * exhaust memory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class DateTimeFormatterCache {
+
+  /** The maximum number of cached formatters. */
+  public static final int MAX_SIZE = 512;
+
+  private static final Map<Key, DateTimeFormatter> CACHE = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the formatter for a pattern. Throws an {@link EvaluationException} if the pattern is
+   * invalid.
+   *
+   * @param referenceToken The token for the error message, usually the function token.
+   * @param pattern The pattern, as used by {@link DateTimeFormatter#ofPattern(String, Locale)}.
+   * @param locale The locale of the formatter.
+   * @param parameterIndex The index of the parameter with the pattern, for the error message.
+   * @return The cached or newly compiled formatter.
+   * @throws EvaluationException In case the pattern is invalid.
+   */
+  public static DateTimeFormatter get(
+      Token referenceToken, String pattern, Locale locale, int parameterIndex)
+      throws EvaluationException {
+    Key key = new Key(pattern, locale);
+    DateTimeFormatter formatter = CACHE.get(key);
+    if (formatter != null) return formatter;
+
+    try {
+      formatter = DateTimeFormatter.ofPattern(pattern, locale);
+    } catch (IllegalArgumentException ex) {
+      throw new EvaluationException(
+          referenceToken,
+          String.format(
+              "Illegal date-time format in parameter %d: '%s'", parameterIndex + 1, pattern));
+    }
+    if (CACHE.size() >= MAX_SIZE) CACHE.clear();
+    CACHE.put(key, formatter);
+    return formatter;
+  }
+
+  @EqualsAndHashCode
+  @RequiredArgsConstructor
+  private static final class Key {
+    private final String pattern;
+    private final Locale locale;
+  }
+}
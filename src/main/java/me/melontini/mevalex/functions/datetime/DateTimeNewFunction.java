@@ -15,6 +15,8 @@
 */
 package me.melontini.mevalex.functions.datetime;
 
+import static me.melontini.mevalex.data.EvaluationType.DATE_TIME;
+
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -26,6 +28,7 @@ import me.melontini.mevalex.EvaluationException;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.DateTimeValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
@@ -37,6 +40,7 @@ import me.melontini.mevalex.parser.Token;
  * parameter is a string value, it is treated as a zone ID. If no zone ID is specified, the
  * configured zone ID is used.
  */
+@FunctionMetadata(resultType = DATE_TIME, cost = 5)
 @FunctionParameter(name = "values", isVarArg = true, nonNegative = true)
 public class DateTimeNewFunction extends AbstractFunction {
   @Override
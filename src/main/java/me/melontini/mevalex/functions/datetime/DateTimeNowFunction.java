@@ -15,11 +15,14 @@
 */
 package me.melontini.mevalex.functions.datetime;
 
+import static me.melontini.mevalex.data.EvaluationType.DATE_TIME;
+
 import java.time.Instant;
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.DateTimeValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.parser.Token;
 
 /**
@@ -37,15 +40,11 @@ import me.melontini.mevalex.parser.Token;
  *
  * @author oswaldobapvicjr
  */
+@FunctionMetadata(resultType = DATE_TIME, deterministic = false, cost = 2)
 public class DateTimeNowFunction extends AbstractFunction {
   @Override
   public EvaluationValue evaluate(
       EvaluationContext context, Token functionToken, EvaluationValue... parameterValues) {
     return DateTimeValue.of(Instant.now());
   }
-
-  @Override
-  public boolean canInline() {
-    return false;
-  }
 }
@@ -15,20 +15,27 @@
 */
 package me.melontini.mevalex.functions.datetime;
 
+import static me.melontini.mevalex.data.EvaluationType.DATE_TIME;
+import static me.melontini.mevalex.data.EvaluationType.STRING;
+
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.EvaluationException;
 import me.melontini.mevalex.config.ExpressionConfiguration;
 import me.melontini.mevalex.data.EvaluationValue;
-import me.melontini.mevalex.data.conversion.DateTimeConverter;
+import me.melontini.mevalex.data.conversion.DefaultEvaluationValueConverter;
 import me.melontini.mevalex.data.types.DateTimeValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
+import me.melontini.mevalex.parser.Solvable;
 import me.melontini.mevalex.parser.Token;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Parses a date-time string to a {@link DateTimeValue} value.
@@ -39,15 +46,66 @@ import me.melontini.mevalex.parser.Token;
  * configured zone is used. If no formatter is specified, the function will use the formatters
  * defined at the {@link ExpressionConfiguration}.
  */
-@FunctionParameter(name = "value")
-@FunctionParameter(name = "parameters", isVarArg = true)
+@FunctionMetadata(resultType = DATE_TIME, cost = 20)
+@FunctionParameter(name = "value", type = STRING)
+@FunctionParameter(name = "parameters", isVarArg = true, type = STRING)
 public class DateTimeParseFunction extends AbstractFunction {
 
   @Override
   public EvaluationValue evaluate(
       EvaluationContext context, Token functionToken, EvaluationValue... parameterValues)
       throws EvaluationException {
+    List<DateTimeFormatter> formatters;
+    if (parameterValues.length > 2) {
+      Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+      formatters = new ArrayList<>(parameterValues.length - 2);
+      for (int i = 2; i < parameterValues.length; i++) {
+        formatters.add(
+            DateTimeFormatterCache.get(
+                functionToken, parameterValues[i].getStringValue(), locale, i));
+      }
+    } else {
+      formatters = context.expression().getConfiguration().getDateTimeFormatters();
+    }
+    return parse(context, functionToken, parameterValues, formatters);
+  }
+
+  /** Compiles the formatters once, if all format parameters are constant. */
+  @Override
+  public @Nullable Solvable specialize(
+      Token functionToken, EvaluationValue[] constants, Solvable... parameters) {
+    if (parameters.length <= 2) return null;
+
+    Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+    List<DateTimeFormatter> formatters = new ArrayList<>(parameters.length - 2);
+    for (int i = 2; i < parameters.length; i++) {
+      if (constants[i] == null || !constants[i].isStringValue()) return null;
+      try {
+        formatters.add(
+            DateTimeFormatterCache.get(functionToken, constants[i].getStringValue(), locale, i));
+      } catch (EvaluationException e) {
+        // reported when evaluated
+        return null;
+      }
+    }
+    List<DateTimeFormatter> compiled = List.copyOf(formatters);
+
+    return context -> {
+      EvaluationValue[] parameterValues = new EvaluationValue[parameters.length];
+      for (int i = 0; i < parameters.length; i++) {
+        parameterValues[i] = parameters[i].solve(context);
+      }
+      validatePreEvaluation(functionToken, parameterValues);
+      return parse(context, functionToken, parameterValues, compiled);
+    };
+  }
 
+  private static EvaluationValue parse(
+      EvaluationContext context,
+      Token functionToken,
+      EvaluationValue[] parameterValues,
+      List<DateTimeFormatter> formatters)
+      throws EvaluationException {
     String value = parameterValues[0].getStringValue();
 
     ZoneId zoneId = context.expression().getConfiguration().getZoneId();
@@ -55,26 +113,9 @@ public class DateTimeParseFunction extends AbstractFunction {
       zoneId = ZoneIdConverter.convert(functionToken, parameterValues[1].getStringValue());
     }
 
-    List<DateTimeFormatter> formatters;
-
-    if (parameterValues.length > 2) {
-      formatters = new ArrayList<>();
-      for (int i = 2; i < parameterValues.length; i++) {
-        try {
-          formatters.add(DateTimeFormatter.ofPattern(parameterValues[i].getStringValue()));
-        } catch (IllegalArgumentException ex) {
-          throw new EvaluationException(
-              functionToken,
-              String.format(
-                  "Illegal date-time format in parameter %d: '%s'",
-                  i + 1, parameterValues[i].getStringValue()));
-        }
-      }
-    } else {
-      formatters = context.expression().getConfiguration().getDateTimeFormatters();
-    }
-    DateTimeConverter converter = new DateTimeConverter();
-    Instant instant = converter.parseDateTime(value, zoneId, formatters);
+    Instant instant =
+        DefaultEvaluationValueConverter.DATE_TIME_CONVERTER.parseDateTime(
+            value, zoneId, formatters);
 
     if (instant == null) {
       throw new EvaluationException(
@@ -15,20 +15,24 @@
 */
 package me.melontini.mevalex.functions.datetime;
 
-import java.math.BigDecimal;
+import static me.melontini.mevalex.data.EvaluationType.DATE_TIME;
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.NumberValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
 /** Function to convert a DATE_TIME value to milliseconds in the epoch of 1970-01-01T00:00:00Z. */
-@FunctionParameter(name = "value")
+@FunctionMetadata(resultType = NUMBER)
+@FunctionParameter(name = "value", type = DATE_TIME)
 public class DateTimeToEpochFunction extends AbstractFunction {
   @Override
   public EvaluationValue evaluate(
       EvaluationContext context, Token functionToken, EvaluationValue... parameterValues) {
-    return NumberValue.of(BigDecimal.valueOf(parameterValues[0].getDateTimeValue().toEpochMilli()));
+    return NumberValue.of(parameterValues[0].getDateTimeValue().toEpochMilli());
   }
 }
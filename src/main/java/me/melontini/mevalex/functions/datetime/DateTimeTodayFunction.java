@@ -15,6 +15,9 @@
 */
 package me.melontini.mevalex.functions.datetime;
 
+import static me.melontini.mevalex.data.EvaluationType.DATE_TIME;
+import static me.melontini.mevalex.data.EvaluationType.STRING;
+
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
@@ -25,6 +28,7 @@ import me.melontini.mevalex.config.ExpressionConfiguration;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.DateTimeValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
@@ -45,7 +49,8 @@ import me.melontini.mevalex.parser.Token;
  *
  * @author oswaldobapvicjr
  */
-@FunctionParameter(name = "parameters", isVarArg = true)
+@FunctionMetadata(resultType = DATE_TIME, deterministic = false, cost = 2)
+@FunctionParameter(name = "parameters", isVarArg = true, type = STRING)
 public class DateTimeTodayFunction extends AbstractFunction {
   @Override
   public EvaluationValue evaluate(
@@ -64,9 +69,4 @@ public class DateTimeTodayFunction extends AbstractFunction {
     }
     return expression.getConfiguration().getZoneId();
   }
-
-  @Override
-  public boolean canInline() {
-    return false;
-  }
 }
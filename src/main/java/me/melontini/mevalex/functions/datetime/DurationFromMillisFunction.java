@@ -15,17 +15,22 @@
 */
 package me.melontini.mevalex.functions.datetime;
 
+import static me.melontini.mevalex.data.EvaluationType.DURATION;
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+
 import java.math.BigDecimal;
 import java.time.Duration;
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.DurationValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
 /** Converts the given milliseconds to a DURATION value. */
-@FunctionParameter(name = "value")
+@FunctionMetadata(resultType = DURATION)
+@FunctionParameter(name = "value", type = NUMBER)
 public class DurationFromMillisFunction extends AbstractFunction {
   @Override
   public EvaluationValue evaluate(
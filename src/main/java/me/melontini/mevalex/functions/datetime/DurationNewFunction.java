@@ -15,11 +15,15 @@
 */
 package me.melontini.mevalex.functions.datetime;
 
+import static me.melontini.mevalex.data.EvaluationType.DURATION;
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+
 import java.time.Duration;
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.DurationValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
@@ -28,8 +32,9 @@ import me.melontini.mevalex.parser.Token;
  * All other parameters are optional and specify hours, minutes, seconds, milliseconds and
  * nanoseconds.
  */
-@FunctionParameter(name = "days")
-@FunctionParameter(name = "parameters", isVarArg = true)
+@FunctionMetadata(resultType = DURATION, cost = 2)
+@FunctionParameter(name = "days", type = NUMBER)
+@FunctionParameter(name = "parameters", isVarArg = true, type = NUMBER)
 public class DurationNewFunction extends AbstractFunction {
   @Override
   public EvaluationValue evaluate(
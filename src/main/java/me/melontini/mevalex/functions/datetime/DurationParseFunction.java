@@ -15,11 +15,15 @@
 */
 package me.melontini.mevalex.functions.datetime;
 
+import static me.melontini.mevalex.data.EvaluationType.DURATION;
+import static me.melontini.mevalex.data.EvaluationType.STRING;
+
 import java.time.Duration;
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.DurationValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
@@ -27,7 +31,8 @@ import me.melontini.mevalex.parser.Token;
  * Converts the given ISO-8601 duration string representation to a duration value. E.g. "P2DT3H4M"
  * parses 2 days, 3 hours and 4 minutes.
  */
-@FunctionParameter(name = "value")
+@FunctionMetadata(resultType = DURATION, cost = 10)
+@FunctionParameter(name = "value", type = STRING)
 public class DurationParseFunction extends AbstractFunction {
   @Override
   public EvaluationValue evaluate(
@@ -15,20 +15,24 @@
 */
 package me.melontini.mevalex.functions.datetime;
 
-import java.math.BigDecimal;
+import static me.melontini.mevalex.data.EvaluationType.DURATION;
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.NumberValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
 /** Converts a DURATION value to the amount of milliseconds. */
-@FunctionParameter(name = "value")
+@FunctionMetadata(resultType = NUMBER)
+@FunctionParameter(name = "value", type = DURATION)
 public class DurationToMillisFunction extends AbstractFunction {
   @Override
   public EvaluationValue evaluate(
       EvaluationContext context, Token functionToken, EvaluationValue... parameterValues) {
-    return NumberValue.of(BigDecimal.valueOf(parameterValues[0].getDurationValue().toMillis()));
+    return NumberValue.of(parameterValues[0].getDurationValue().toMillis());
   }
 }
@@ -0,0 +1,102 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.functions.string;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.parser.Solvable;
+import me.melontini.mevalex.parser.Token;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Abstract implementation of the regular expression functions. The first parameter is the string,
+ * the second parameter is the regular expression. A constant regular expression is compiled once
+ * when parsing, other regular expressions are looked up in the {@link RegexPatternCache}. If the
+ * configuration defines a maximum number of regular expression steps, matching is aborted with an
+ * {@link EvaluationException} once it is exceeded. Matching that overflows the stack is reported
+ * the same way.
+ */
+public abstract class AbstractRegexFunction extends AbstractFunction {
+  @Override
+  public EvaluationValue evaluate(
+      EvaluationContext context, Token functionToken, EvaluationValue... parameterValues)
+      throws EvaluationException {
+    Pattern pattern = RegexPatternCache.get(functionToken, parameterValues[1].getStringValue(), 1);
+    return match(context, functionToken, pattern, parameterValues);
+  }
+
+  /** Compiles the regular expression once, if it is constant and valid. */
+  @Override
+  public @Nullable Solvable specialize(
+      Token functionToken, EvaluationValue[] constants, Solvable... parameters) {
+    if (constants[1] == null || !constants[1].isStringValue()) return null;
+    Pattern pattern;
+    try {
+      pattern = Pattern.compile(constants[1].getStringValue());
+    } catch (PatternSyntaxException ex) {
+      // reported by the regular evaluation
+      return null;
+    }
+
+    return context -> {
+      EvaluationValue[] parameterValues = new EvaluationValue[parameters.length];
+      for (int i = 0; i < parameters.length; i++) {
+        parameterValues[i] = parameters[i].solve(context);
+      }
+      validatePreEvaluation(functionToken, parameterValues);
+      return match(context, functionToken, pattern, parameterValues);
+    };
+  }
+
+  private EvaluationValue match(
+      EvaluationContext context,
+      Token functionToken,
+      Pattern pattern,
+      EvaluationValue[] parameterValues)
+      throws EvaluationException {
+    CharSequence input = parameterValues[0].getStringValue();
+    long maxSteps = context.expression().getConfiguration().getMaxRegexSteps();
+    if (maxSteps > 0) input = new StepLimitedCharSequence(input, maxSteps);
+    try {
+      return evaluateMatch(functionToken, pattern.matcher(input), parameterValues);
+    } catch (StepLimitedCharSequence.StepLimitExceededException ex) {
+      throw new EvaluationException(
+          functionToken, "Regular expression exceeded the maximum number of steps");
+    } catch (StackOverflowError ex) {
+      // the matcher recurses for each repetition of a group, so long inputs can exhaust the stack
+      throw new EvaluationException(
+          functionToken, "Regular expression exceeded the maximum recursion depth");
+    }
+  }
+
+  /**
+   * Evaluates the function with a matcher for the string and the regular expression.
+   *
+   * @param functionToken The function token from the parsed expression.
+   * @param matcher The matcher, matching the regular expression against the string.
+   * @param parameterValues The parameter values.
+   * @return The evaluation result.
+   * @throws EvaluationException In case the evaluation failed.
+   */
+  protected abstract EvaluationValue evaluateMatch(
+      Token functionToken, Matcher matcher, EvaluationValue... parameterValues)
+      throws EvaluationException;
+}
@@ -0,0 +1,68 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.functions.string;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.parser.Token;
+
+/**
+ * A bounded cache of compiled regular expressions, shared by the regular expression functions.
+ * Patterns are immutable and thread-safe, so a cached pattern can be used by all expressions. If
+ * the cache is full, it is cleared, so that a flood of distinct patterns can not exhaust memory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class RegexPatternCache {
+
+  /** The maximum number of cached patterns. */
+  public static final int MAX_SIZE = 512;
+
+  private static final Map<String, Pattern> CACHE = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the compiled pattern for a regular expression. Throws an {@link EvaluationException} if
+   * the regular expression is invalid.
+   *
+   * @param referenceToken The token for the error message, usually the function token.
+   * @param regex The regular expression, as used by {@link Pattern#compile(String)}.
+   * @param parameterIndex The index of the parameter with the regular expression, for the error
+   *     message.
+   * @return The cached or newly compiled pattern.
+   * @throws EvaluationException In case the regular expression is invalid.
+   */
+  public static Pattern get(Token referenceToken, String regex, int parameterIndex)
+      throws EvaluationException {
+    Pattern pattern = CACHE.get(regex);
+    if (pattern != null) return pattern;
+
+    try {
+      pattern = Pattern.compile(regex);
+    } catch (PatternSyntaxException ex) {
+      throw new EvaluationException(
+          referenceToken,
+          String.format(
+              "Illegal regular expression in parameter %d: '%s'", parameterIndex + 1, regex));
+    }
+    if (CACHE.size() >= MAX_SIZE) CACHE.clear();
+    CACHE.put(regex, pattern);
+    return pattern;
+  }
+}
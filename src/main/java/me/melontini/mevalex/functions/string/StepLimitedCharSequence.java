@@ -0,0 +1,61 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.functions.string;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A character sequence that counts the characters read by a regular expression matcher, and aborts
+ * the matching if too many characters were read. The matcher reads a character for each step, also
+ * when backtracking, so this limits the time spent on patterns with catastrophic backtracking.
+ */
+@RequiredArgsConstructor
+final class StepLimitedCharSequence implements CharSequence {
+
+  private final CharSequence delegate;
+  private final long maxSteps;
+  private long steps;
+
+  @Override
+  public char charAt(int index) {
+    if (++steps > maxSteps) throw StepLimitExceededException.INSTANCE;
+    return delegate.charAt(index);
+  }
+
+  @Override
+  public int length() {
+    return delegate.length();
+  }
+
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    return delegate.subSequence(start, end);
+  }
+
+  @Override
+  public String toString() {
+    return delegate.toString();
+  }
+
+  /** Thrown when the step limit is exceeded. Shared and without a stack trace, as it is cheap. */
+  static final class StepLimitExceededException extends RuntimeException {
+    private static final StepLimitExceededException INSTANCE = new StepLimitExceededException();
+
+    private StepLimitExceededException() {
+      super(null, null, false, false);
+    }
+  }
+}
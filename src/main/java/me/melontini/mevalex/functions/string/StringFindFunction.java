@@ -0,0 +1,41 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.functions.string;
+
+import static me.melontini.mevalex.data.EvaluationType.STRING;
+
+import java.util.regex.Matcher;
+import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.types.NullValue;
+import me.melontini.mevalex.data.types.StringValue;
+import me.melontini.mevalex.functions.FunctionMetadata;
+import me.melontini.mevalex.functions.FunctionParameter;
+import me.melontini.mevalex.parser.Token;
+
+/**
+ * Returns the first part of the string that matches the regular expression (case-sensitive), or
+ * NULL if no part matches.
+ */
+@FunctionMetadata(resultType = STRING, cost = 20)
+@FunctionParameter(name = "string", type = STRING)
+@FunctionParameter(name = "regex", type = STRING)
+public class StringFindFunction extends AbstractRegexFunction {
+  @Override
+  protected EvaluationValue evaluateMatch(
+      Token functionToken, Matcher matcher, EvaluationValue... parameterValues) {
+    return matcher.find() ? StringValue.of(matcher.group()) : NullValue.of();
+  }
+}
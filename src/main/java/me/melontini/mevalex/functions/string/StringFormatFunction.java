@@ -15,6 +15,8 @@
 */
 package me.melontini.mevalex.functions.string;
 
+import static me.melontini.mevalex.data.EvaluationType.STRING;
+
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -24,6 +26,7 @@ import me.melontini.mevalex.config.ExpressionConfiguration;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.StringValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
@@ -43,7 +46,8 @@ import me.melontini.mevalex.parser.Token;
  *
  * @author oswaldobapvicjr
  */
-@FunctionParameter(name = "format")
+@FunctionMetadata(resultType = STRING, cost = 20)
+@FunctionParameter(name = "format", type = STRING)
 @FunctionParameter(name = "arguments", isVarArg = true)
 public class StringFormatFunction extends AbstractFunction {
   @Override
@@ -15,15 +15,19 @@
 */
 package me.melontini.mevalex.functions.string;
 
+import static me.melontini.mevalex.data.EvaluationType.STRING;
+
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.StringValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
 /** Converts the given value to lower case. */
-@FunctionParameter(name = "value")
+@FunctionMetadata(resultType = STRING, cost = 2)
+@FunctionParameter(name = "value", type = STRING)
 public class StringLowerFunction extends AbstractFunction {
   @Override
   public EvaluationValue evaluate(
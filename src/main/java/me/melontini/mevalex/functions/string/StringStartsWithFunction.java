@@ -15,10 +15,14 @@
 */
 package me.melontini.mevalex.functions.string;
 
+import static me.melontini.mevalex.data.EvaluationType.BOOLEAN;
+import static me.melontini.mevalex.data.EvaluationType.STRING;
+
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.BooleanValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
@@ -27,8 +31,9 @@ import me.melontini.mevalex.parser.Token;
  *
  * @author oswaldobapvicjr
  */
-@FunctionParameter(name = "string")
-@FunctionParameter(name = "substring")
+@FunctionMetadata(resultType = BOOLEAN, cost = 2)
+@FunctionParameter(name = "string", type = STRING)
+@FunctionParameter(name = "substring", type = STRING)
 public class StringStartsWithFunction extends AbstractFunction {
   @Override
   public EvaluationValue evaluate(
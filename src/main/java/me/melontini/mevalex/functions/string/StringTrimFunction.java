@@ -15,11 +15,14 @@
 */
 package me.melontini.mevalex.functions.string;
 
+import static me.melontini.mevalex.data.EvaluationType.STRING;
+
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.EvaluationException;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.StringValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
@@ -28,7 +31,8 @@ import me.melontini.mevalex.parser.Token;
  *
  * @author LeonardoSoaresDev
  */
-@FunctionParameter(name = "string")
+@FunctionMetadata(resultType = STRING, cost = 2)
+@FunctionParameter(name = "string", type = STRING)
 public class StringTrimFunction extends AbstractFunction {
   @Override
   public EvaluationValue evaluate(
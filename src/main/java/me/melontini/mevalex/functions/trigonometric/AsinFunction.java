@@ -16,17 +16,20 @@
 package me.melontini.mevalex.functions.trigonometric;
 
 import static java.math.BigDecimal.ONE;
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
 
 import java.math.BigDecimal;
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.EvaluationException;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
 /** Returns the arc-sine (in degrees). */
-@FunctionParameter(name = "value")
+@FunctionMetadata(resultType = NUMBER, cost = 10)
+@FunctionParameter(name = "value", type = NUMBER)
 public class AsinFunction extends AbstractFunction {
 
   @Override
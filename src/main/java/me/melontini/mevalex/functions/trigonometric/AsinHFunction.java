@@ -15,14 +15,18 @@
 */
 package me.melontini.mevalex.functions.trigonometric;
 
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
 /** Returns the hyperbolic arc-sine. */
-@FunctionParameter(name = "value")
+@FunctionMetadata(resultType = NUMBER, cost = 10)
+@FunctionParameter(name = "value", type = NUMBER)
 public class AsinHFunction extends AbstractFunction {
   @Override
   public EvaluationValue evaluate(
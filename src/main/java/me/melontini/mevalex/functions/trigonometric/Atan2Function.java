@@ -15,15 +15,19 @@
 */
 package me.melontini.mevalex.functions.trigonometric;
 
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
 /** Returns the angle of atan2 (in degrees). */
-@FunctionParameter(name = "y")
-@FunctionParameter(name = "x")
+@FunctionMetadata(resultType = NUMBER, cost = 10)
+@FunctionParameter(name = "y", type = NUMBER)
+@FunctionParameter(name = "x", type = NUMBER)
 public class Atan2Function extends AbstractFunction {
   @Override
   public EvaluationValue evaluate(
@@ -15,22 +15,28 @@
 */
 package me.melontini.mevalex.functions.trigonometric;
 
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+
+import java.math.MathContext;
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.types.NumberValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.BigDecimalMath;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
 /** Returns the trigonometric cosine of an angle (in degrees). */
-@FunctionParameter(name = "value")
+@FunctionMetadata(resultType = NUMBER, cost = 10)
+@FunctionParameter(name = "value", type = NUMBER)
 public class CosFunction extends AbstractFunction {
   @Override
   public EvaluationValue evaluate(
       EvaluationContext context, Token functionToken, EvaluationValue... parameterValues) {
 
-    return context
-        .expression()
-        .convertDoubleValue(
-            Math.cos(Math.toRadians(parameterValues[0].getNumberValue().doubleValue())));
+    MathContext mathContext = context.expression().getConfiguration().getMathContext();
+    return NumberValue.of(
+        BigDecimalMath.cosDegrees(parameterValues[0].getNumberValue(), mathContext));
   }
 }
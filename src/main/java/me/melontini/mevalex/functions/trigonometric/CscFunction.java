@@ -15,23 +15,35 @@
 */
 package me.melontini.mevalex.functions.trigonometric;
 
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+
+import java.math.MathContext;
 import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.EvaluationException;
 import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.types.NumberValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.BigDecimalMath;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
 /** Returns the co-secant (in degrees). */
-@FunctionParameter(name = "value", nonZero = true)
+@FunctionMetadata(resultType = NUMBER, cost = 10)
+@FunctionParameter(name = "value", nonZero = true, type = NUMBER)
 public class CscFunction extends AbstractFunction {
   @Override
   public EvaluationValue evaluate(
-      EvaluationContext context, Token functionToken, EvaluationValue... parameterValues) {
+      EvaluationContext context, Token functionToken, EvaluationValue... parameterValues)
+      throws EvaluationException {
 
     /* Formula: csc(x) = 1 / sin(x) */
-    return context
-        .expression()
-        .convertDoubleValue(
-            1 / Math.sin(Math.toRadians(parameterValues[0].getNumberValue().doubleValue())));
+    MathContext mathContext = context.expression().getConfiguration().getMathContext();
+    try {
+      return NumberValue.of(
+          BigDecimalMath.cscDegrees(parameterValues[0].getNumberValue(), mathContext));
+    } catch (ArithmeticException e) {
+      throw new EvaluationException(functionToken, e.getMessage());
+    }
   }
 }
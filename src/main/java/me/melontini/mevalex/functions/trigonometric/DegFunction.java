@@ -15,16 +15,20 @@
 */
 package me.melontini.mevalex.functions.trigonometric;
 
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
 import me.melontini.mevalex.functions.FunctionParameter;
 import me.melontini.mevalex.parser.Token;
 
 /**
  * Converts an angle measured in radians to an approximately equivalent angle measured in degrees.
  */
-@FunctionParameter(name = "radians")
+@FunctionMetadata(resultType = NUMBER, cost = 2)
+@FunctionParameter(name = "radians", type = NUMBER)
 public class DegFunction extends AbstractFunction {
   @Override
   public EvaluationValue evaluate(
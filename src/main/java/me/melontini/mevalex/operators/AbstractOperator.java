@@ -19,6 +19,9 @@ import static me.melontini.mevalex.operators.OperatorIfc.OperatorType.PREFIX_OPE
 
 import lombok.Getter;
 import me.melontini.mevalex.config.ExpressionConfiguration;
+import me.melontini.mevalex.data.EvaluationType;
+import me.melontini.mevalex.parser.ParseException;
+import me.melontini.mevalex.parser.Token;
 
 /**
  * Abstract implementation of the {@link OperatorIfc}, used as base class for operator
@@ -32,6 +35,14 @@ public abstract class AbstractOperator implements OperatorIfc {
 
   private final boolean operandsLazy;
 
+  private final EvaluationType resultType;
+
+  private final boolean pure;
+
+  private final boolean deterministic;
+
+  private final int cost;
+
   OperatorType type;
 
   /**
@@ -47,16 +58,28 @@ public abstract class AbstractOperator implements OperatorIfc {
       this.precedence = infixAnnotation.precedence();
       this.leftAssociative = infixAnnotation.leftAssociative();
       this.operandsLazy = infixAnnotation.operandsLazy();
+      this.resultType = infixAnnotation.resultType();
+      this.pure = infixAnnotation.pure();
+      this.deterministic = infixAnnotation.deterministic();
+      this.cost = infixAnnotation.cost();
     } else if (prefixAnnotation != null) {
       this.type = PREFIX_OPERATOR;
       this.precedence = prefixAnnotation.precedence();
       this.leftAssociative = prefixAnnotation.leftAssociative();
       this.operandsLazy = false;
+      this.resultType = prefixAnnotation.resultType();
+      this.pure = prefixAnnotation.pure();
+      this.deterministic = prefixAnnotation.deterministic();
+      this.cost = prefixAnnotation.cost();
     } else if (postfixAnnotation != null) {
       this.type = OperatorType.POSTFIX_OPERATOR;
       this.precedence = postfixAnnotation.precedence();
       this.leftAssociative = postfixAnnotation.leftAssociative();
       this.operandsLazy = false;
+      this.resultType = postfixAnnotation.resultType();
+      this.pure = postfixAnnotation.pure();
+      this.deterministic = postfixAnnotation.deterministic();
+      this.cost = postfixAnnotation.cost();
     } else {
       throw new OperatorAnnotationNotFoundException(this.getClass().getName());
     }
@@ -77,6 +100,26 @@ public abstract class AbstractOperator implements OperatorIfc {
     return operandsLazy;
   }
 
+  @Override
+  public EvaluationType getResultType() {
+    return resultType;
+  }
+
+  @Override
+  public boolean isPure() {
+    return pure;
+  }
+
+  @Override
+  public boolean isDeterministic() {
+    return deterministic;
+  }
+
+  @Override
+  public int getCost() {
+    return cost;
+  }
+
   @Override
   public boolean isPrefix() {
     return type == PREFIX_OPERATOR;
@@ -91,4 +134,36 @@ public abstract class AbstractOperator implements OperatorIfc {
   public boolean isInfix() {
     return type == OperatorType.INFIX_OPERATOR;
   }
+
+  /**
+   * Infers the result type from the operand type combinations that are supported by an operator.
+   *
+   * @param operatorToken The operator token from the parsed expression.
+   * @param operandTypes The operand types.
+   * @param signatures The supported combinations, each one lists the operand types, followed by the
+   *     result type.
+   * @return The result type of the matching combination, or {@link EvaluationType#ANY} if unknown
+   *     operand types match combinations with different result types.
+   * @throws ParseException If no combination matches the operand types.
+   */
+  protected static EvaluationType inferFromSignatures(
+      Token operatorToken, EvaluationType[] operandTypes, EvaluationType[]... signatures)
+      throws ParseException {
+    EvaluationType result = null;
+    for (EvaluationType[] signature : signatures) {
+      if (!matchesSignature(operandTypes, signature)) continue;
+      EvaluationType type = signature[signature.length - 1];
+      result = result == null || result == type ? type : EvaluationType.ANY;
+    }
+    if (result == null) throw ParseException.ofUnsupportedDataTypeInOperation(operatorToken);
+    return result;
+  }
+
+  protected static boolean matchesSignature(
+      EvaluationType[] operandTypes, EvaluationType[] signature) {
+    for (int i = 0; i < operandTypes.length; i++) {
+      if (operandTypes[i].isKnown() && operandTypes[i] != signature[i]) return false;
+    }
+    return true;
+  }
 }
@@ -20,6 +20,7 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import me.melontini.mevalex.data.EvaluationType;
 
 /** The infix operator annotation */
 @Documented
@@ -35,4 +36,21 @@ public @interface InfixOperator {
 
   /** Operands are evaluated lazily, defaults to <code>false</code>. */
   boolean operandsLazy() default false;
+
+  /** The type of the operator result. Defaults to {@link EvaluationType#ANY}. */
+  EvaluationType resultType() default EvaluationType.ANY;
+
+  /** If the operator has no side effects. Defaults to <code>true</code>. */
+  boolean pure() default true;
+
+  /**
+   * If the operator always returns the same result for the same operands. Defaults to <code>true
+   * </code>.
+   */
+  boolean deterministic() default true;
+
+  /**
+   * Relative evaluation cost, where 1 is the cost of a simple arithmetic operation. Defaults to 1.
+   */
+  int cost() default 1;
 }
@@ -18,8 +18,12 @@ package me.melontini.mevalex.operators;
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.EvaluationException;
 import me.melontini.mevalex.config.ExpressionConfiguration;
+import me.melontini.mevalex.data.EvaluationType;
 import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.parser.ParseException;
+import me.melontini.mevalex.parser.Solvable;
 import me.melontini.mevalex.parser.Token;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Interface that is required for all operators in an operator dictionary for evaluation of
@@ -130,7 +134,103 @@ public interface OperatorIfc {
       EvaluationContext context, Token operatorToken, EvaluationValue... operands)
       throws EvaluationException;
 
-  default boolean canInline() {
+  /**
+   * The declared type of the operator result.
+   *
+   * @return The result type, {@link EvaluationType#ANY} if the result type is not fixed.
+   */
+  default EvaluationType getResultType() {
+    return EvaluationType.ANY;
+  }
+
+  /**
+   * Checks if the operator has no side effects. Pure operators may be skipped or evaluated in a
+   * different order than written in the expression.
+   *
+   * @return <code>true</code> if the operator has no side effects.
+   */
+  default boolean isPure() {
+    return true;
+  }
+
+  /**
+   * Checks if the operator always returns the same result for the same operands. Deterministic
+   * results may be computed once and reused.
+   *
+   * @return <code>true</code> if the operator is deterministic.
+   */
+  default boolean isDeterministic() {
     return true;
   }
+
+  /**
+   * Returns a hint for the relative cost of evaluating this operator, where 1 is the cost of a
+   * simple arithmetic operation.
+   *
+   * @return The relative cost.
+   */
+  default int getCost() {
+    return 1;
+  }
+
+  /**
+   * Checks if the operator can be evaluated when parsing the expression, if all of its operands are
+   * constant.
+   *
+   * @return <code>true</code> if the operator is pure and deterministic.
+   */
+  default boolean canInline() {
+    return isPure() && isDeterministic();
+  }
+
+  /**
+   * Called by the type inference during parsing, infers the result type of this operator from the
+   * statically known operand types.
+   *
+   * @param operatorToken The operator token from the parsed expression.
+   * @param operandTypes The operand types, {@link EvaluationType#ANY} for operands whose type is
+   *     not known before evaluation.
+   * @return The result type, or {@link EvaluationType#ANY} if it can not be determined. Defaults to
+   *     the declared result type.
+   * @throws ParseException If the operator does not support the operand types.
+   */
+  default EvaluationType inferResultType(Token operatorToken, EvaluationType... operandTypes)
+      throws ParseException {
+    return getResultType();
+  }
+
+  /**
+   * Called during parsing, can be implemented to return an implementation of this operator that is
+   * specialized for the statically known operand types. The operands are guaranteed to evaluate to
+   * values of the given types, so no type checks have to be made at evaluation time. Not called for
+   * operators with lazy operands.
+   *
+   * @param operatorToken The operator token from the parsed expression.
+   * @param operandTypes The operand types, {@link EvaluationType#ANY} for operands whose type is
+   *     not known before evaluation.
+   * @param operands The compiled operands.
+   * @return The specialized implementation, or <code>null</code> to use {@link
+   *     #evaluate(EvaluationContext, Token, EvaluationValue...)}.
+   */
+  default @Nullable Solvable specialize(
+      Token operatorToken, EvaluationType[] operandTypes, Solvable... operands) {
+    return null;
+  }
+
+  /**
+   * Called during parsing, can be implemented to return an implementation of this operator that
+   * makes use of constant operands, e.g. a constant exponent. Not called for operators with lazy
+   * operands, or if no operand is constant. If it returns <code>null</code>, {@link
+   * #specialize(Token, EvaluationType[], Solvable...)} is tried next.
+   *
+   * @param operatorToken The operator token from the parsed expression.
+   * @param constants The values of the constant operands, with <code>null</code> entries for
+   *     operands that are only known at evaluation time.
+   * @param operands The compiled operands.
+   * @return The specialized implementation, or <code>null</code> to use the regular evaluation.
+   */
+  default @Nullable Solvable specialize(
+      Token operatorToken, EvaluationValue[] constants, Solvable... operands) {
+    return null;
+  }
 }
@@ -15,9 +15,14 @@
 */
 package me.melontini.mevalex.operators.arithmetic;
 
+import static me.melontini.mevalex.data.EvaluationType.DATE_TIME;
+import static me.melontini.mevalex.data.EvaluationType.DURATION;
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+
 import java.time.Duration;
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.data.EvaluationType;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.DateTimeValue;
 import me.melontini.mevalex.data.types.DurationValue;
@@ -25,7 +30,10 @@ import me.melontini.mevalex.data.types.NumberValue;
 import me.melontini.mevalex.operators.AbstractOperator;
 import me.melontini.mevalex.operators.InfixOperator;
 import me.melontini.mevalex.operators.OperatorIfc;
+import me.melontini.mevalex.parser.ParseException;
+import me.melontini.mevalex.parser.Solvable;
 import me.melontini.mevalex.parser.Token;
+import org.jetbrains.annotations.Nullable;
 
 /** Subtraction of two numbers. */
 @InfixOperator(precedence = OperatorIfc.OPERATOR_PRECEDENCE_ADDITIVE)
@@ -67,4 +75,33 @@ public class InfixMinusOperator extends AbstractOperator {
       throw EvaluationException.ofUnsupportedDataTypeInOperation(operatorToken);
     }
   }
+
+  private static final EvaluationType[][] SIGNATURES = {
+    {NUMBER, NUMBER, NUMBER},
+    {DATE_TIME, DATE_TIME, DURATION},
+    {DATE_TIME, DURATION, DATE_TIME},
+    {DURATION, DURATION, DURATION},
+    {DATE_TIME, NUMBER, DATE_TIME}
+  };
+
+  @Override
+  public EvaluationType inferResultType(Token operatorToken, EvaluationType... operandTypes)
+      throws ParseException {
+    return inferFromSignatures(operatorToken, operandTypes, SIGNATURES);
+  }
+
+  @Override
+  public @Nullable Solvable specialize(
+      Token operatorToken, EvaluationType[] operandTypes, Solvable... operands) {
+    if (operandTypes[0] != NUMBER || operandTypes[1] != NUMBER) return null;
+    Solvable left = operands[0];
+    Solvable right = operands[1];
+    return context ->
+        NumberValue.of(
+            left.solve(context)
+                .getNumberValue()
+                .subtract(
+                    right.solve(context).getNumberValue(),
+                    context.expression().getConfiguration().getMathContext()));
+  }
 }
@@ -15,18 +15,27 @@
 */
 package me.melontini.mevalex.operators.arithmetic;
 
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+
 import java.math.BigDecimal;
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.data.EvaluationType;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.NumberValue;
 import me.melontini.mevalex.operators.AbstractOperator;
 import me.melontini.mevalex.operators.InfixOperator;
 import me.melontini.mevalex.operators.OperatorIfc;
+import me.melontini.mevalex.parser.ParseException;
+import me.melontini.mevalex.parser.Solvable;
 import me.melontini.mevalex.parser.Token;
+import org.jetbrains.annotations.Nullable;
 
 /** Remainder (modulo) of two numbers. */
-@InfixOperator(precedence = OperatorIfc.OPERATOR_PRECEDENCE_MULTIPLICATIVE)
+@InfixOperator(
+    precedence = OperatorIfc.OPERATOR_PRECEDENCE_MULTIPLICATIVE,
+    resultType = NUMBER,
+    cost = 2)
 public class InfixModuloOperator extends AbstractOperator {
 
   @Override
@@ -52,4 +61,28 @@ public class InfixModuloOperator extends AbstractOperator {
       throw EvaluationException.ofUnsupportedDataTypeInOperation(operatorToken);
     }
   }
+
+  @Override
+  public EvaluationType inferResultType(Token operatorToken, EvaluationType... operandTypes)
+      throws ParseException {
+    return inferFromSignatures(
+        operatorToken, operandTypes, new EvaluationType[] {NUMBER, NUMBER, NUMBER});
+  }
+
+  @Override
+  public @Nullable Solvable specialize(
+      Token operatorToken, EvaluationType[] operandTypes, Solvable... operands) {
+    if (operandTypes[0] != NUMBER || operandTypes[1] != NUMBER) return null;
+    Solvable left = operands[0];
+    Solvable right = operands[1];
+    return context -> {
+      BigDecimal dividend = left.solve(context).getNumberValue();
+      BigDecimal divisor = right.solve(context).getNumberValue();
+      if (divisor.equals(BigDecimal.ZERO)) {
+        throw new EvaluationException(operatorToken, "Division by zero");
+      }
+      return NumberValue.of(
+          dividend.remainder(divisor, context.expression().getConfiguration().getMathContext()));
+    };
+  }
 }
@@ -15,15 +15,22 @@
 */
 package me.melontini.mevalex.operators.arithmetic;
 
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+import static me.melontini.mevalex.data.EvaluationType.STRING;
+
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.data.EvaluationType;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.NumberValue;
 import me.melontini.mevalex.data.types.StringValue;
 import me.melontini.mevalex.operators.AbstractOperator;
 import me.melontini.mevalex.operators.InfixOperator;
 import me.melontini.mevalex.operators.OperatorIfc;
+import me.melontini.mevalex.parser.ParseException;
+import me.melontini.mevalex.parser.Solvable;
 import me.melontini.mevalex.parser.Token;
+import org.jetbrains.annotations.Nullable;
 
 /** Multiplication of two numbers. */
 @InfixOperator(precedence = OperatorIfc.OPERATOR_PRECEDENCE_MULTIPLICATIVE)
@@ -52,4 +59,39 @@ public class InfixMultiplicationOperator extends AbstractOperator {
 
     throw EvaluationException.ofUnsupportedDataTypeInOperation(operatorToken);
   }
+
+  private static final EvaluationType[][] SIGNATURES = {
+    {NUMBER, NUMBER, NUMBER}, {STRING, NUMBER, STRING}
+  };
+
+  @Override
+  public EvaluationType inferResultType(Token operatorToken, EvaluationType... operandTypes)
+      throws ParseException {
+    return inferFromSignatures(operatorToken, operandTypes, SIGNATURES);
+  }
+
+  @Override
+  public @Nullable Solvable specialize(
+      Token operatorToken, EvaluationType[] operandTypes, Solvable... operands) {
+    if (operandTypes[1] != NUMBER) return null;
+    Solvable left = operands[0];
+    Solvable right = operands[1];
+    if (operandTypes[0] == NUMBER) {
+      return context ->
+          NumberValue.of(
+              left.solve(context)
+                  .getNumberValue()
+                  .multiply(
+                      right.solve(context).getNumberValue(),
+                      context.expression().getConfiguration().getMathContext()));
+    }
+    if (operandTypes[0] == STRING) {
+      return context ->
+          StringValue.of(
+              left.solve(context)
+                  .getStringValue()
+                  .repeat(right.solve(context).getNumberValue().intValue()));
+    }
+    return null;
+  }
 }
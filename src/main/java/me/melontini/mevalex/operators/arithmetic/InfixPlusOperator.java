@@ -15,8 +15,14 @@
 */
 package me.melontini.mevalex.operators.arithmetic;
 
+import static me.melontini.mevalex.data.EvaluationType.DATE_TIME;
+import static me.melontini.mevalex.data.EvaluationType.DURATION;
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+import static me.melontini.mevalex.data.EvaluationType.STRING;
+
 import java.time.Duration;
 import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.data.EvaluationType;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.DateTimeValue;
 import me.melontini.mevalex.data.types.DurationValue;
@@ -25,7 +31,9 @@ import me.melontini.mevalex.data.types.StringValue;
 import me.melontini.mevalex.operators.AbstractOperator;
 import me.melontini.mevalex.operators.InfixOperator;
 import me.melontini.mevalex.operators.OperatorIfc;
+import me.melontini.mevalex.parser.Solvable;
 import me.melontini.mevalex.parser.Token;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Addition of numbers and strings. If one operand is a string, a string concatenation is performed.
@@ -59,4 +67,45 @@ public class InfixPlusOperator extends AbstractOperator {
       return StringValue.of(leftOperand.getStringValue() + rightOperand.getStringValue());
     }
   }
+
+  private static final EvaluationType[][] SIGNATURES = {
+    {NUMBER, NUMBER, NUMBER},
+    {DATE_TIME, DURATION, DATE_TIME},
+    {DURATION, DURATION, DURATION},
+    {DATE_TIME, NUMBER, DATE_TIME}
+  };
+
+  @Override
+  public EvaluationType inferResultType(Token operatorToken, EvaluationType... operandTypes) {
+    boolean matches = false;
+    for (EvaluationType[] signature : SIGNATURES) {
+      if (!matchesSignature(operandTypes, signature)) continue;
+      if (operandTypes[0].isKnown() && operandTypes[1].isKnown()) return signature[2];
+      matches = true;
+    }
+    // All other combinations are string concatenations.
+    return matches ? EvaluationType.ANY : STRING;
+  }
+
+  @Override
+  public @Nullable Solvable specialize(
+      Token operatorToken, EvaluationType[] operandTypes, Solvable... operands) {
+    Solvable left = operands[0];
+    Solvable right = operands[1];
+    if (operandTypes[0] == NUMBER && operandTypes[1] == NUMBER) {
+      return context ->
+          NumberValue.of(
+              left.solve(context)
+                  .getNumberValue()
+                  .add(
+                      right.solve(context).getNumberValue(),
+                      context.expression().getConfiguration().getMathContext()));
+    }
+    if (inferResultType(operatorToken, operandTypes) == STRING) {
+      return context ->
+          StringValue.of(
+              left.solve(context).getStringValue() + right.solve(context).getStringValue());
+    }
+    return null;
+  }
 }
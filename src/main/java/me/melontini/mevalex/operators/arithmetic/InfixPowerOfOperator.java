@@ -15,28 +15,45 @@
 */
 package me.melontini.mevalex.operators.arithmetic;
 
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.EvaluationException;
 import me.melontini.mevalex.config.ExpressionConfiguration;
+import me.melontini.mevalex.data.EvaluationType;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.NumberValue;
+import me.melontini.mevalex.functions.BigDecimalMath;
 import me.melontini.mevalex.operators.AbstractOperator;
 import me.melontini.mevalex.operators.InfixOperator;
 import me.melontini.mevalex.operators.OperatorIfc;
+import me.melontini.mevalex.parser.ParseException;
+import me.melontini.mevalex.parser.Solvable;
 import me.melontini.mevalex.parser.Token;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Power of operator, calculates the power of right operand of left operand. The precedence is read
  * from the configuration during parsing.
  *
+ * <p>Integer exponents are calculated by repeated squaring, an exponent of 0.5 as square root and
+ * other fractional exponents with {@link BigDecimalMath#pow(BigDecimal, BigDecimal, MathContext)}.
+ * A constant exponent is examined only once, when parsing.
+ *
  * @see #getPrecedence(ExpressionConfiguration)
  */
-@InfixOperator(precedence = OperatorIfc.OPERATOR_PRECEDENCE_POWER, leftAssociative = false)
+@InfixOperator(
+    precedence = OperatorIfc.OPERATOR_PRECEDENCE_POWER,
+    leftAssociative = false,
+    resultType = NUMBER,
+    cost = 5)
 public class InfixPowerOfOperator extends AbstractOperator {
 
+  private static final BigDecimal HALF = new BigDecimal("0.5");
+
   @Override
   public EvaluationValue evaluate(
       EvaluationContext context, Token operatorToken, EvaluationValue... operands)
@@ -45,35 +62,118 @@ public class InfixPowerOfOperator extends AbstractOperator {
     EvaluationValue rightOperand = operands[1];
 
     if (leftOperand.isNumberValue() && rightOperand.isNumberValue()) {
-      /*-
-       * Thanks to Gene Marin:
-       * http://stackoverflow.com/questions/3579779/how-to-do-a-fractional-power-on-bigdecimal-in-java
-       */
-
       MathContext mathContext = context.expression().getConfiguration().getMathContext();
-      BigDecimal v1 = leftOperand.getNumberValue();
-      BigDecimal v2 = rightOperand.getNumberValue();
-
-      int signOf2 = v2.signum();
-      double dn1 = v1.doubleValue();
-      v2 = v2.multiply(new BigDecimal(signOf2)); // n2 is now positive
-      BigDecimal remainderOf2 = v2.remainder(BigDecimal.ONE);
-      BigDecimal n2IntPart = v2.subtract(remainderOf2);
-      BigDecimal intPow = v1.pow(n2IntPart.intValueExact(), mathContext);
-      BigDecimal doublePow = BigDecimal.valueOf(Math.pow(dn1, remainderOf2.doubleValue()));
-
-      BigDecimal result = intPow.multiply(doublePow, mathContext);
-      if (signOf2 == -1) {
-        result = BigDecimal.ONE.divide(result, mathContext.getPrecision(), RoundingMode.HALF_UP);
+      BigDecimal base = leftOperand.getNumberValue();
+      BigDecimal exponent = rightOperand.getNumberValue();
+
+      if (isInteger(exponent)) {
+        return NumberValue.of(integerPower(operatorToken, base, exponent, mathContext));
       }
-      return NumberValue.of(result);
+      return NumberValue.of(fractionalPower(operatorToken, base, exponent, mathContext));
     } else {
       throw EvaluationException.ofUnsupportedDataTypeInOperation(operatorToken);
     }
   }
 
+  @Override
+  public @Nullable Solvable specialize(
+      Token operatorToken, EvaluationValue[] constants, Solvable... operands) {
+    if (constants[1] == null || !constants[1].isNumberValue()) return null;
+    Solvable left = operands[0];
+    BigDecimal exponent = constants[1].getNumberValue();
+
+    if (!isInteger(exponent)) {
+      return context ->
+          NumberValue.of(
+              fractionalPower(
+                  operatorToken,
+                  numberOperand(operatorToken, left.solve(context)),
+                  exponent,
+                  context.expression().getConfiguration().getMathContext()));
+    }
+
+    if (exponent.compareTo(BigDecimal.valueOf(Integer.MAX_VALUE)) > 0
+        || exponent.compareTo(BigDecimal.valueOf(Integer.MIN_VALUE)) < 0) return null;
+    int n = exponent.intValue();
+    return switch (n) {
+      case 0 -> context -> {
+        numberOperand(operatorToken, left.solve(context));
+        return NumberValue.of(BigDecimal.ONE);
+      };
+      default -> context ->
+          NumberValue.of(
+              integerPower(
+                  operatorToken,
+                  numberOperand(operatorToken, left.solve(context)),
+                  n,
+                  context.expression().getConfiguration().getMathContext()));
+    };
+  }
+
   @Override
   public int getPrecedence(ExpressionConfiguration configuration) {
     return configuration.getPowerOfPrecedence();
   }
+
+  @Override
+  public EvaluationType inferResultType(Token operatorToken, EvaluationType... operandTypes)
+      throws ParseException {
+    return inferFromSignatures(
+        operatorToken, operandTypes, new EvaluationType[] {NUMBER, NUMBER, NUMBER});
+  }
+
+  private static BigDecimal integerPower(
+      Token operatorToken, BigDecimal base, BigDecimal exponent, MathContext mathContext)
+      throws EvaluationException {
+    try {
+      return integerPower(operatorToken, base, exponent.intValueExact(), mathContext);
+    } catch (ArithmeticException e) {
+      throw new EvaluationException(operatorToken, e.getMessage());
+    }
+  }
+
+  private static BigDecimal integerPower(
+      Token operatorToken, BigDecimal base, int exponent, MathContext mathContext)
+      throws EvaluationException {
+    try {
+      // a single multiplication is exact before rounding, shared by constant and variable exponents
+      if (exponent == 2) return base.multiply(base, mathContext);
+      if (exponent >= 0 || mathContext.getPrecision() > 0) {
+        // repeated squaring, with enough digits to round the result only once
+        return base.pow(exponent, mathContext);
+      }
+      // an unlimited precision can not hold most reciprocals
+      return BigDecimal.ONE.divide(base.pow(-exponent), 0, RoundingMode.HALF_UP);
+    } catch (ArithmeticException e) {
+      throw new EvaluationException(operatorToken, e.getMessage());
+    }
+  }
+
+  private static BigDecimal fractionalPower(
+      Token operatorToken, BigDecimal base, BigDecimal exponent, MathContext mathContext)
+      throws EvaluationException {
+    if (base.signum() < 0) {
+      throw new EvaluationException(operatorToken, "Fractional power of a negative number");
+    }
+    // an unlimited precision can not hold most square roots, the general path falls back to double
+    if (exponent.compareTo(HALF) == 0 && mathContext.getPrecision() > 0)
+      return base.sqrt(mathContext);
+    /* Formula: x^y = e^(y * ln(x)) */
+    try {
+      return BigDecimalMath.pow(base, exponent, mathContext);
+    } catch (ArithmeticException e) {
+      throw new EvaluationException(operatorToken, e.getMessage());
+    }
+  }
+
+  private static BigDecimal numberOperand(Token operatorToken, EvaluationValue operand)
+      throws EvaluationException {
+    if (!operand.isNumberValue())
+      throw EvaluationException.ofUnsupportedDataTypeInOperation(operatorToken);
+    return operand.getNumberValue();
+  }
+
+  private static boolean isInteger(BigDecimal value) {
+    return value.scale() <= 0 || value.signum() == 0 || value.stripTrailingZeros().scale() <= 0;
+  }
 }
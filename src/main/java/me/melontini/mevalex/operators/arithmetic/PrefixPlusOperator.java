@@ -15,16 +15,22 @@
 */
 package me.melontini.mevalex.operators.arithmetic;
 
+import static me.melontini.mevalex.data.EvaluationType.NUMBER;
+
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.data.EvaluationType;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.NumberValue;
 import me.melontini.mevalex.operators.AbstractOperator;
 import me.melontini.mevalex.operators.PrefixOperator;
+import me.melontini.mevalex.parser.ParseException;
+import me.melontini.mevalex.parser.Solvable;
 import me.melontini.mevalex.parser.Token;
+import org.jetbrains.annotations.Nullable;
 
 /** Unary prefix plus. */
-@PrefixOperator(leftAssociative = false)
+@PrefixOperator(leftAssociative = false, resultType = NUMBER)
 public class PrefixPlusOperator extends AbstractOperator {
 
   @Override
@@ -40,4 +46,23 @@ public class PrefixPlusOperator extends AbstractOperator {
       throw EvaluationException.ofUnsupportedDataTypeInOperation(operatorToken);
     }
   }
+
+  @Override
+  public EvaluationType inferResultType(Token operatorToken, EvaluationType... operandTypes)
+      throws ParseException {
+    return inferFromSignatures(operatorToken, operandTypes, new EvaluationType[] {NUMBER, NUMBER});
+  }
+
+  @Override
+  public @Nullable Solvable specialize(
+      Token operatorToken, EvaluationType[] operandTypes, Solvable... operands) {
+    if (operandTypes[0] != NUMBER) return null;
+    Solvable operand = operands[0];
+    return context ->
+        NumberValue.of(
+            operand
+                .solve(context)
+                .getNumberValue()
+                .plus(context.expression().getConfiguration().getMathContext()));
+  }
 }
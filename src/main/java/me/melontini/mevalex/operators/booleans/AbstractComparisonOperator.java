@@ -0,0 +1,82 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.operators.booleans;
+
+import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.data.EvaluationType;
+import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.types.BooleanValue;
+import me.melontini.mevalex.operators.AbstractOperator;
+import me.melontini.mevalex.parser.Solvable;
+import me.melontini.mevalex.parser.Token;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Base class for comparison operators. Comparisons can be evaluated to a primitive boolean, which
+ * allows predicates to be compiled without boxing intermediate results.
+ */
+public abstract class AbstractComparisonOperator extends AbstractOperator {
+
+  @Override
+  public EvaluationValue evaluate(
+      EvaluationContext context, Token operatorToken, EvaluationValue... operands) {
+    return BooleanValue.of(test(operands[0], operands[1]));
+  }
+
+  @Override
+  public @Nullable Solvable specialize(
+      Token operatorToken, EvaluationType[] operandTypes, Solvable... operands) {
+    Solvable left = operands[0];
+    Solvable right = operands[1];
+    if (operandTypes[0] == EvaluationType.NUMBER && operandTypes[1] == EvaluationType.NUMBER) {
+      return context ->
+          BooleanValue.of(
+              isSatisfied(
+                  left.solve(context)
+                      .getNumberValue()
+                      .compareTo(right.solve(context).getNumberValue())));
+    }
+    if (operandTypes[0] == EvaluationType.STRING && operandTypes[1] == EvaluationType.STRING) {
+      return context ->
+          BooleanValue.of(
+              isSatisfied(
+                  left.solve(context)
+                      .getStringValue()
+                      .compareTo(right.solve(context).getStringValue())));
+    }
+    return null;
+  }
+
+  /**
+   * Compares the two operands.
+   *
+   * @param left The left operand.
+   * @param right The right operand.
+   * @return <code>true</code> if the comparison holds.
+   */
+  public boolean test(EvaluationValue left, EvaluationValue right) {
+    return isSatisfied(left.compareTo(right));
+  }
+
+  /**
+   * Checks if the result of a {@link Comparable#compareTo(Object)} call satisfies this comparison.
+   * Used when the compiler already knows the operand types and compares them directly.
+   *
+   * @param comparison The comparison result.
+   * @return <code>true</code> if the comparison holds.
+   */
+  public abstract boolean isSatisfied(int comparison);
+}
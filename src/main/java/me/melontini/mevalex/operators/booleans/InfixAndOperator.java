@@ -19,6 +19,7 @@ import static me.melontini.mevalex.operators.OperatorIfc.OPERATOR_PRECEDENCE_AND
 
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.data.EvaluationType;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.BooleanValue;
 import me.melontini.mevalex.operators.AbstractOperator;
@@ -26,7 +27,10 @@ import me.melontini.mevalex.operators.InfixOperator;
 import me.melontini.mevalex.parser.Token;
 
 /** Boolean AND of two values. */
-@InfixOperator(precedence = OPERATOR_PRECEDENCE_AND, operandsLazy = true)
+@InfixOperator(
+    precedence = OPERATOR_PRECEDENCE_AND,
+    operandsLazy = true,
+    resultType = EvaluationType.BOOLEAN)
 public class InfixAndOperator extends AbstractOperator {
 
   @Override
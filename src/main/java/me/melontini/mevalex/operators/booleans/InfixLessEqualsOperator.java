@@ -17,20 +17,15 @@ package me.melontini.mevalex.operators.booleans;
 
 import static me.melontini.mevalex.operators.OperatorIfc.OPERATOR_PRECEDENCE_COMPARISON;
 
-import me.melontini.mevalex.EvaluationContext;
-import me.melontini.mevalex.data.EvaluationValue;
-import me.melontini.mevalex.data.types.BooleanValue;
-import me.melontini.mevalex.operators.AbstractOperator;
+import me.melontini.mevalex.data.EvaluationType;
 import me.melontini.mevalex.operators.InfixOperator;
-import me.melontini.mevalex.parser.Token;
 
 /** Less or equals of two values. */
-@InfixOperator(precedence = OPERATOR_PRECEDENCE_COMPARISON)
-public class InfixLessEqualsOperator extends AbstractOperator {
+@InfixOperator(precedence = OPERATOR_PRECEDENCE_COMPARISON, resultType = EvaluationType.BOOLEAN)
+public class InfixLessEqualsOperator extends AbstractComparisonOperator {
 
   @Override
-  public EvaluationValue evaluate(
-      EvaluationContext context, Token operatorToken, EvaluationValue... operands) {
-    return BooleanValue.of(operands[0].compareTo(operands[1]) <= 0);
+  public boolean isSatisfied(int comparison) {
+    return comparison <= 0;
   }
 }
@@ -17,26 +17,30 @@ package me.melontini.mevalex.operators.booleans;
 
 import static me.melontini.mevalex.operators.OperatorIfc.OPERATOR_PRECEDENCE_EQUALITY;
 
-import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.data.EvaluationType;
 import me.melontini.mevalex.data.EvaluationValue;
-import me.melontini.mevalex.data.types.BooleanValue;
-import me.melontini.mevalex.operators.AbstractOperator;
 import me.melontini.mevalex.operators.InfixOperator;
-import me.melontini.mevalex.parser.Token;
 
 /** No equality of two values. */
-@InfixOperator(precedence = OPERATOR_PRECEDENCE_EQUALITY)
-public class InfixNotEqualsOperator extends AbstractOperator {
+@InfixOperator(precedence = OPERATOR_PRECEDENCE_EQUALITY, resultType = EvaluationType.BOOLEAN)
+public class InfixNotEqualsOperator extends AbstractComparisonOperator {
 
   @Override
-  public EvaluationValue evaluate(
-      EvaluationContext context, Token operatorToken, EvaluationValue... operands) {
-    if (!operands[0].getClass().isInstance(operands[1])) {
-      return BooleanValue.TRUE;
+  public boolean test(EvaluationValue left, EvaluationValue right) {
+    if (left == right) {
+      return false;
     }
-    if (operands[0].isNullValue() && operands[1].isNullValue()) {
-      return BooleanValue.FALSE;
+    if (!left.getClass().isInstance(right)) {
+      return true;
     }
-    return BooleanValue.of(operands[0].compareTo(operands[1]) != 0);
+    if (left.isNullValue() && right.isNullValue()) {
+      return false;
+    }
+    return isSatisfied(left.compareTo(right));
+  }
+
+  @Override
+  public boolean isSatisfied(int comparison) {
+    return comparison != 0;
   }
 }
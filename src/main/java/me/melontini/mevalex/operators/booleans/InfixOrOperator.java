@@ -19,6 +19,7 @@ import static me.melontini.mevalex.operators.OperatorIfc.OPERATOR_PRECEDENCE_OR;
 
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.data.EvaluationType;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.BooleanValue;
 import me.melontini.mevalex.operators.AbstractOperator;
@@ -26,7 +27,10 @@ import me.melontini.mevalex.operators.InfixOperator;
 import me.melontini.mevalex.parser.Token;
 
 /** Boolean OR of two values. */
-@InfixOperator(precedence = OPERATOR_PRECEDENCE_OR, operandsLazy = true)
+@InfixOperator(
+    precedence = OPERATOR_PRECEDENCE_OR,
+    operandsLazy = true,
+    resultType = EvaluationType.BOOLEAN)
 public class InfixOrOperator extends AbstractOperator {
 
   @Override
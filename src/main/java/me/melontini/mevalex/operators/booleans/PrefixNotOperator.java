@@ -16,6 +16,7 @@
 package me.melontini.mevalex.operators.booleans;
 
 import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.data.EvaluationType;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.BooleanValue;
 import me.melontini.mevalex.operators.AbstractOperator;
@@ -23,7 +24,7 @@ import me.melontini.mevalex.operators.PrefixOperator;
 import me.melontini.mevalex.parser.Token;
 
 /** Boolean negation of value. */
-@PrefixOperator
+@PrefixOperator(resultType = EvaluationType.BOOLEAN)
 public class PrefixNotOperator extends AbstractOperator {
 
   @Override
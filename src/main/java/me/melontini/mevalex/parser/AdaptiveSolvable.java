@@ -0,0 +1,155 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.parser;
+
+import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.data.EvaluationValue;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Tiered execution of a pure expression. The expression is first evaluated by its generic version,
+ * which records an {@link ExecutionProfile}. After a number of evaluations, the expression is
+ * compiled again, assuming the observed variable types and that lazily evaluated operands which
+ * were never evaluated are not needed. If one of these assumptions fails, the speculative version
+ * is discarded and the generic version evaluates the expression again, which is safe, as the
+ * expression has no side effects.
+ *
+ * <p>To avoid endless recompilation, an expression is compiled at most {@link #MAX_RECOMPILATIONS}
+ * times. Once optimization gave up, the expression is evaluated by a generic version that does not
+ * record a profile, without counting evaluations or locking.
+ */
+final class AdaptiveSolvable implements Solvable, BooleanSolvable {
+
+  static final int MAX_RECOMPILATIONS = 3;
+
+  private final ExpressionParser parser;
+  private final ASTNode root;
+  private final ExecutionProfile profile;
+  private final int threshold;
+
+  private volatile Solvable genericSolvable;
+  private volatile @Nullable BooleanSolvable genericPredicate;
+
+  private volatile @Nullable Solvable optimizedSolvable;
+  private volatile @Nullable BooleanSolvable optimizedPredicate;
+
+  private volatile boolean gaveUp;
+  private int evaluations;
+  private int recompilations;
+  private int optimizeCalls;
+
+  AdaptiveSolvable(
+      ExpressionParser parser,
+      ASTNode root,
+      ExecutionProfile profile,
+      int threshold,
+      Solvable genericSolvable,
+      @Nullable BooleanSolvable genericPredicate) {
+    this.parser = parser;
+    this.root = root;
+    this.profile = profile;
+    this.threshold = threshold;
+    this.genericSolvable = genericSolvable;
+    this.genericPredicate = genericPredicate;
+  }
+
+  @Override
+  public EvaluationValue solve(EvaluationContext context) throws EvaluationException {
+    Solvable optimized = optimizedSolvable;
+    if (optimized != null) {
+      try {
+        return optimized.solve(context);
+      } catch (DeoptimizationException e) {
+        deoptimize();
+      }
+    } else if (!gaveUp && ++evaluations >= threshold) {
+      optimize();
+    }
+    return genericSolvable.solve(context);
+  }
+
+  @Override
+  public boolean test(EvaluationContext context) throws EvaluationException {
+    BooleanSolvable generic = genericPredicate;
+    if (generic == null) return Boolean.TRUE.equals(solve(context).getBooleanValue());
+
+    BooleanSolvable optimized = optimizedPredicate;
+    if (optimized != null) {
+      try {
+        return optimized.test(context);
+      } catch (DeoptimizationException e) {
+        deoptimize();
+      }
+    } else if (!gaveUp && ++evaluations >= threshold) {
+      optimize();
+      generic = genericPredicate;
+    }
+    return generic.test(context);
+  }
+
+  private synchronized void optimize() {
+    optimizeCalls++;
+    if (optimizedSolvable != null || gaveUp) return;
+    recompilations++;
+
+    TypeInference types = TypeInference.speculating(profile);
+    try {
+      types.infer(root);
+    } catch (ParseException e) {
+      // The observed types are not supported by an operation, keep the generic version.
+      giveUp();
+      return;
+    }
+    optimizedPredicate = parser.toBooleanSolvable(root, types);
+    optimizedSolvable = parser.toSolvable(root, types);
+  }
+
+  private synchronized void deoptimize() {
+    optimizedSolvable = null;
+    optimizedPredicate = null;
+    evaluations = 0;
+    if (recompilations >= MAX_RECOMPILATIONS) giveUp();
+  }
+
+  /** Replaces the generic version by one that does not record a profile. */
+  private void giveUp() {
+    if (genericPredicate != null) {
+      BooleanSolvable predicate = parser.toBooleanSolvable(root);
+      if (predicate != null) genericPredicate = predicate;
+    }
+    genericSolvable = parser.toSolvable(root);
+    gaveUp = true;
+  }
+
+  /**
+   * Checks if the speculative version is currently used.
+   *
+   * @return <code>true</code> if the expression is currently optimized.
+   */
+  boolean isOptimized() {
+    return optimizedSolvable != null;
+  }
+
+  /**
+   * Returns how often an optimization was attempted, for tests.
+   *
+   * @return The number of calls of the optimization.
+   */
+  synchronized int getOptimizeCalls() {
+    return optimizeCalls;
+  }
+}
@@ -0,0 +1,67 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.parser;
+
+import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.types.StringValue;
+import me.melontini.mevalex.operators.OperatorIfc;
+
+/**
+ * A flattened chain of additions, like <code>a + "," + b + "," + c</code>. The operands are added
+ * from left to right, as long as no string is produced. Once the intermediate result is a string,
+ * all following operands can only be concatenated, so they are appended to a single {@link
+ * StringBuilder} instead of copying the intermediate string for each addition.
+ */
+final class AdditionChain implements Solvable {
+
+  private final OperatorIfc operator;
+  private final Token[] operatorTokens;
+  private final Solvable[] operands;
+
+  /**
+   * Creates a new chain.
+   *
+   * @param operator The addition operator.
+   * @param operatorTokens The operator tokens, one less than operands.
+   * @param operands The operands in source order.
+   */
+  AdditionChain(OperatorIfc operator, Token[] operatorTokens, Solvable[] operands) {
+    this.operator = operator;
+    this.operatorTokens = operatorTokens;
+    this.operands = operands;
+  }
+
+  @Override
+  public EvaluationValue solve(EvaluationContext context) throws EvaluationException {
+    EvaluationValue result = operands[0].solve(context);
+    int i = 1;
+    for (; i < operands.length && !(result instanceof StringValue); i++) {
+      result =
+          context
+              .expression()
+              .tryRoundValue(
+                  operator.evaluate(
+                      context, operatorTokens[i - 1], result, operands[i].solve(context)));
+    }
+    if (i == operands.length) return result;
+
+    StringBuilder builder = new StringBuilder(result.getStringValue());
+    for (; i < operands.length; i++) builder.append(operands[i].solve(context).getStringValue());
+    return StringValue.of(builder.toString());
+  }
+}
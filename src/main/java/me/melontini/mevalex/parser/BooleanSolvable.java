@@ -0,0 +1,28 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.parser;
+
+import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.EvaluationException;
+
+/**
+ * A compiled predicate. Unlike a {@link Solvable}, the result is a primitive boolean, so comparison
+ * and logical operations do not have to box their intermediate results.
+ */
+@FunctionalInterface
+public interface BooleanSolvable {
+  boolean test(EvaluationContext context) throws EvaluationException;
+}
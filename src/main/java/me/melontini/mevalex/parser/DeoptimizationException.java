@@ -0,0 +1,30 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.parser;
+
+/**
+ * Thrown by the speculative version of an expression, if an assumption made when compiling it does
+ * not hold. The {@link AdaptiveSolvable} then falls back to the generic version. As it is only used
+ * for control flow, the exception is shared and has no stack trace.
+ */
+final class DeoptimizationException extends RuntimeException {
+
+  static final DeoptimizationException INSTANCE = new DeoptimizationException();
+
+  private DeoptimizationException() {
+    super("Speculative assumption failed", null, false, false);
+  }
+}
@@ -0,0 +1,117 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.parser;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import me.melontini.mevalex.data.EvaluationType;
+import me.melontini.mevalex.data.EvaluationValue;
+
+/**
+ * Runtime feedback that is gathered while evaluating the generic version of an expression. The
+ * profile records the types of the variable values and which lazily evaluated operands and
+ * parameters (e.g. the branches of <code>IF()</code>, or the right side of <code>&amp;&amp;</code>
+ * and <code>||</code>) were evaluated at all.
+ *
+ * <p>The slots are created while compiling the expression and only updated afterwards, without
+ * synchronization, as the profile is only used as a hint for speculation.
+ */
+final class ExecutionProfile {
+
+  private final Map<ASTNode, EvaluationType[]> variableTypes = new IdentityHashMap<>();
+  private final Map<ASTNode, boolean[]> reached = new IdentityHashMap<>();
+
+  /**
+   * Wraps the solvable of a variable node, so that the types of its values are recorded.
+   *
+   * @param node The variable node.
+   * @param solvable The solvable of the node.
+   * @return The recording solvable.
+   */
+  Solvable recordType(ASTNode node, Solvable solvable) {
+    EvaluationType[] slot = variableTypes.computeIfAbsent(node, key -> new EvaluationType[1]);
+    return context -> {
+      EvaluationValue result = solvable.solve(context);
+      EvaluationType type = EvaluationType.of(result);
+      EvaluationType seen = slot[0];
+      if (seen != type) slot[0] = seen == null ? type : EvaluationType.ANY;
+      return result;
+    };
+  }
+
+  /**
+   * Wraps the solvable of a lazily evaluated node, so that its evaluation is recorded.
+   *
+   * @param node The lazily evaluated node.
+   * @param solvable The solvable of the node.
+   * @return The recording solvable.
+   */
+  Solvable recordReached(ASTNode node, Solvable solvable) {
+    boolean[] slot = reached.computeIfAbsent(node, key -> new boolean[1]);
+    return context -> {
+      slot[0] = true;
+      return solvable.solve(context);
+    };
+  }
+
+  /**
+   * Wraps the predicate of a lazily evaluated node, so that its evaluation is recorded.
+   *
+   * @param node The lazily evaluated node.
+   * @param predicate The predicate of the node.
+   * @return The recording predicate.
+   */
+  BooleanSolvable recordReached(ASTNode node, BooleanSolvable predicate) {
+    boolean[] slot = reached.computeIfAbsent(node, key -> new boolean[1]);
+    return context -> {
+      slot[0] = true;
+      return predicate.test(context);
+    };
+  }
+
+  /**
+   * Checks if a node was evaluated. Nodes that are not lazily evaluated are always considered to be
+   * reached.
+   *
+   * @param node The node.
+   * @return <code>false</code> if the node is lazily evaluated and was never evaluated.
+   */
+  boolean isReached(ASTNode node) {
+    boolean[] slot = reached.get(node);
+    return slot == null || slot[0];
+  }
+
+  /**
+   * Returns the variables that always had a value of the same type. Variables that were never
+   * evaluated, only had <code>NULL</code> values, or had values of different types are omitted.
+   *
+   * @return The observed variable types, names are case-insensitive.
+   */
+  Map<String, EvaluationType> getVariableTypes() {
+    Map<String, EvaluationType> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    for (Map.Entry<ASTNode, EvaluationType[]> entry : variableTypes.entrySet()) {
+      EvaluationType type = entry.getValue()[0];
+      if (type == null) continue;
+      result.merge(
+          entry.getKey().getToken().getValue(),
+          type,
+          (first, second) -> first == second ? first : EvaluationType.ANY);
+    }
+    result.values().removeIf(type -> !type.isKnown() || type == EvaluationType.NULL);
+    return result;
+  }
+}
@@ -15,19 +15,34 @@
 */
 package me.melontini.mevalex.parser;
 
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import lombok.Getter;
 import me.melontini.mevalex.EvaluationContext;
 import me.melontini.mevalex.EvaluationException;
 import me.melontini.mevalex.Expression;
 import me.melontini.mevalex.config.ExpressionConfiguration;
-import me.melontini.mevalex.data.DataAccessorIfc;
+import me.melontini.mevalex.data.EvaluationType;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.IndexedAccessor;
+import me.melontini.mevalex.data.types.BooleanValue;
+import me.melontini.mevalex.data.types.LambdaValue;
 import me.melontini.mevalex.data.types.SolvableValue;
 import me.melontini.mevalex.functions.FunctionIfc;
 import me.melontini.mevalex.operators.OperatorIfc;
+import me.melontini.mevalex.operators.arithmetic.InfixPlusOperator;
+import me.melontini.mevalex.operators.booleans.AbstractComparisonOperator;
+import me.melontini.mevalex.operators.booleans.InfixAndOperator;
+import me.melontini.mevalex.operators.booleans.InfixOrOperator;
+import me.melontini.mevalex.operators.booleans.PrefixNotOperator;
+import org.jetbrains.annotations.Nullable;
 
 @Getter
 public final class ExpressionParser {
@@ -43,9 +58,50 @@ public final class ExpressionParser {
   }
 
   public Expression parse(String expression) throws ParseException, EvaluationException {
+    ASTNode inlined = parseAndInline(expression);
+    int threshold = configuration.getAdaptiveOptimizationThreshold();
+    if (threshold > 0 && isPure(inlined)) return compileAdaptive(expression, inlined, threshold);
+    return compile(expression, inlined, new TypeInference(Collections.emptyMap()));
+  }
+
+  /**
+   * Parses an expression with declared variable types. The parsed expression is checked by a type
+   * inference pass, which reports unsupported operand types already when parsing, and allows
+   * operators to use implementations that are specialized for the inferred types. When evaluating
+   * the expression, the values of the declared variables must be of the declared types.
+   *
+   * @param expression The expression string.
+   * @param variableTypes The declared variable types, names are case-insensitive.
+   * @return The parsed expression.
+   * @throws ParseException If the expression could not be parsed, or contains type errors.
+   * @throws EvaluationException If inlining a constant part of the expression failed.
+   */
+  public Expression parse(String expression, Map<String, EvaluationType> variableTypes)
+      throws ParseException, EvaluationException {
+    ASTNode inlined = parseAndInline(expression);
+    TypeInference types = new TypeInference(variableTypes);
+    types.infer(inlined);
+    return compile(expression, inlined, types);
+  }
+
+  private ASTNode parseAndInline(String expression) throws ParseException, EvaluationException {
     ASTNode root = converter.toAbstractSyntaxTree(tokenizer.parse(expression), expression);
     var proxy = new Expression(expression, toSolvable(root), configuration);
-    return new Expression(expression, toSolvable(inline(proxy, root)), configuration);
+    return inline(proxy, root);
+  }
+
+  private Expression compile(String expression, ASTNode root, TypeInference types) {
+    return new Expression(
+        expression, toSolvable(root, types), toBooleanSolvable(root, types), configuration);
+  }
+
+  private Expression compileAdaptive(String expression, ASTNode root, int threshold) {
+    ExecutionProfile profile = new ExecutionProfile();
+    TypeInference types = TypeInference.profiling(profile);
+    BooleanSolvable predicate = toBooleanSolvable(root, types);
+    var adaptive =
+        new AdaptiveSolvable(this, root, profile, threshold, toSolvable(root, types), predicate);
+    return new Expression(expression, adaptive, predicate == null ? null : adaptive, configuration);
   }
 
   public ASTNode inline(Expression parent, ASTNode node) throws EvaluationException {
@@ -82,6 +138,12 @@ public final class ExpressionParser {
             node.getParameters()[0] = inline(parent, node.getParameters()[0]);
             yield node;
           }
+          case LAMBDA -> {
+            int body = node.getParameters().length - 1;
+            node.getParameters()[body] = inline(parent, node.getParameters()[body]);
+            yield node;
+          }
+          case LAMBDA_PARAMETER -> node;
           default -> throw new IllegalStateException("Unexpected evaluation token: " + token);
         });
   }
@@ -209,6 +271,10 @@ public final class ExpressionParser {
   }
 
   public Solvable toSolvable(ASTNode node) {
+    return toSolvable(node, new TypeInference(Collections.emptyMap()));
+  }
+
+  Solvable toSolvable(ASTNode node, TypeInference types) {
     if (node instanceof InlinedASTNode inlined) return inlined;
 
     Token token = node.getToken();
@@ -220,86 +286,227 @@ public final class ExpressionParser {
               if (result != null) yield context -> result;
             }
 
-            yield context -> {
-              var result = context.expression().getVariableOrConstant(token, context);
-              return result.isSolvable() ? result.getSolvable().solve(context) : result;
-            };
+            EvaluationType declared = types.getVariableType(token.getValue());
+            if (declared.isKnown())
+              yield typedVariableToSolvable(token, declared, types.isSpeculative());
+
+            Solvable variable =
+                context -> {
+                  var result = context.expression().getVariableOrConstant(token, context);
+                  return result.isSolvable() ? result.getSolvable().solve(context) : result;
+                };
+            ExecutionProfile profile = types.getRecordingProfile();
+            yield profile != null ? profile.recordType(node, variable) : variable;
           }
           case PREFIX_OPERATOR, POSTFIX_OPERATOR -> {
             OperatorIfc operator = token.getOperatorDefinition();
-            Solvable solvable = toSolvable(node.getParameters()[0]);
+            Solvable solvable = toSolvable(node.getParameters()[0], types);
+            Solvable specialized =
+                operator.specialize(token, types.getParameterTypes(node), solvable);
+            if (specialized != null) yield specialized;
             yield context -> operator.evaluate(context, token, solvable.solve(context));
           }
-          case INFIX_OPERATOR -> infixOperatorToSolvable(node);
-          case ARRAY_INDEX -> arrayIndexToSolvable(node);
-          case STRUCTURE_SEPARATOR -> structureSeparatorToSolvable(node);
-          case FUNCTION -> functionToSolvable(node);
+          case INFIX_OPERATOR -> infixOperatorToSolvable(node, types);
+          case ARRAY_INDEX -> arrayIndexToSolvable(node, types);
+          case STRUCTURE_SEPARATOR -> structureSeparatorToSolvable(node, types);
+          case FUNCTION -> functionToSolvable(node, types);
+          case LAMBDA_PARAMETER -> {
+            int slot = ((LambdaParameterNode) node).slot();
+            yield context -> context.locals()[slot];
+          }
           default -> throw new IllegalStateException("Unexpected evaluation token: " + token);
         };
     return context -> context.expression().tryRoundValue(value.solve(context));
   }
 
-  private Solvable infixOperatorToSolvable(ASTNode node) {
+  private Solvable typedVariableToSolvable(
+      Token token, EvaluationType declared, boolean speculative) {
+    return context -> {
+      var result = context.expression().getVariableOrConstant(token, context);
+      if (result.isSolvable()) result = result.getSolvable().solve(context);
+      if (!declared.matches(result)) {
+        if (speculative) throw DeoptimizationException.INSTANCE;
+        throw new EvaluationException(
+            token,
+            String.format(
+                "Variable '%s' is declared as %s, but has a value of type %s",
+                token.getValue(), declared, EvaluationType.of(result)));
+      }
+      return result;
+    };
+  }
+
+  private Solvable infixOperatorToSolvable(ASTNode node, TypeInference types) {
     Token token = node.getToken();
     OperatorIfc operator = token.getOperatorDefinition();
 
+    if (configuration.isReorderLogicalOperands()
+        && (operator instanceof InfixAndOperator || operator instanceof InfixOrOperator)) {
+      BooleanSolvable chain =
+          logicalChainToBooleanSolvable(node, operator instanceof InfixAndOperator, types);
+      return context -> BooleanValue.of(chain.test(context));
+    }
+
+    if (operator.getClass() == InfixPlusOperator.class) {
+      Solvable chain = additionChainToSolvable(node, operator, types);
+      if (chain != null) return chain;
+    }
+
     Solvable left;
     Solvable right;
     if (operator.isOperandLazy()) {
-      var first = SolvableValue.of(toSolvable(node.getParameters()[0]));
-      var second = SolvableValue.of(toSolvable(node.getParameters()[1]));
+      var first = SolvableValue.of(toLazySolvable(node.getParameters()[0], types));
+      var second = SolvableValue.of(toLazySolvable(node.getParameters()[1], types));
       left = context -> first;
       right = context -> second;
     } else {
-      left = toSolvable(node.getParameters()[0]);
-      right = toSolvable(node.getParameters()[1]);
+      left = toSolvable(node.getParameters()[0], types);
+      right = toSolvable(node.getParameters()[1], types);
+
+      EvaluationValue[] constants = new EvaluationValue[2];
+      boolean anyConstant = false;
+      for (int i = 0; i < constants.length; i++) {
+        if (node.getParameters()[i] instanceof InlinedASTNode inlined) {
+          constants[i] = inlined.value();
+          anyConstant = true;
+        }
+      }
+      if (anyConstant) {
+        Solvable specialized = operator.specialize(token, constants, left, right);
+        if (specialized != null) return specialized;
+      }
+
+      Solvable specialized = operator.specialize(token, types.getParameterTypes(node), left, right);
+      if (specialized != null) return specialized;
     }
     return context -> operator.evaluate(context, token, left.solve(context), right.solve(context));
   }
 
-  private Solvable arrayIndexToSolvable(ASTNode node) {
+  /**
+   * Compiles a left-associative chain of at least two additions, that may result in a string, into
+   * an {@link AdditionChain}.
+   *
+   * @return The chain, or <code>null</code> if the node is not such a chain.
+   */
+  private @Nullable Solvable additionChainToSolvable(
+      ASTNode node, OperatorIfc operator, TypeInference types) {
+    EvaluationType type = types.getType(node);
+    if (type != EvaluationType.STRING && type != EvaluationType.ANY) return null;
+
+    Deque<ASTNode> chain = new ArrayDeque<>();
+    ASTNode current = node;
+    do {
+      chain.push(current);
+      current = current.getParameters()[0];
+    } while (!(current instanceof InlinedASTNode)
+        && current.getToken().getType() == Token.TokenType.INFIX_OPERATOR
+        && current.getToken().getOperatorDefinition() == operator);
+    if (chain.size() < 2) return null;
+
+    Token[] operatorTokens = new Token[chain.size()];
+    Solvable[] operands = new Solvable[chain.size() + 1];
+    operands[0] = toSolvable(current, types);
+    for (int i = 0; !chain.isEmpty(); i++) {
+      ASTNode addition = chain.pop();
+      operatorTokens[i] = addition.getToken();
+      operands[i + 1] = toSolvable(addition.getParameters()[1], types);
+    }
+    return new AdditionChain(operator, operatorTokens, operands);
+  }
+
+  /**
+   * Compiles a lazily evaluated operand or parameter. The generic version records if the node is
+   * evaluated at all, the speculative version replaces nodes that were never evaluated with a
+   * deoptimization.
+   */
+  private Solvable toLazySolvable(ASTNode node, TypeInference types) {
+    if (types.isUnreached(node))
+      return context -> {
+        throw DeoptimizationException.INSTANCE;
+      };
+
+    Solvable solvable = toSolvable(node, types);
+    ExecutionProfile profile = types.getRecordingProfile();
+    return profile != null ? profile.recordReached(node, solvable) : solvable;
+  }
+
+  private Solvable arrayIndexToSolvable(ASTNode node, TypeInference types) {
     Token token = node.getToken();
 
-    Solvable solvableArray = toSolvable(node.getParameters()[0]);
-    Solvable solvableIndex = toSolvable(node.getParameters()[1]);
+    Solvable solvableArray = toSolvable(node.getParameters()[0], types);
+    ASTNode indexNode = node.getParameters()[1];
+
+    if (indexNode instanceof InlinedASTNode inlined
+        && inlined.value().isNumberValue()
+        && isIntIndex(inlined.value().getNumberValue())) {
+      BigDecimal constant = inlined.value().getNumberValue();
+      int index = constant.intValue();
+      return context -> {
+        var array = solvableArray.solve(context);
+        if (array instanceof IndexedAccessor accessor)
+          return checkIndexed(
+              token, array, constant, accessor.getIndexedData(index, token, context));
+        throw EvaluationException.ofUnsupportedDataTypeInOperation(token);
+      };
+    }
 
+    Solvable solvableIndex = toSolvable(indexNode, types);
     return context -> {
       var array = solvableArray.solve(context);
       var index = solvableIndex.solve(context);
 
       if (array instanceof IndexedAccessor accessor && index.isNumberValue()) {
-        var result = accessor.getIndexedData(index.getNumberValue(), token, context);
-        if (result == null)
-          throw new EvaluationException(
-              token,
-              String.format(
-                  "Index %s out of bounds for %s %s",
-                  index.getNumberValue(), array.getName(), array.getValue()));
-        return result;
+        BigDecimal number = index.getNumberValue();
+        var result =
+            isIntIndex(number)
+                ? accessor.getIndexedData(number.intValue(), token, context)
+                : accessor.getIndexedData(number, token, context);
+        return checkIndexed(token, array, number, result);
       }
       throw EvaluationException.ofUnsupportedDataTypeInOperation(token);
     };
   }
 
-  private Solvable structureSeparatorToSolvable(ASTNode startNode) {
-    Solvable solvableStructure = toSolvable(startNode.getParameters()[0]);
-    Token nameToken = startNode.getParameters()[1].getToken();
-    String name = nameToken.getValue();
+  /** Checks if an index is an integer in the int range, using only cheap checks. */
+  private static boolean isIntIndex(BigDecimal index) {
+    return index.scale() == 0 && index.precision() <= 9;
+  }
 
-    return context -> {
-      EvaluationValue structure = solvableStructure.solve(context);
-      if (structure instanceof DataAccessorIfc accessor) {
-        var result = accessor.getVariableData(name, nameToken, context);
-        if (result == null)
-          throw new EvaluationException(
-              nameToken, String.format("Field '%s' not found in %s", name, structure.getName()));
-        return result;
-      }
-      throw EvaluationException.ofUnsupportedDataTypeInOperation(startNode.getToken());
-    };
+  private static EvaluationValue checkIndexed(
+      Token token, EvaluationValue array, BigDecimal index, @Nullable EvaluationValue result)
+      throws EvaluationException {
+    if (result == null)
+      throw new EvaluationException(
+          token,
+          String.format(
+              "Index %s out of bounds for %s %s", index, array.getName(), array.getValue()));
+    return result;
+  }
+
+  /**
+   * Compiles a chain of structure separators, like <code>a.b.c</code>, into a single {@link
+   * StructurePath}, which resolves all fields in one loop.
+   */
+  private Solvable structureSeparatorToSolvable(ASTNode startNode, TypeInference types) {
+    Deque<ASTNode> chain = new ArrayDeque<>();
+    ASTNode current = startNode;
+    do {
+      chain.push(current);
+      current = current.getParameters()[0];
+    } while (!(current instanceof InlinedASTNode)
+        && current.getToken().getType() == Token.TokenType.STRUCTURE_SEPARATOR);
+
+    Token[] nameTokens = new Token[chain.size()];
+    Token[] separatorTokens = new Token[chain.size()];
+    for (int i = 0; !chain.isEmpty(); i++) {
+      ASTNode separator = chain.pop();
+      nameTokens[i] = separator.getParameters()[1].getToken();
+      separatorTokens[i] = separator.getToken();
+    }
+    return new StructurePath(toSolvable(current, types), nameTokens, separatorTokens);
   }
 
-  private Solvable functionToSolvable(ASTNode node) {
+  private Solvable functionToSolvable(ASTNode node, TypeInference types) {
     Token token = node.getToken();
     FunctionIfc function = token.getFunctionDefinition();
 
@@ -310,30 +517,41 @@ public final class ExpressionParser {
       };
     }
 
-    if (node.getParameters().length == 1) {
-      Solvable solvable;
-      if (function.isParameterLazy(0)) {
-        var unwrapped = SolvableValue.of(toSolvable(node.getParameters()[0]));
-        solvable = context -> unwrapped;
+    Solvable[] solvables = new Solvable[node.getParameters().length];
+    EvaluationValue[] constants = new EvaluationValue[solvables.length];
+    boolean anyLazy = false;
+    boolean anyConstant = false;
+    for (int i = 0; i < solvables.length; i++) {
+      ASTNode parameter = node.getParameters()[i];
+      if (function.isParameterLazy(i)) {
+        var unwrapped = SolvableValue.of(toLazySolvable(parameter, types));
+        solvables[i] = context -> unwrapped;
+        anyLazy = true;
+      } else if (function.getLambdaParameterCount(i) > 0) {
+        LambdaValue lambda = lambdaToValue(parameter, types);
+        solvables[i] = context -> lambda;
       } else {
-        solvable = toSolvable(node.getParameters()[0]);
+        solvables[i] = toSolvable(parameter, types);
+        if (parameter instanceof InlinedASTNode inlined) {
+          constants[i] = inlined.value();
+          anyConstant = true;
+        }
       }
+    }
+
+    if (!anyLazy && anyConstant) {
+      Solvable specialized = function.specialize(token, constants, solvables);
+      if (specialized != null) return specialized;
+    }
+
+    if (solvables.length == 1) {
+      Solvable solvable = solvables[0];
       return context -> {
         function.validatePreEvaluation(token, solvable.solve(context));
         return function.evaluate(context, token, solvable.solve(context));
       };
     }
 
-    Solvable[] solvables = new Solvable[node.getParameters().length];
-    for (int i = 0; i < node.getParameters().length; i++) {
-      if (function.isParameterLazy(i)) {
-        var unwrapped = SolvableValue.of(toSolvable(node.getParameters()[i]));
-        solvables[i] = context -> unwrapped;
-      } else {
-        solvables[i] = toSolvable(node.getParameters()[i]);
-      }
-    }
-
     return context -> {
       EvaluationValue[] parameters = new EvaluationValue[solvables.length];
       for (int i = 0; i < solvables.length; i++) {
@@ -343,4 +561,249 @@ public final class ExpressionParser {
       return function.evaluate(context, token, parameters);
     };
   }
+
+  /**
+   * Compiles a lambda expression node into a constant value. The body is compiled once, the
+   * parameters are read from the slots that were assigned when parsing.
+   */
+  private LambdaValue lambdaToValue(ASTNode node, TypeInference types) {
+    ASTNode[] children = node.getParameters();
+    int[] slots = new int[children.length - 1];
+    String[] names = new String[slots.length];
+    for (int i = 0; i < slots.length; i++) {
+      slots[i] = ((LambdaParameterNode) children[i]).slot();
+      names[i] = children[i].getToken().getValue();
+    }
+    ASTNode body = children[slots.length];
+    return LambdaValue.of(
+        "(" + String.join(", ", names) + ") ->",
+        slots,
+        countLocals(node),
+        toSolvable(body, types),
+        toBooleanSolvable(body, types));
+  }
+
+  /** Counts the slots used by a lambda expression, including nested lambda expressions. */
+  private static int countLocals(ASTNode node) {
+    int count = node instanceof LambdaParameterNode parameter ? parameter.slot() + 1 : 0;
+    for (ASTNode child : node.getParameters()) {
+      count = Math.max(count, countLocals(child));
+    }
+    return count;
+  }
+
+  /**
+   * Compiles a node into a predicate that evaluates to a primitive boolean. Comparisons, logical
+   * operations and boolean constants are compiled directly, other operands of logical operations
+   * are evaluated using their {@link Solvable}.
+   *
+   * @param node The node to compile.
+   * @return The compiled predicate, or <code>null</code> if the node is not a comparison, logical
+   *     operation or boolean constant.
+   */
+  public @Nullable BooleanSolvable toBooleanSolvable(ASTNode node) {
+    return toBooleanSolvable(node, new TypeInference(Collections.emptyMap()));
+  }
+
+  @Nullable
+  BooleanSolvable toBooleanSolvable(ASTNode node, TypeInference types) {
+    if (node instanceof InlinedASTNode inlined) {
+      if (!inlined.value().isBooleanValue()) return null;
+      boolean constant = inlined.value().getBooleanValue();
+      return context -> constant;
+    }
+
+    Token token = node.getToken();
+    return switch (token.getType()) {
+      case INFIX_OPERATOR -> {
+        OperatorIfc operator = token.getOperatorDefinition();
+        if (operator instanceof AbstractComparisonOperator comparison) {
+          yield comparisonToBooleanSolvable(node, comparison, types);
+        }
+        if (configuration.isReorderLogicalOperands()
+            && (operator instanceof InfixAndOperator || operator instanceof InfixOrOperator)) {
+          yield logicalChainToBooleanSolvable(node, operator instanceof InfixAndOperator, types);
+        }
+        if (operator instanceof InfixAndOperator) {
+          BooleanSolvable left = toBooleanOperand(node.getParameters()[0], types);
+          BooleanSolvable right = toLazyBooleanOperand(node.getParameters()[1], types);
+          yield context -> left.test(context) && right.test(context);
+        }
+        if (operator instanceof InfixOrOperator) {
+          BooleanSolvable left = toBooleanOperand(node.getParameters()[0], types);
+          BooleanSolvable right = toLazyBooleanOperand(node.getParameters()[1], types);
+          yield context -> left.test(context) || right.test(context);
+        }
+        yield null;
+      }
+      case PREFIX_OPERATOR -> {
+        if (!(token.getOperatorDefinition() instanceof PrefixNotOperator)) yield null;
+        BooleanSolvable operand = toBooleanOperand(node.getParameters()[0], types);
+        yield context -> !operand.test(context);
+      }
+      default -> null;
+    };
+  }
+
+  private BooleanSolvable logicalChainToBooleanSolvable(
+      ASTNode node, boolean conjunction, TypeInference types) {
+    List<ASTNode> operandNodes = new ArrayList<>();
+    collectLogicalOperands(node, node.getToken().getOperatorDefinition().getClass(), operandNodes);
+
+    BooleanSolvable[] operands = new BooleanSolvable[operandNodes.size()];
+    int[] costs = new int[operands.length];
+    boolean pure = true;
+    for (int i = 0; i < operands.length; i++) {
+      operands[i] = toBooleanOperand(operandNodes.get(i), types);
+      costs[i] = estimateCost(operandNodes.get(i));
+      pure &= isPure(operandNodes.get(i));
+    }
+    // Impure operands have to be evaluated in source order, which is an already sorted cost table.
+    if (!pure) Arrays.fill(costs, 0);
+    return new LogicalOperandChain(
+        conjunction, operands, costs, pure && configuration.isLogicalOperandStatistics());
+  }
+
+  private void collectLogicalOperands(ASTNode node, Class<?> operatorType, List<ASTNode> result) {
+    if (!(node instanceof InlinedASTNode)
+        && node.getToken().getType() == Token.TokenType.INFIX_OPERATOR
+        && node.getToken().getOperatorDefinition().getClass() == operatorType) {
+      collectLogicalOperands(node.getParameters()[0], operatorType, result);
+      collectLogicalOperands(node.getParameters()[1], operatorType, result);
+    } else {
+      result.add(node);
+    }
+  }
+
+  /**
+   * Estimates the evaluation cost of a subtree, by summing up the declared costs of all operators
+   * and functions. Constants are free, every other node costs 1.
+   */
+  private int estimateCost(ASTNode node) {
+    if (node instanceof InlinedASTNode) return 0;
+
+    Token token = node.getToken();
+    long cost =
+        switch (token.getType()) {
+          case PREFIX_OPERATOR, POSTFIX_OPERATOR, INFIX_OPERATOR -> token
+              .getOperatorDefinition()
+              .getCost();
+          case FUNCTION -> token.getFunctionDefinition().getCost();
+          default -> 1;
+        };
+    for (ASTNode parameter : node.getParameters()) {
+      cost += estimateCost(parameter);
+    }
+    return (int) Math.min(cost, Integer.MAX_VALUE);
+  }
+
+  private boolean isPure(ASTNode node) {
+    if (node instanceof InlinedASTNode) return true;
+
+    Token token = node.getToken();
+    boolean pure =
+        switch (token.getType()) {
+          case PREFIX_OPERATOR, POSTFIX_OPERATOR, INFIX_OPERATOR -> token
+              .getOperatorDefinition()
+              .isPure();
+          case FUNCTION -> token.getFunctionDefinition().isPure();
+          default -> true;
+        };
+    if (!pure) return false;
+    for (ASTNode parameter : node.getParameters()) {
+      if (!isPure(parameter)) return false;
+    }
+    return true;
+  }
+
+  private BooleanSolvable toBooleanOperand(ASTNode node, TypeInference types) {
+    BooleanSolvable predicate = toBooleanSolvable(node, types);
+    if (predicate != null) return predicate;
+
+    Solvable solvable = toSolvable(node, types);
+    return context -> solvable.solve(context).getBooleanValue();
+  }
+
+  private BooleanSolvable toLazyBooleanOperand(ASTNode node, TypeInference types) {
+    if (types.isUnreached(node))
+      return context -> {
+        throw DeoptimizationException.INSTANCE;
+      };
+
+    BooleanSolvable predicate = toBooleanOperand(node, types);
+    ExecutionProfile profile = types.getRecordingProfile();
+    return profile != null ? profile.recordReached(node, predicate) : predicate;
+  }
+
+  private BooleanSolvable comparisonToBooleanSolvable(
+      ASTNode node, AbstractComparisonOperator comparison, TypeInference types) {
+    ASTNode leftNode = node.getParameters()[0];
+    ASTNode rightNode = node.getParameters()[1];
+    Solvable left = toSolvable(leftNode, types);
+    Solvable right = toSolvable(rightNode, types);
+
+    EvaluationType leftType = types.getType(leftNode);
+    EvaluationType rightType = types.getType(rightNode);
+    if (leftType == EvaluationType.NUMBER && rightType == EvaluationType.NUMBER) {
+      return context ->
+          comparison.isSatisfied(
+              left.solve(context)
+                  .getNumberValue()
+                  .compareTo(right.solve(context).getNumberValue()));
+    }
+    if (leftType == EvaluationType.STRING && rightType == EvaluationType.STRING) {
+      return context ->
+          comparison.isSatisfied(
+              left.solve(context)
+                  .getStringValue()
+                  .compareTo(right.solve(context).getStringValue()));
+    }
+
+    // When one side is a constant, its type is known, and we can compare the raw values directly.
+    if (rightNode instanceof InlinedASTNode inlined) {
+      EvaluationValue constant = inlined.value();
+      if (constant.isNumberValue()) {
+        BigDecimal number = constant.getNumberValue();
+        return context -> {
+          EvaluationValue value = left.solve(context);
+          if (value.isNumberValue())
+            return comparison.isSatisfied(value.getNumberValue().compareTo(number));
+          return comparison.test(value, constant);
+        };
+      }
+      if (constant.isStringValue()) {
+        String string = constant.getStringValue();
+        return context -> {
+          EvaluationValue value = left.solve(context);
+          if (value.isStringValue())
+            return comparison.isSatisfied(value.getStringValue().compareTo(string));
+          return comparison.test(value, constant);
+        };
+      }
+      return context -> comparison.test(left.solve(context), constant);
+    }
+    if (leftNode instanceof InlinedASTNode inlined) {
+      EvaluationValue constant = inlined.value();
+      if (constant.isNumberValue()) {
+        BigDecimal number = constant.getNumberValue();
+        return context -> {
+          EvaluationValue value = right.solve(context);
+          if (value.isNumberValue())
+            return comparison.isSatisfied(number.compareTo(value.getNumberValue()));
+          return comparison.test(constant, value);
+        };
+      }
+      if (constant.isStringValue()) {
+        String string = constant.getStringValue();
+        return context -> {
+          EvaluationValue value = right.solve(context);
+          if (value.isStringValue())
+            return comparison.isSatisfied(string.compareTo(value.getStringValue()));
+          return comparison.test(constant, value);
+        };
+      }
+      return context -> comparison.test(constant, right.solve(context));
+    }
+    return context -> comparison.test(left.solve(context), right.solve(context));
+  }
 }
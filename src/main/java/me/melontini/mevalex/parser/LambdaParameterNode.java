@@ -0,0 +1,43 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.parser;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * A parameter of a lambda expression, or a reference to it in the body of the lambda expression.
+ * The value of the parameter is stored in a slot of the evaluation context, each lambda parameter
+ * of an expression has its own slot.
+ */
+@Getter
+@Accessors(fluent = true)
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public final class LambdaParameterNode extends ASTNode {
+
+  int slot;
+
+  public LambdaParameterNode(Token token, int slot) {
+    super(token, EMPTY);
+    this.slot = slot;
+  }
+}
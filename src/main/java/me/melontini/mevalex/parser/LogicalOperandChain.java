@@ -0,0 +1,152 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.parser;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.EvaluationException;
+
+/**
+ * A flattened chain of pure operands of the same logical operation (AND or OR), that are evaluated
+ * in order of their estimated cost instead of their source order.
+ *
+ * <p>If statistics are enabled, the chain counts how often each operand decides the result and
+ * periodically re-sorts the operands, so that cheap and selective operands are evaluated first. The
+ * counters are updated without synchronization, as they are only used as an estimate.
+ *
+ * <p>If the evaluation in the reordered sequence fails, the operands are evaluated again in source
+ * order. That way, guards like in <code>a != 0 &amp;&amp; 1 / a &gt; 1</code> still protect the
+ * operands that follow them.
+ */
+final class LogicalOperandChain implements BooleanSolvable {
+
+  /** The number of evaluations after which the order is re-calculated from the statistics. */
+  static final int STATISTICS_INTERVAL = 1024;
+
+  private final boolean conjunction;
+  private final BooleanSolvable[] operands;
+  private final int[] costs;
+  private final boolean statistics;
+
+  private volatile int[] order;
+
+  private final int[] evaluated;
+  private final int[] decided;
+  private int evaluations;
+
+  /**
+   * Creates a new chain.
+   *
+   * @param conjunction <code>true</code> for a logical AND, <code>false</code> for a logical OR.
+   * @param operands The operands in source order.
+   * @param costs The estimated cost of each operand.
+   * @param statistics If runtime statistics should be used to adapt the order.
+   */
+  LogicalOperandChain(
+      boolean conjunction, BooleanSolvable[] operands, int[] costs, boolean statistics) {
+    this.conjunction = conjunction;
+    this.operands = operands;
+    this.costs = costs;
+    this.statistics = statistics;
+    this.evaluated = new int[operands.length];
+    this.decided = new int[operands.length];
+    this.order =
+        IntStream.range(0, operands.length)
+            .boxed()
+            .sorted(Comparator.comparingInt(index -> costs[index]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+  }
+
+  @Override
+  public boolean test(EvaluationContext context) throws EvaluationException {
+    int[] current = order;
+    try {
+      return statistics ? testAndRecord(context, current) : test(context, current);
+    } catch (EvaluationException | RuntimeException e) {
+      if (isSourceOrder(current)) throw e;
+      return testInSourceOrder(context);
+    }
+  }
+
+  private boolean test(EvaluationContext context, int[] current) throws EvaluationException {
+    for (int index : current) {
+      if (operands[index].test(context) != conjunction) return !conjunction;
+    }
+    return conjunction;
+  }
+
+  private boolean testAndRecord(EvaluationContext context, int[] current)
+      throws EvaluationException {
+    if (++evaluations >= STATISTICS_INTERVAL) reorder();
+
+    for (int index : current) {
+      evaluated[index]++;
+      if (operands[index].test(context) != conjunction) {
+        decided[index]++;
+        return !conjunction;
+      }
+    }
+    return conjunction;
+  }
+
+  private boolean testInSourceOrder(EvaluationContext context) throws EvaluationException {
+    for (BooleanSolvable operand : operands) {
+      if (operand.test(context) != conjunction) return !conjunction;
+    }
+    return conjunction;
+  }
+
+  /**
+   * Sorts the operands by their cost divided by the probability that they decide the result, which
+   * is the expected cost of reaching a decision with this operand. The counters are halved
+   * afterwards, so that older evaluations lose weight over time.
+   */
+  private void reorder() {
+    evaluations = 0;
+    double[] rank = new double[operands.length];
+    for (int i = 0; i < operands.length; i++) {
+      double probability = (decided[i] + 1d) / (evaluated[i] + 2d);
+      rank[i] = Math.max(costs[i], 1) / probability;
+      evaluated[i] >>= 1;
+      decided[i] >>= 1;
+    }
+    order =
+        IntStream.range(0, operands.length)
+            .boxed()
+            .sorted(Comparator.comparingDouble(index -> rank[index]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+  }
+
+  private static boolean isSourceOrder(int[] order) {
+    for (int i = 0; i < order.length; i++) {
+      if (order[i] != i) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns the current evaluation order, as indices into the operands in source order.
+   *
+   * @return A copy of the current order.
+   */
+  int[] getOrder() {
+    return Arrays.copyOf(order, order.length);
+  }
+}
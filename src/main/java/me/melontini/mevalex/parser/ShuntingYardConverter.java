@@ -19,8 +19,8 @@ import java.util.*;
 import lombok.RequiredArgsConstructor;
 import me.melontini.mevalex.config.ExpressionConfiguration;
 import me.melontini.mevalex.data.types.NumberValue;
-import me.melontini.mevalex.data.types.StringValue;
 import me.melontini.mevalex.functions.FunctionIfc;
+import me.melontini.mevalex.functions.FunctionParameterDefinition;
 import me.melontini.mevalex.operators.OperatorIfc;
 
 /**
@@ -45,6 +45,8 @@ public class ShuntingYardConverter {
   private static class Context {
     private final Deque<Token> operatorStack = new ArrayDeque<>();
     private final Deque<ASTNode> operandStack = new ArrayDeque<>();
+    private int lambdaSlots;
+    private int lambdaParameters;
   }
 
   public ASTNode toAbstractSyntaxTree(List<Token> expressionTokens, String originalExpression)
@@ -59,7 +61,8 @@ public class ShuntingYardConverter {
                 currentToken,
                 NumberValue.ofString(currentToken.getValue(), configuration.getMathContext())));
         case STRING_LITERAL -> context.operandStack.push(
-            InlinedASTNode.of(currentToken, StringValue.of(currentToken.getValue())));
+            InlinedASTNode.of(
+                currentToken, configuration.getStringValuePool().get(currentToken.getValue())));
         case FUNCTION -> context.operatorStack.push(currentToken);
         case COMMA -> processOperatorsFromStackUntilTokenType(Token.TokenType.BRACE_OPEN, context);
         case INFIX_OPERATOR, PREFIX_OPERATOR, POSTFIX_OPERATOR -> processOperator(
@@ -69,6 +72,11 @@ public class ShuntingYardConverter {
         case ARRAY_OPEN -> processArrayOpen(currentToken, context);
         case ARRAY_CLOSE -> processArrayClose(context);
         case STRUCTURE_SEPARATOR -> processStructureSeparator(currentToken, context);
+        case LAMBDA_PARAMETER -> {
+          context.operandStack.push(new LambdaParameterNode(currentToken, context.lambdaSlots++));
+          context.lambdaParameters++;
+        }
+        case LAMBDA -> processLambda(currentToken, context);
         default -> throw new ParseException(
             currentToken, "Unexpected token of type '" + currentToken.getType() + "'");
       }
@@ -88,7 +96,73 @@ public class ShuntingYardConverter {
       throw new ParseException(originalExpression, "Too many operands");
     }
 
-    return context.operandStack.pop();
+    ASTNode root = context.operandStack.pop();
+    checkNotLambda(root);
+    return root;
+  }
+
+  /**
+   * A lambda expression is treated like an infix operator with the lowest precedence, so that the
+   * body extends to the next comma or closing brace. The left operand is a node holding the already
+   * parsed lambda parameters.
+   */
+  private void processLambda(Token currentToken, Context context) {
+    ASTNode[] parameters = new ASTNode[context.lambdaParameters];
+    for (int i = parameters.length - 1; i >= 0; i--) {
+      parameters[i] = context.operandStack.pop();
+    }
+    context.lambdaParameters = 0;
+    context.operandStack.push(ASTNode.of(currentToken, parameters));
+    context.operatorStack.push(currentToken);
+  }
+
+  /**
+   * Creates the node of a lambda expression, with the parameters as first children and the body as
+   * last child. References to the parameters in the body are replaced with nodes that read the
+   * parameter slots.
+   */
+  private void createLambdaNode(Token token, Context context) throws ParseException {
+    ASTNode body = context.operandStack.pop();
+    if (body.getToken() == token) {
+      throw new ParseException(token, "Missing lambda expression body");
+    }
+    checkNotLambda(body);
+
+    ASTNode[] parameters = context.operandStack.pop().getParameters();
+    ASTNode[] children = Arrays.copyOf(parameters, parameters.length + 1);
+    children[parameters.length] = resolveLambdaParameters(body, parameters);
+    context.operandStack.push(ASTNode.of(token, children));
+  }
+
+  private static ASTNode resolveLambdaParameters(ASTNode node, ASTNode[] parameters) {
+    if (node instanceof InlinedASTNode) return node;
+
+    Token token = node.getToken();
+    if (token.getType() == Token.TokenType.VARIABLE_OR_CONSTANT) {
+      for (ASTNode parameter : parameters) {
+        if (parameter.getToken().getValue().equalsIgnoreCase(token.getValue())) {
+          return new LambdaParameterNode(
+              new Token(
+                  token.getStartPosition(), token.getValue(), Token.TokenType.LAMBDA_PARAMETER),
+              ((LambdaParameterNode) parameter).slot());
+        }
+      }
+      return node;
+    }
+
+    ASTNode[] children = node.getParameters();
+    // the field names of a structure separator are no variables
+    int count = token.getType() == Token.TokenType.STRUCTURE_SEPARATOR ? 1 : children.length;
+    for (int i = 0; i < count; i++) {
+      children[i] = resolveLambdaParameters(children[i], parameters);
+    }
+    return node;
+  }
+
+  private static void checkNotLambda(ASTNode node) throws ParseException {
+    if (!(node instanceof InlinedASTNode) && node.getToken().getType() == Token.TokenType.LAMBDA) {
+      throw new ParseException(node.getToken(), "Lambda expression not allowed here");
+    }
   }
 
   private void processStructureSeparator(Token currentToken, Context context)
@@ -149,6 +223,28 @@ public class ShuntingYardConverter {
         && parameters.size() > function.getFunctionParameterDefinitions().size()) {
       throw new ParseException(functionToken, "Too many parameters for function");
     }
+
+    for (int i = 0; i < parameters.size(); i++) {
+      ASTNode parameter = parameters.get(i);
+      int lambdaParameters = function.getLambdaParameterCount(i);
+      if (lambdaParameters == 0) {
+        checkNotLambda(parameter);
+      } else if (parameter instanceof InlinedASTNode
+          || parameter.getToken().getType() != Token.TokenType.LAMBDA) {
+        List<FunctionParameterDefinition> definitions = function.getFunctionParameterDefinitions();
+        throw new ParseException(
+            functionToken,
+            String.format(
+                "Parameter '%s' must be a lambda expression",
+                definitions.get(Math.min(i, definitions.size() - 1)).getName()));
+      } else if (parameter.getParameters().length - 1 != lambdaParameters) {
+        throw new ParseException(
+            parameter.getToken(),
+            String.format(
+                "Lambda expression must have %d parameter%s",
+                lambdaParameters, lambdaParameters == 1 ? "" : "s"));
+      }
+    }
   }
 
   /**
@@ -194,6 +290,9 @@ public class ShuntingYardConverter {
     ASTNode array = context.operandStack.pop();
     operands[0] = array;
 
+    checkNotLambda(array);
+    checkNotLambda(index);
+
     context.operandStack.push(ASTNode.of(arrayToken, operands));
   }
 
@@ -207,11 +306,16 @@ public class ShuntingYardConverter {
   }
 
   private void createOperatorNode(Token token, Context context) throws ParseException {
+    if (token.getType() == Token.TokenType.LAMBDA) {
+      createLambdaNode(token, context);
+      return;
+    }
     if (context.operandStack.isEmpty()) {
       throw new ParseException(token, "Missing operand for operator");
     }
 
     ASTNode operand1 = context.operandStack.pop();
+    checkNotLambda(operand1);
 
     if (token.getType() == Token.TokenType.PREFIX_OPERATOR
         || token.getType() == Token.TokenType.POSTFIX_OPERATOR) {
@@ -221,6 +325,7 @@ public class ShuntingYardConverter {
         throw new ParseException(token, "Missing second operand for operator");
       }
       ASTNode operand2 = context.operandStack.pop();
+      checkNotLambda(operand2);
       context.operandStack.push(ASTNode.of(token, operand2, operand1));
     }
   }
@@ -0,0 +1,96 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.parser;
+
+import java.lang.invoke.MethodHandle;
+import lombok.RequiredArgsConstructor;
+import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.data.DataAccessorIfc;
+import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.types.StructureValue;
+import me.melontini.mevalex.data.util.PojoMapWrapper;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A chain of structure field accesses, like <code>a.b.c.d</code>, that is resolved in a single
+ * loop. The field names are interned when the expression is parsed.
+ *
+ * <p>Each step has an inline cache for structures backed by a {@link PojoMapWrapper}: the getter
+ * for the last seen class is remembered, so that the next object of the same class is read without
+ * looking up the property. The caches are updated without synchronization, as each cache entry is
+ * immutable and concurrent updates only lose a cached getter.
+ */
+final class StructurePath implements Solvable {
+
+  private final Solvable structure;
+  private final String[] names;
+  private final Token[] nameTokens;
+  private final Token[] separatorTokens;
+  private final ShapeCache[] caches;
+
+  /**
+   * Creates a new path.
+   *
+   * @param structure The solvable for the structure at the start of the path.
+   * @param nameTokens The tokens of the field names, in access order.
+   * @param separatorTokens The tokens of the structure separators, in access order.
+   */
+  StructurePath(Solvable structure, Token[] nameTokens, Token[] separatorTokens) {
+    this.structure = structure;
+    this.nameTokens = nameTokens;
+    this.separatorTokens = separatorTokens;
+    this.names = new String[nameTokens.length];
+    for (int i = 0; i < nameTokens.length; i++) this.names[i] = nameTokens[i].getValue().intern();
+    this.caches = new ShapeCache[nameTokens.length];
+  }
+
+  @Override
+  public EvaluationValue solve(EvaluationContext context) throws EvaluationException {
+    EvaluationValue value = structure.solve(context);
+    for (int i = 0; i < names.length; i++) value = field(value, i, context);
+    return value;
+  }
+
+  private EvaluationValue field(EvaluationValue value, int step, EvaluationContext context)
+      throws EvaluationException {
+    EvaluationValue result;
+    if (value instanceof StructureValue structureValue
+        && structureValue.getStructureValue() instanceof PojoMapWrapper pojo) {
+      Class<?> type = pojo.getTarget().getClass();
+      ShapeCache cache = caches[step];
+      if (cache == null || cache.type != type)
+        caches[step] = cache = new ShapeCache(type, pojo.getAccessor().getGetter(names[step]));
+      result = cache.getter == null ? null : pojo.get(names[step], cache.getter);
+    } else if (value instanceof DataAccessorIfc accessor) {
+      result = accessor.getVariableData(names[step], nameTokens[step], context);
+    } else {
+      throw EvaluationException.ofUnsupportedDataTypeInOperation(separatorTokens[step]);
+    }
+
+    if (result == null)
+      throw new EvaluationException(
+          nameTokens[step],
+          String.format("Field '%s' not found in %s", names[step], value.getName()));
+    return result;
+  }
+
+  @RequiredArgsConstructor
+  private static final class ShapeCache {
+    private final Class<?> type;
+    private final @Nullable MethodHandle getter;
+  }
+}
@@ -49,7 +49,9 @@ public class Token {
     ARRAY_OPEN,
     ARRAY_CLOSE,
     ARRAY_INDEX,
-    STRUCTURE_SEPARATOR
+    STRUCTURE_SEPARATOR,
+    LAMBDA_PARAMETER,
+    LAMBDA
   }
 
   int startPosition;
@@ -118,6 +118,11 @@ public class Tokenizer {
         && invalidTokenAfterInfixOperator(currentToken)) {
       throw new ParseException(currentToken, "Unexpected token after infix operator");
     }
+    if (previousToken != null
+        && previousToken.getType() == Token.TokenType.LAMBDA
+        && invalidTokenAfterInfixOperator(currentToken)) {
+      throw new ParseException(currentToken, "Missing lambda expression body");
+    }
   }
 
   private boolean invalidTokenAfterInfixOperator(Token token) {
@@ -160,11 +165,80 @@ public class Tokenizer {
       return parseIdentifier(context);
     } else if (isAtNumberStart(context)) {
       return parseNumberLiteral(context);
+    } else if (isAtLambdaArrow(context)) {
+      return parseLambda(context);
     } else {
       return parseOperator(context);
     }
   }
 
+  private boolean isAtLambdaArrow(Context context) {
+    if (context.currentChar != '-' || peekNextChar(context) != '>') return false;
+    if (operatorDictionary.hasInfixOperator("->")) return false;
+
+    Token previousToken = getPreviousToken(context);
+    return previousToken != null
+        && (previousToken.getType() == Token.TokenType.VARIABLE_OR_CONSTANT
+            || previousToken.getType() == Token.TokenType.BRACE_CLOSE);
+  }
+
+  /**
+   * Parses the arrow of a lambda expression, like <code>x -> x * 2</code> or <code>
+   * (sum, x) -> sum + x</code>. The already parsed tokens of the parameter list are replaced by
+   * {@link Token.TokenType#LAMBDA_PARAMETER} tokens, followed by the {@link Token.TokenType#LAMBDA}
+   * token.
+   */
+  private Token parseLambda(Context context) throws ParseException {
+    Token lambda = new Token(context.currentColumnIndex, "->", Token.TokenType.LAMBDA);
+    consumeChar(context);
+    consumeChar(context);
+
+    List<Token> tokens = context.tokens;
+    List<Token> parameters = new ArrayList<>();
+    int start = tokens.size() - 1;
+    if (tokens.get(start).getType() == Token.TokenType.BRACE_CLOSE) {
+      int index = start - 1;
+      while (true) {
+        if (index < 0 || tokens.get(index).getType() != Token.TokenType.VARIABLE_OR_CONSTANT) {
+          throw new ParseException(lambda, "Invalid lambda parameters");
+        }
+        parameters.add(0, tokens.get(index--));
+        if (index < 0 || tokens.get(index).getType() != Token.TokenType.COMMA) break;
+        index--;
+      }
+      if (index < 0 || tokens.get(index).getType() != Token.TokenType.BRACE_OPEN) {
+        throw new ParseException(lambda, "Invalid lambda parameters");
+      }
+      start = index;
+    } else {
+      parameters.add(tokens.get(start));
+    }
+
+    // lambda expressions are only allowed as function parameters
+    Token beforeLambda = start == 0 ? null : tokens.get(start - 1);
+    if (beforeLambda == null
+        || (beforeLambda.getType() != Token.TokenType.COMMA
+            && beforeLambda.getType() != Token.TokenType.BRACE_OPEN)) {
+      throw new ParseException(lambda, "Lambda expression not allowed here");
+    }
+
+    tokens.subList(start, tokens.size()).clear();
+    for (Token parameter : parameters) {
+      for (Token previous : tokens.subList(start, tokens.size())) {
+        if (previous.getValue().equalsIgnoreCase(parameter.getValue())) {
+          throw new ParseException(
+              parameter, "Duplicate lambda parameter '" + parameter.getValue() + "'");
+        }
+      }
+      tokens.add(
+          new Token(
+              parameter.getStartPosition(),
+              parameter.getValue(),
+              Token.TokenType.LAMBDA_PARAMETER));
+    }
+    return lambda;
+  }
+
   private Token parseStructureSeparator(Context context) throws ParseException {
     Token token = new Token(context.currentColumnIndex, ".", Token.TokenType.STRUCTURE_SEPARATOR);
     if (arrayOpenOrStructureSeparatorNotAllowed(context)) {
@@ -279,7 +353,13 @@ public class Tokenizer {
     }
 
     return switch (previousToken.getType()) {
-      case BRACE_OPEN, INFIX_OPERATOR, PREFIX_OPERATOR, FUNCTION, COMMA, ARRAY_OPEN -> false;
+      case BRACE_OPEN,
+          INFIX_OPERATOR,
+          PREFIX_OPERATOR,
+          FUNCTION,
+          COMMA,
+          ARRAY_OPEN,
+          LAMBDA -> false;
       default -> true;
     };
   }
@@ -292,7 +372,7 @@ public class Tokenizer {
     }
 
     return switch (previousToken.getType()) {
-      case BRACE_OPEN, INFIX_OPERATOR, COMMA, PREFIX_OPERATOR, ARRAY_OPEN -> true;
+      case BRACE_OPEN, INFIX_OPERATOR, COMMA, PREFIX_OPERATOR, ARRAY_OPEN, LAMBDA -> true;
       default -> false;
     };
   }
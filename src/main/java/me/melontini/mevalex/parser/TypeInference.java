@@ -0,0 +1,194 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.parser;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import me.melontini.mevalex.data.EvaluationType;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Infers the static types of the nodes of an abstract syntax tree. Types are derived from constant
+ * values, declared variable types and the result types reported by operators and functions. Nodes
+ * whose type can not be determined before evaluation are of type {@link EvaluationType#ANY}.
+ */
+public final class TypeInference {
+
+  private final Map<String, EvaluationType> variableTypes;
+  private final Map<ASTNode, EvaluationType> nodeTypes = new IdentityHashMap<>();
+  private final @Nullable ExecutionProfile profile;
+  private final boolean speculative;
+
+  /**
+   * Creates a new type inference.
+   *
+   * @param variableTypes The declared variable types, names are case-insensitive.
+   */
+  public TypeInference(Map<String, EvaluationType> variableTypes) {
+    this(variableTypes, null, false);
+  }
+
+  private TypeInference(
+      Map<String, EvaluationType> variableTypes,
+      @Nullable ExecutionProfile profile,
+      boolean speculative) {
+    this.variableTypes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    this.variableTypes.putAll(variableTypes);
+    this.profile = profile;
+    this.speculative = speculative;
+  }
+
+  /**
+   * Creates a type inference without declared types, for compiling a generic version of an
+   * expression that records its runtime behaviour in the given profile.
+   */
+  static TypeInference profiling(ExecutionProfile profile) {
+    return new TypeInference(Collections.emptyMap(), profile, false);
+  }
+
+  /**
+   * Creates a type inference that assumes the variable types observed in the given profile, for
+   * compiling a speculative version of an expression.
+   */
+  static TypeInference speculating(ExecutionProfile profile) {
+    return new TypeInference(profile.getVariableTypes(), profile, true);
+  }
+
+  /**
+   * Returns the profile to record the runtime behaviour in, if a generic version is compiled.
+   *
+   * @return The profile, or <code>null</code> if nothing should be recorded.
+   */
+  @Nullable
+  ExecutionProfile getRecordingProfile() {
+    return speculative ? null : profile;
+  }
+
+  /**
+   * Checks if the variable types are speculated, in which case a value of another type must
+   * deoptimize the expression instead of failing the evaluation.
+   *
+   * @return <code>true</code> if the variable types are speculated.
+   */
+  boolean isSpeculative() {
+    return speculative;
+  }
+
+  /**
+   * Checks if a lazily evaluated node was never evaluated by the generic version of a speculative
+   * expression.
+   *
+   * @param node The node.
+   * @return <code>true</code> if the node can be replaced with a deoptimization.
+   */
+  boolean isUnreached(ASTNode node) {
+    return speculative && profile != null && !profile.isReached(node);
+  }
+
+  /**
+   * Infers the types of a node and all of its children.
+   *
+   * @param node The node.
+   * @return The type of the node.
+   * @throws ParseException If an operator or function does not support the types of its operands.
+   */
+  public EvaluationType infer(ASTNode node) throws ParseException {
+    if (node instanceof InlinedASTNode) return getType(node);
+
+    Token token = node.getToken();
+    EvaluationType type =
+        switch (token.getType()) {
+          case VARIABLE_OR_CONSTANT -> getVariableType(token.getValue());
+          case PREFIX_OPERATOR, POSTFIX_OPERATOR, INFIX_OPERATOR -> token
+              .getOperatorDefinition()
+              .inferResultType(token, inferParameters(node));
+          case FUNCTION -> token
+              .getFunctionDefinition()
+              .inferResultType(token, inferParameters(node));
+          case ARRAY_INDEX -> {
+            EvaluationType array = infer(node.getParameters()[0]);
+            EvaluationType index = infer(node.getParameters()[1]);
+            if (index.isKnown() && index != EvaluationType.NUMBER)
+              throw ParseException.ofUnsupportedDataTypeInOperation(token);
+            yield switch (array) {
+              case ARRAY, ANY -> EvaluationType.ANY;
+              case STRING -> EvaluationType.STRING;
+              default -> throw ParseException.ofUnsupportedDataTypeInOperation(token);
+            };
+          }
+          case STRUCTURE_SEPARATOR -> {
+            EvaluationType structure = infer(node.getParameters()[0]);
+            if (structure.isKnown() && structure != EvaluationType.STRUCTURE)
+              throw ParseException.ofUnsupportedDataTypeInOperation(token);
+            yield EvaluationType.ANY;
+          }
+          case LAMBDA -> {
+            infer(node.getParameters()[node.getParameters().length - 1]);
+            yield EvaluationType.ANY;
+          }
+          default -> EvaluationType.ANY;
+        };
+    nodeTypes.put(node, type);
+    return type;
+  }
+
+  private EvaluationType[] inferParameters(ASTNode node) throws ParseException {
+    EvaluationType[] types = new EvaluationType[node.getParameters().length];
+    for (int i = 0; i < types.length; i++) {
+      types[i] = infer(node.getParameters()[i]);
+    }
+    return types;
+  }
+
+  /**
+   * Returns the inferred type of a node.
+   *
+   * @param node The node.
+   * @return The type, or {@link EvaluationType#ANY} if the type is not known.
+   */
+  public EvaluationType getType(ASTNode node) {
+    if (node instanceof InlinedASTNode inlined) return EvaluationType.of(inlined.value());
+    return nodeTypes.getOrDefault(node, EvaluationType.ANY);
+  }
+
+  /**
+   * Returns the inferred types of the parameters of a node.
+   *
+   * @param node The node.
+   * @return The parameter types.
+   */
+  public EvaluationType[] getParameterTypes(ASTNode node) {
+    EvaluationType[] types = new EvaluationType[node.getParameters().length];
+    for (int i = 0; i < types.length; i++) {
+      types[i] = getType(node.getParameters()[i]);
+    }
+    return types;
+  }
+
+  /**
+   * Returns the declared type of a variable.
+   *
+   * @param name The variable name.
+   * @return The declared type, or {@link EvaluationType#ANY} if the variable type is not declared.
+   */
+  public EvaluationType getVariableType(String name) {
+    EvaluationType declared = variableTypes.get(name);
+    if (declared != null) return declared;
+    return EvaluationType.ANY;
+  }
+}
@@ -21,7 +21,12 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import me.melontini.mevalex.config.ExpressionConfiguration;
+import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.IndexedAccessor;
+import me.melontini.mevalex.data.types.StringValue;
 import me.melontini.mevalex.parser.ParseException;
+import me.melontini.mevalex.parser.Token;
 import org.junit.jupiter.api.Test;
 
 class ExpressionEvaluatorArrayTest extends BaseExpressionEvaluatorTest {
@@ -209,4 +214,68 @@ class ExpressionEvaluatorArrayTest extends BaseExpressionEvaluatorTest {
         .isInstanceOf(EvaluationException.class)
         .hasMessage("Index -1 out of bounds for array [StringValue(value=Hello)]");
   }
+
+  @Test
+  void testConstantIndices() throws ParseException, EvaluationException {
+    double[] values = {1.5, 2.5, 3.5};
+    Expression expression = createExpression("values[0] + values[1] + values[2]");
+
+    assertThat(expression.evaluate(builder -> builder.parameter("values", values)).getStringValue())
+        .isEqualTo("7.5");
+  }
+
+  @Test
+  void testFractionalIndexIsTruncated() throws ParseException, EvaluationException {
+    List<?> array = List.of("a", "b", "c");
+
+    assertThat(
+            createExpression("a[1.7]")
+                .evaluate(builder -> builder.parameter("a", array))
+                .getStringValue())
+        .isEqualTo("b");
+    assertThat(
+            createExpression("a[i]")
+                .evaluate(builder -> builder.parameter("a", array).parameter("i", 2.2))
+                .getStringValue())
+        .isEqualTo("c");
+  }
+
+  @Test
+  void testStringIndexReturnsCachedCharacters() throws ParseException, EvaluationException {
+    Expression expression = createExpression("s[i]");
+
+    assertThat(expression.evaluate(builder -> builder.parameter("s", "hello").parameter("i", 1)))
+        .isSameAs(StringValue.of('e'));
+  }
+
+  @Test
+  void testCustomIndexedAccessorReceivesFractionalIndex()
+      throws ParseException, EvaluationException {
+    Expression expression = createExpression("a[0.5] + a[2]");
+
+    assertThat(
+            expression
+                .evaluate(builder -> builder.parameter("a", new EchoIndexAccessor()))
+                .getStringValue())
+        .isEqualTo("2.5");
+  }
+
+  /** Returns the index it was called with. */
+  private static final class EchoIndexAccessor implements EvaluationValue, IndexedAccessor {
+    @Override
+    public Object getValue() {
+      return this;
+    }
+
+    @Override
+    public String getName() {
+      return "echo";
+    }
+
+    @Override
+    public EvaluationValue getIndexedData(
+        BigDecimal index, Token token, EvaluationContext context) {
+      return EvaluationValue.of(index, ExpressionConfiguration.defaultConfiguration());
+    }
+  }
 }
@@ -16,13 +16,17 @@
 package me.melontini.mevalex;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.math.BigDecimal;
 import java.util.function.UnaryOperator;
 import me.melontini.mevalex.config.ExpressionConfiguration;
 import me.melontini.mevalex.operators.OperatorIfc;
 import me.melontini.mevalex.parser.ExpressionParser;
 import me.melontini.mevalex.parser.ParseException;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
 class ExpressionEvaluatorPowerOfTest extends BaseExpressionEvaluatorTest {
 
@@ -42,4 +46,78 @@ class ExpressionEvaluatorPowerOfTest extends BaseExpressionEvaluatorTest {
 
     assertThat(expression.evaluate(UnaryOperator.identity()).getStringValue()).isEqualTo("-4");
   }
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = ':',
+      value = {
+        "x^0 : 1",
+        "x^1 : 1.5",
+        "x^2 : 2.25",
+        "x^3 : 3.375",
+        "x^-2 : 0.44444444444444444444444444444444444444444444444444444444444444444444",
+        "x^1.5 : 1.8371173070873835736479630560294185439744606104925025963245194254382",
+        "(x+0.5)^0.5 : 1.4142135623730950488016887242096980785696718753769480731766797379907",
+        "(x+5.5)^-1 : 0.14285714285714285714285714285714285714285714285714285714285714285714"
+      })
+  void testConstantExponent(String expressionString, String expectedResult)
+      throws ParseException, EvaluationException {
+    Expression expression =
+        ExpressionConfiguration.defaultExpressionParser().parse(expressionString);
+
+    assertThat(expression.evaluate(builder -> builder.parameter("x", 1.5)).getStringValue())
+        .isEqualTo(expectedResult);
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = ':',
+      value = {"0", "1", "2", "3", "-2", "0.5", "1.5", "-0.25"})
+  void testConstantExponentMatchesVariableExponent(String exponent)
+      throws ParseException, EvaluationException {
+    Expression constant = ExpressionConfiguration.defaultExpressionParser().parse("x^" + exponent);
+    Expression variable = ExpressionConfiguration.defaultExpressionParser().parse("x^y");
+
+    for (String base :
+        new String[] {
+          "0.3",
+          "1",
+          "2.5",
+          "17",
+          "5730765856769686356586845257813269689270081980583994789302324008.23"
+        }) {
+      assertThat(constant.evaluate(builder -> builder.parameter("x", new BigDecimal(base))))
+          .isEqualTo(
+              variable.evaluate(
+                  builder ->
+                      builder
+                          .parameter("x", new BigDecimal(base))
+                          .parameter("y", new BigDecimal(exponent))));
+    }
+  }
+
+  @Test
+  void testConstantExponentNonNumberBase() throws ParseException, EvaluationException {
+    Expression expression = ExpressionConfiguration.defaultExpressionParser().parse("x^2");
+
+    assertThatThrownBy(() -> expression.evaluate(builder -> builder.parameter("x", "a")))
+        .isInstanceOf(EvaluationException.class)
+        .hasMessage("Unsupported data types in operation");
+  }
+
+  @Test
+  void testConstantFractionalExponentNegativeBase() throws ParseException, EvaluationException {
+    Expression expression = ExpressionConfiguration.defaultExpressionParser().parse("x^0.5");
+
+    assertThatThrownBy(() -> expression.evaluate(builder -> builder.parameter("x", -4)))
+        .isInstanceOf(EvaluationException.class)
+        .hasMessage("Fractional power of a negative number");
+  }
+
+  @Test
+  void testExponentOutOfRange() {
+    assertThatThrownBy(() -> evaluate("2^9999999999"))
+        .isInstanceOf(EvaluationException.class)
+        .hasMessage("Overflow");
+  }
 }
@@ -0,0 +1,111 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import me.melontini.mevalex.config.ExpressionConfiguration;
+import me.melontini.mevalex.parser.ParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ExpressionEvaluatorPredicateTest {
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = ':',
+      value = {
+        "a < b : true",
+        "a > b : false",
+        "a >= 2 : true",
+        "2 >= a : true",
+        "3 <= a : false",
+        "a == 2.0 : true",
+        "a != 2 : false",
+        "s == \"abc\" : true",
+        "\"abd\" > s : true",
+        "s == 2 : false",
+        "a == \"2\" : false",
+        "n == null : true",
+        "n != null : false",
+        "a < b && s == \"abc\" : true",
+        "a > b || b > a : true",
+        "!(a < b) : false",
+        "!t : false",
+        "t && a : true",
+        "a + b > 4 : true",
+        "true : true",
+        "a : true",
+        "a - 2 : false",
+        "NOT(a < b) : false",
+        "a > b && (1 / 0 > 1) : false",
+        "a < b || (1 / 0 > 1) : true",
+      })
+  void testPredicateMatchesEvaluation(String expressionString, boolean expected)
+      throws ParseException, EvaluationException {
+    Expression expression =
+        ExpressionConfiguration.defaultExpressionParser().parse(expressionString);
+
+    assertThat(expression.test(this::parameters)).isEqualTo(expected);
+    assertThat(expression.evaluate(this::parameters).getBooleanValue()).isEqualTo(expected);
+  }
+
+  @Test
+  void testPredicateIsCompiledForComparisons() throws ParseException, EvaluationException {
+    assertThat(
+            ExpressionConfiguration.defaultExpressionParser().parse("a > 1").getBooleanSolvable())
+        .isNotNull();
+    assertThat(
+            ExpressionConfiguration.defaultExpressionParser().parse("a + 1").getBooleanSolvable())
+        .isNull();
+  }
+
+  @Test
+  void testPredicateSurvivesCopy() throws ParseException, EvaluationException {
+    Expression expression = ExpressionConfiguration.defaultExpressionParser().parse("a > 1");
+
+    assertThat(expression.copy().getBooleanSolvable()).isSameAs(expression.getBooleanSolvable());
+  }
+
+  @Test
+  void testPredicateNullResultIsFalse() throws ParseException, EvaluationException {
+    Expression expression = ExpressionConfiguration.defaultExpressionParser().parse("n");
+
+    assertThat(expression.test(this::parameters)).isFalse();
+  }
+
+  @Test
+  void testPredicateThrowsLikeEvaluation() throws ParseException, EvaluationException {
+    Expression expression = ExpressionConfiguration.defaultExpressionParser().parse("x > 1");
+
+    assertThatThrownBy(() -> expression.test(builder -> builder))
+        .isInstanceOf(EvaluationException.class)
+        .hasMessage("Variable or constant value for 'x' not found");
+  }
+
+  private EvaluationContext.EvaluationContextBuilder parameters(
+      EvaluationContext.EvaluationContextBuilder builder) {
+    return builder
+        .parameter("a", new BigDecimal("2"))
+        .parameter("b", 3)
+        .parameter("s", "abc")
+        .parameter("t", true)
+        .parameter("n", null);
+  }
+}
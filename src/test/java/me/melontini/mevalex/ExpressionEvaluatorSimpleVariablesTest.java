@@ -20,7 +20,14 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.math.BigDecimal;
 import java.util.function.UnaryOperator;
+import me.melontini.mevalex.config.ExpressionConfiguration;
 import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.conversion.ConverterIfc;
+import me.melontini.mevalex.data.conversion.DefaultEvaluationValueConverter;
+import me.melontini.mevalex.data.types.BooleanValue;
+import me.melontini.mevalex.data.types.NumberValue;
+import me.melontini.mevalex.data.types.StringValue;
+import me.melontini.mevalex.parser.ExpressionParser;
 import me.melontini.mevalex.parser.ParseException;
 import org.junit.jupiter.api.Test;
 
@@ -90,4 +97,62 @@ class ExpressionEvaluatorSimpleVariablesTest extends BaseExpressionEvaluatorTest
         .isInstanceOf(EvaluationException.class)
         .hasMessage("Variable or constant value for 'a' not found");
   }
+
+  @Test
+  void testPrimitiveParameters() throws ParseException, EvaluationException {
+    Expression expression = createExpression("a");
+
+    assertThat(expression.evaluate(builder -> builder.parameter("a", 2.5)))
+        .isEqualTo(expression.evaluate(builder -> builder.parameter("a", (Object) 2.5)));
+    assertThat(expression.convertDoubleValue(3.0).getNumberValue())
+        .isEqualTo(new BigDecimal("3.0"));
+    assertThat(expression.evaluate(builder -> builder.parameter("a", 7L)))
+        .isEqualTo(NumberValue.of(7));
+    assertThat(expression.evaluate(builder -> builder.parameter("a", 123_456)))
+        .isEqualTo(NumberValue.of(123_456));
+    assertThat(expression.evaluate(builder -> builder.parameter("a", true)))
+        .isEqualTo(BooleanValue.TRUE);
+    assertThat(expression.evaluate(builder -> builder.parameter("a", 'x')))
+        .isEqualTo(StringValue.of("x"));
+  }
+
+  @Test
+  void testPrimitiveParametersUseCustomConverter() throws ParseException, EvaluationException {
+    ExpressionConfiguration configuration =
+        ExpressionConfiguration.builder()
+            .evaluationValueConverter(
+                DefaultEvaluationValueConverter.builder()
+                    .addFirst(new DescribingConverter())
+                    .build())
+            .build();
+    Expression expression = new ExpressionParser(configuration).parse("a");
+
+    assertThat(expression.evaluate(builder -> builder.parameter("a", 1.5)))
+        .isEqualTo(StringValue.of("Double 1.5"));
+    assertThat(expression.evaluate(builder -> builder.parameter("a", 1)))
+        .isEqualTo(StringValue.of("Long 1"));
+    assertThat(expression.evaluate(builder -> builder.parameter("a", false)))
+        .isEqualTo(StringValue.of("Boolean false"));
+  }
+
+  @Test
+  void testPrimitiveParameterCanNotOverwriteConstant() throws ParseException, EvaluationException {
+    Expression expression = createExpression("a");
+
+    assertThatThrownBy(() -> expression.evaluate(builder -> builder.parameter("PI", 3.0)))
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessage("Can't set value for constant 'PI'");
+  }
+
+  private static class DescribingConverter implements ConverterIfc {
+    @Override
+    public EvaluationValue convert(Object object, ExpressionConfiguration configuration) {
+      return StringValue.of(object.getClass().getSimpleName() + " " + object);
+    }
+
+    @Override
+    public boolean canConvert(Object object) {
+      return object instanceof Number || object instanceof Boolean;
+    }
+  }
 }
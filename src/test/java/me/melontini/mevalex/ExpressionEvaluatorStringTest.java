@@ -17,6 +17,9 @@ package me.melontini.mevalex;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import me.melontini.mevalex.config.ExpressionConfiguration;
+import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.parser.ExpressionParser;
 import me.melontini.mevalex.parser.ParseException;
 import org.junit.jupiter.api.Test;
 
@@ -75,4 +78,58 @@ class ExpressionEvaluatorStringTest extends BaseExpressionEvaluatorTest {
                 .getStringValue())
         .isEqualTo("Start");
   }
+
+  @Test
+  void testStringLiteralsAreShared() throws ParseException, EvaluationException {
+    ExpressionParser parser = new ExpressionParser(ExpressionConfiguration.builder().build());
+
+    Expression first = parser.parse("\"active\"");
+    Expression second = parser.parse("IF(a, \"active\", \"inactive\")");
+    Expression third =
+        new ExpressionParser(ExpressionConfiguration.builder().build()).parse("\"active\"");
+
+    EvaluationValue value = first.evaluate(builder -> builder);
+    assertThat(second.evaluate(builder -> builder.parameter("a", true))).isSameAs(value);
+    assertThat(third.evaluate(builder -> builder)).isNotSameAs(value).isEqualTo(value);
+  }
+
+  @Test
+  void testConcatenationChain() throws ParseException, EvaluationException {
+    assertThat(evaluate("\"a\" + \",\" + 1 + \",\" + TRUE + \",\" + 2.5"))
+        .isEqualTo("a,1,true,2.5");
+    assertThat(evaluate("1 + 2 + \"x\" + 3 + 4")).isEqualTo("3x34");
+    assertThat(evaluate("1 + 2 + 3 + 4")).isEqualTo("10");
+    assertThat(evaluate("\"x\" + (1 + 2) + 3")).isEqualTo("x33");
+  }
+
+  @Test
+  void testConcatenationChainWithVariables() throws ParseException, EvaluationException {
+    Expression expression = createExpression("a + \",\" + b + \",\" + c");
+
+    assertThat(
+            expression
+                .evaluate(
+                    builder -> builder.parameter("a", 1).parameter("b", 2).parameter("c", "z"))
+                .getStringValue())
+        .isEqualTo("1,2,z");
+    assertThat(
+            expression
+                .evaluate(
+                    builder -> builder.parameter("a", "x").parameter("b", null).parameter("c", 3))
+                .getStringValue())
+        .isEqualTo("x,null,3");
+  }
+
+  @Test
+  void testAdditionChainIsRoundedBeforeConcatenation() throws ParseException, EvaluationException {
+    ExpressionConfiguration configuration =
+        ExpressionConfiguration.builder().decimalPlacesRounding(2).build();
+    Expression expression = new ExpressionParser(configuration).parse("a + b + \"|\" + a");
+
+    assertThat(
+            expression
+                .evaluate(builder -> builder.parameter("a", 1.111).parameter("b", 2.222))
+                .getStringValue())
+        .isEqualTo("3.33|1.11");
+  }
 }
@@ -24,6 +24,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import me.melontini.mevalex.config.ExpressionConfiguration;
+import me.melontini.mevalex.data.conversion.DefaultEvaluationValueConverter;
+import me.melontini.mevalex.data.conversion.PojoConverter;
+import me.melontini.mevalex.parser.ExpressionParser;
 import me.melontini.mevalex.parser.ParseException;
 import org.junit.jupiter.api.Test;
 
@@ -140,4 +143,99 @@ class ExpressionEvaluatorStructureTest extends BaseExpressionEvaluatorTest {
     assertThat(expression.evaluate(builder -> builder.parameter("a", structure)).getStringValue())
         .isEqualTo("2");
   }
+
+  @Test
+  void testPojoStructure() throws ParseException, EvaluationException {
+    ExpressionConfiguration configuration =
+        ExpressionConfiguration.builder()
+            .evaluationValueConverter(
+                DefaultEvaluationValueConverter.builder().add(new PojoConverter()).build())
+            .build();
+    Expression expression = new ExpressionParser(configuration).parse("event.payload.amount * 2");
+
+    Event event = new Event(new Payload(new BigDecimal("21.5")));
+
+    assertThat(expression.evaluate(builder -> builder.parameter("event", event)).getStringValue())
+        .isEqualTo("43");
+  }
+
+  @Test
+  void testPojoStructurePathWithChangingClasses() throws ParseException, EvaluationException {
+    ExpressionConfiguration configuration =
+        ExpressionConfiguration.builder()
+            .evaluationValueConverter(
+                DefaultEvaluationValueConverter.builder().add(new PojoConverter()).build())
+            .build();
+    Expression expression = new ExpressionParser(configuration).parse("event.payload.amount");
+
+    Map<String, Object> mapEvent = Map.of("payload", Map.of("amount", 7));
+    Map<String, Object> mixedEvent = Map.of("payload", new Payload(new BigDecimal(8)));
+    Event pojoEvent = new Event(new Payload(new BigDecimal(9)));
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(
+              expression
+                  .evaluate(builder -> builder.parameter("event", pojoEvent))
+                  .getStringValue())
+          .isEqualTo("9");
+      assertThat(
+              expression.evaluate(builder -> builder.parameter("event", mapEvent)).getStringValue())
+          .isEqualTo("7");
+      assertThat(
+              expression
+                  .evaluate(builder -> builder.parameter("event", mixedEvent))
+                  .getStringValue())
+          .isEqualTo("8");
+    }
+    assertThatThrownBy(
+            () -> expression.evaluate(builder -> builder.parameter("event", new Event(null))))
+        .isInstanceOf(EvaluationException.class)
+        .hasMessage("Unsupported data types in operation");
+  }
+
+  @Test
+  void testThrowsFieldNotFoundInNestedPath() {
+    Map<String, Object> structure = Map.of("b", Map.of("c", Map.of("d", 1)));
+
+    assertThatThrownBy(
+            () ->
+                createExpression("a.b.x.d").evaluate(builder -> builder.parameter("a", structure)))
+        .isInstanceOf(EvaluationException.class)
+        .hasMessage("Field 'x' not found in structure")
+        .extracting("startPosition")
+        .isEqualTo(5);
+  }
+
+  @Test
+  void testThrowsUnsupportedDataTypeInNestedPath() {
+    Map<String, Object> structure = Map.of("b", "aString");
+
+    assertThatThrownBy(
+            () ->
+                createExpression("a.b.c.d").evaluate(builder -> builder.parameter("a", structure)))
+        .isInstanceOf(EvaluationException.class)
+        .hasMessage("Unsupported data types in operation")
+        .extracting("startPosition")
+        .isEqualTo(4);
+  }
+
+  public static class Event {
+    private final Payload payload;
+
+    public Event(Payload payload) {
+      this.payload = payload;
+    }
+
+    public Payload getPayload() {
+      return payload;
+    }
+  }
+
+  public static class Payload {
+    public final BigDecimal amount;
+
+    public Payload(BigDecimal amount) {
+      this.amount = amount;
+    }
+  }
 }
@@ -58,6 +58,12 @@ class ExpressionConfigurationTest {
     assertThat(configuration.getZoneId()).isEqualTo(ZoneId.systemDefault());
     assertThat(configuration.getLocale()).isEqualTo(Locale.getDefault());
     assertThat(configuration.isSingleQuoteStringLiteralsAllowed()).isFalse();
+    assertThat(configuration.getStringValuePool()).isNotNull();
+    assertThat(configuration.isInternStrings()).isFalse();
+    assertThat(configuration.getMaxFactorialBase())
+        .isEqualTo(ExpressionConfiguration.DEFAULT_MAX_FACTORIAL_BASE);
+    assertThat(configuration.getParallelAggregationThreshold()).isZero();
+    assertThat(configuration.getMaxRegexSteps()).isZero();
   }
 
   @Test
@@ -204,6 +210,14 @@ class ExpressionConfigurationTest {
     assertThat(configuration.isStripTrailingZeros()).isFalse();
   }
 
+  @Test
+  void testInternStrings() {
+    ExpressionConfiguration configuration =
+        ExpressionConfiguration.builder().internStrings(true).build();
+
+    assertThat(configuration.isInternStrings()).isTrue();
+  }
+
   @Test
   void testAllowOverwriteConstants() {
     ExpressionConfiguration configuration =
@@ -16,11 +16,23 @@
 package me.melontini.mevalex.data;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.math.BigInteger;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import me.melontini.mevalex.config.ExpressionConfiguration;
+import me.melontini.mevalex.data.conversion.ConverterIfc;
 import me.melontini.mevalex.data.conversion.DefaultEvaluationValueConverter;
+import me.melontini.mevalex.data.types.ArrayValue;
+import me.melontini.mevalex.data.types.DateTimeValue;
 import me.melontini.mevalex.data.types.NullValue;
+import me.melontini.mevalex.data.types.NumberValue;
 import me.melontini.mevalex.data.types.StringValue;
+import me.melontini.mevalex.data.types.StructureValue;
 import org.junit.jupiter.api.Test;
 
 class DefaultEvaluationValueConverterTest {
@@ -44,4 +56,77 @@ class DefaultEvaluationValueConverterTest {
     assertThat(converted).isInstanceOf(StringValue.class);
     assertThat(converted.getStringValue()).isEqualTo("Hello");
   }
+
+  @Test
+  void testSubclassesAreConverted() {
+    assertThat(converter.convertObject(new ArrayList<>(List.of(1, 2)), defaultConfiguration))
+        .isInstanceOf(ArrayValue.class);
+    assertThat(converter.convertObject(new LinkedHashMap<>(Map.of("a", 1)), defaultConfiguration))
+        .isInstanceOf(StructureValue.class);
+    assertThat(converter.convertObject(BigInteger.TEN, defaultConfiguration))
+        .isEqualTo(NumberValue.of(10));
+    assertThat(converter.convertObject((short) 3, defaultConfiguration))
+        .isEqualTo(NumberValue.of(3));
+    assertThat(converter.convertObject(new StringBuilder("abc"), defaultConfiguration))
+        .isEqualTo(StringValue.of("abc"));
+    assertThat(converter.convertObject(ZonedDateTime.now(), defaultConfiguration))
+        .isInstanceOf(DateTimeValue.class);
+
+    // the second conversion uses the remembered converter
+    assertThat(converter.convertObject(BigInteger.ONE, defaultConfiguration))
+        .isEqualTo(NumberValue.of(1));
+  }
+
+  @Test
+  void testUnsupportedType() {
+    Object unsupported = new Object();
+
+    assertThatThrownBy(() -> converter.convertObject(unsupported, defaultConfiguration))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Unsupported data type 'java.lang.Object'");
+    assertThatThrownBy(() -> converter.convertObject(unsupported, defaultConfiguration))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void testCustomConverters() {
+    DefaultEvaluationValueConverter custom =
+        DefaultEvaluationValueConverter.builder()
+            .addFirst(new UpperCaseConverter())
+            .add(new ObjectConverter())
+            .build();
+
+    assertThat(custom.convertObject("abc", defaultConfiguration)).isEqualTo(StringValue.of("ABC"));
+    assertThat(custom.convertObject(new Object(), defaultConfiguration))
+        .isEqualTo(StringValue.of("object"));
+    assertThat(custom.convertObject(5, defaultConfiguration)).isEqualTo(NumberValue.of(5));
+
+    // the standard converter is not affected
+    assertThat(converter.convertObject("abc", defaultConfiguration))
+        .isEqualTo(StringValue.of("abc"));
+  }
+
+  private static class UpperCaseConverter implements ConverterIfc {
+    @Override
+    public EvaluationValue convert(Object object, ExpressionConfiguration configuration) {
+      return StringValue.of(object.toString().toUpperCase());
+    }
+
+    @Override
+    public boolean canConvert(Object object) {
+      return object instanceof String;
+    }
+  }
+
+  private static class ObjectConverter implements ConverterIfc {
+    @Override
+    public EvaluationValue convert(Object object, ExpressionConfiguration configuration) {
+      return StringValue.of("object");
+    }
+
+    @Override
+    public boolean canConvert(Object object) {
+      return true;
+    }
+  }
 }
@@ -29,6 +29,7 @@ import me.melontini.mevalex.config.ExpressionConfiguration;
 import me.melontini.mevalex.data.types.BooleanValue;
 import me.melontini.mevalex.data.types.NullValue;
 import me.melontini.mevalex.data.types.NumberValue;
+import me.melontini.mevalex.data.types.StringValue;
 import me.melontini.mevalex.parser.ASTNode;
 import me.melontini.mevalex.parser.ParseException;
 import me.melontini.mevalex.parser.Solvable;
@@ -130,6 +131,32 @@ class EvaluationValueTest {
     assertThat(BooleanValue.of(null)).isSameAs(BooleanValue.FALSE);
   }
 
+  @Test
+  void testNumberValueSameInstances() {
+    assertThat(NumberValue.of(BigDecimal.ZERO)).isSameAs(NumberValue.of(0));
+    assertThat(NumberValue.of(new BigDecimal("-128"))).isSameAs(NumberValue.of(-128));
+    assertThat(NumberValue.of(new BigDecimal("1024"))).isSameAs(NumberValue.of(1024));
+    assertThat(NumberValue.of(BigDecimal.valueOf(42))).isSameAs(NumberValue.of(42L));
+    assertThat(EvaluationValue.of(7, defaultConfiguration())).isSameAs(NumberValue.of(7));
+
+    assertThat(NumberValue.of(new BigDecimal("1.0"))).isNotSameAs(NumberValue.of(1));
+    assertThat(NumberValue.of(new BigDecimal("1.0")).getNumberValue()).isEqualTo("1.0");
+    assertThat(NumberValue.of(1025)).isNotSameAs(NumberValue.of(1025));
+    assertThat(NumberValue.of(-129)).isNotSameAs(NumberValue.of(-129));
+    assertThat(NumberValue.of(new BigDecimal("1E+1"))).isNotSameAs(NumberValue.of(10));
+  }
+
+  @Test
+  void testStringValueCharacterInstances() {
+    assertThat(StringValue.of('a')).isSameAs(StringValue.of('a'));
+    assertThat(StringValue.of('\u00ff')).isSameAs(StringValue.of('\u00ff'));
+    assertThat(StringValue.of('a').getStringValue()).isEqualTo("a");
+    assertThat(EvaluationValue.of('z', defaultConfiguration())).isSameAs(StringValue.of('z'));
+
+    assertThat(StringValue.of('\u0100')).isNotSameAs(StringValue.of('\u0100'));
+    assertThat(StringValue.of('\u0100').getStringValue()).isEqualTo("\u0100");
+  }
+
   @Test
   void testInstant() {
     Instant instant = Instant.parse("2022-10-30T00:00:00Z");
@@ -20,12 +20,14 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import me.melontini.mevalex.config.ExpressionConfiguration;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.DateTimeValue;
+import me.melontini.mevalex.data.types.NumberValue;
 import org.junit.jupiter.api.Test;
 
 class ArrayConverterTest {
@@ -238,4 +240,53 @@ class ArrayConverterTest {
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage("Unsupported data type 'java.lang.String'");
   }
+
+  @Test
+  void testPrimitiveArrays() {
+    EvaluationValue longs =
+        converter.convert(new long[] {1, -5, 123456789012L}, defaultConfiguration);
+    assertThat(longs.getArrayValue())
+        .containsExactly(NumberValue.of(1), NumberValue.of(-5), NumberValue.of(123456789012L));
+
+    EvaluationValue ints = converter.convert(new int[] {3, 4}, defaultConfiguration);
+    assertThat(ints.getArrayValue()).containsExactly(NumberValue.of(3), NumberValue.of(4));
+
+    EvaluationValue doubles = converter.convert(new double[] {0.1, 2.5}, defaultConfiguration);
+    assertThat(doubles.getArrayValue().get(0).getNumberValue()).isEqualByComparingTo("0.1");
+    assertThat(doubles.getArrayValue().get(1).getNumberValue()).isEqualByComparingTo("2.5");
+  }
+
+  @Test
+  void testNotMemoizingByDefault() {
+    EvaluationValue value = converter.convert(new String[] {"a"}, defaultConfiguration);
+
+    assertThat(value.getArrayValue().get(0)).isNotSameAs(value.getArrayValue().get(0));
+  }
+
+  @Test
+  void testMemoizing() {
+    ArrayConverter memoizing = new ArrayConverter(true);
+    List<Object> list = new ArrayList<>(Arrays.asList("a", 2.5));
+
+    EvaluationValue value = memoizing.convert(list, defaultConfiguration);
+    EvaluationValue first = value.getArrayValue().get(0);
+    list.set(0, "b");
+    list.add("c");
+
+    assertThat(value.getArrayValue().get(0)).isSameAs(first);
+    assertThat(value.getArrayValue().get(0).getStringValue()).isEqualTo("a");
+    assertThat(value.getArrayValue().get(1)).isSameAs(value.getArrayValue().get(1));
+    assertThat(value.getArrayValue()).hasSize(3);
+    assertThat(value.getArrayValue().get(2).getStringValue()).isEqualTo("c");
+  }
+
+  @Test
+  void testMemoizingPrimitiveArray() {
+    ArrayConverter memoizing = new ArrayConverter(true);
+
+    EvaluationValue value = memoizing.convert(new double[] {1.5, 2.5}, defaultConfiguration);
+
+    assertThat(value.getArrayValue().get(1)).isSameAs(value.getArrayValue().get(1));
+    assertThat(value.getArrayValue().get(1).getNumberValue()).isEqualByComparingTo("2.5");
+  }
 }
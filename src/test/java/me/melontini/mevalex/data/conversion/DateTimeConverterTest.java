@@ -20,12 +20,19 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.math.BigDecimal;
 import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.List;
+import java.util.Random;
 import me.melontini.mevalex.config.ExpressionConfiguration;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.DateTimeValue;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class DateTimeConverterTest {
 
@@ -150,4 +157,124 @@ class DateTimeConverterTest {
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage("Unsupported data type 'java.lang.String'");
   }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "2023-11-23",
+        "2024-02-29",
+        "2023-11-23T14:35",
+        "2023-11-23t14:35",
+        "2023-11-23T14:35:10",
+        "2023-11-23T14:35:10.1",
+        "2023-11-23T14:35:10.123456789",
+        "2023-11-23T14:35:10Z",
+        "2023-11-23T14:35:10.5+05:30",
+        "2023-11-23T14:35-08:00",
+        "2023-11-23T14:35:10+01:00[Europe/Berlin]",
+        "2023-11-23+01:00",
+        "Thu, 23 Nov 2023 14:35:10 GMT",
+        "2023-02-29",
+        "2023-04-31T10:00",
+        "2023-11-23T24:00",
+        "2023-11-23T14:35:10.",
+        "2023-11-23T14:35:10.1234567891",
+        "2023-11-23T14:35:10z",
+        "2023-11-23T14:35+19:00",
+        "+12023-11-23",
+        "2023-1-23",
+        "23.11.2023",
+        ""
+      })
+  void testParseDateTimeMatchesFormatters(String value) {
+    List<DateTimeFormatter> formatters = defaultConfiguration.getDateTimeFormatters();
+    ZoneId zoneId = ZoneId.of("Europe/Berlin");
+
+    assertThat(converter.parseDateTime(value, zoneId, formatters))
+        .isEqualTo(parseWithExceptions(value, zoneId, formatters));
+  }
+
+  @Test
+  void testParseDateTimeMatchesFormattersRandomized() {
+    List<DateTimeFormatter> formatters = defaultConfiguration.getDateTimeFormatters();
+    ZoneId zoneId = ZoneId.of("America/New_York");
+    Random random = new Random(4711);
+
+    for (int i = 0; i < 20_000; i++) {
+      StringBuilder builder = new StringBuilder();
+      builder.append(
+          String.format(
+              "%04d-%02d-%02d", random.nextInt(3000), random.nextInt(14), random.nextInt(33)));
+      if (random.nextInt(5) > 0) {
+        builder.append(String.format("T%02d:%02d", random.nextInt(25), random.nextInt(61)));
+        if (random.nextBoolean()) builder.append(String.format(":%02d", random.nextInt(61)));
+        if (random.nextInt(3) == 0) {
+          builder.append('.');
+          int digits = random.nextInt(10);
+          for (int d = 0; d < digits; d++) builder.append(random.nextInt(10));
+        }
+        int offset = random.nextInt(4);
+        if (offset == 1) builder.append('Z');
+        if (offset == 2)
+          builder.append(
+              String.format(
+                  "%s%02d:%02d",
+                  random.nextBoolean() ? "+" : "-", random.nextInt(20), random.nextInt(60)));
+      }
+      String value = builder.toString();
+
+      assertThat(converter.parseDateTime(value, zoneId, formatters))
+          .as(value)
+          .isEqualTo(parseWithExceptions(value, zoneId, formatters));
+    }
+  }
+
+  @Test
+  void testIsoParserRejectsUnsupportedShapes() {
+    ZoneId zoneId = ZoneId.of("UTC");
+
+    assertThat(IsoDateTimeParser.parse("2023-11-23", zoneId, true))
+        .isEqualTo(Instant.parse("2023-11-23T00:00:00Z"));
+    assertThat(IsoDateTimeParser.parse("2023-11-23", zoneId, false)).isNull();
+    assertThat(IsoDateTimeParser.parse("2023-11-23T10:00+01:00[Europe/Berlin]", zoneId, true))
+        .isNull();
+    assertThat(IsoDateTimeParser.parse("2023-11-23T10:00:00.5-02:30", zoneId, true))
+        .isEqualTo(Instant.parse("2023-11-23T12:30:00.5Z"));
+  }
+
+  @Test
+  void testParseDateTimeWithCustomFormatters() {
+    List<DateTimeFormatter> formatters =
+        List.of(DateTimeFormatter.ofPattern("dd.MM.yyyy"), DateTimeFormatter.ISO_LOCAL_DATE);
+    ZoneId zoneId = ZoneId.of("UTC");
+
+    assertThat(converter.parseDateTime("23.11.2023", zoneId, formatters))
+        .isEqualTo(Instant.parse("2023-11-23T00:00:00Z"));
+    assertThat(converter.parseDateTime("2023-11-23", zoneId, formatters))
+        .isEqualTo(Instant.parse("2023-11-23T00:00:00Z"));
+    assertThat(converter.parseDateTime("23.11.2023 trailing", zoneId, formatters)).isNull();
+    assertThat(converter.parseDateTime("31.04.2023", zoneId, formatters))
+        .isEqualTo(parseWithExceptions("31.04.2023", zoneId, formatters));
+  }
+
+  /** The reference implementation, trying each formatter and catching the exceptions. */
+  private static Instant parseWithExceptions(
+      String value, ZoneId zoneId, List<DateTimeFormatter> formatters) {
+    for (DateTimeFormatter formatter : formatters) {
+      try {
+        TemporalAccessor ta = formatter.parse(value);
+        ZoneId parsedZoneId = ta.query(TemporalQueries.zone());
+        if (parsedZoneId == null) {
+          LocalDate parsedDate = ta.query(TemporalQueries.localDate());
+          LocalTime parsedTime = ta.query(TemporalQueries.localTime());
+          if (parsedTime == null) parsedTime = parsedDate.atStartOfDay().toLocalTime();
+          ta = ZonedDateTime.of(parsedDate, parsedTime, zoneId);
+        }
+        return Instant.from(ta);
+      } catch (DateTimeException ignored) {
+        // try next
+      }
+    }
+    return null;
+  }
 }
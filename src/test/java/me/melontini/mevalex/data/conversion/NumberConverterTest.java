@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Random;
 import me.melontini.mevalex.config.ExpressionConfiguration;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.NumberValue;
@@ -132,4 +133,27 @@ class NumberConverterTest {
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessage("Unsupported data type 'java.lang.String'");
   }
+
+  @Test
+  void testDoubleMatchesStringConversion() {
+    Random random = new Random(4711);
+    for (int i = 0; i < 200_000; i++) {
+      double value = randomDouble(random, i % 4);
+      BigDecimal expected =
+          new BigDecimal(Double.toString(value), defaultConfiguration.getMathContext());
+
+      assertThat(
+              NumberConverter.convertDouble(value, defaultConfiguration.getMathContext())
+                  .getNumberValue())
+          .describedAs("%s", value)
+          .isEqualTo(expected);
+    }
+  }
+
+  private static double randomDouble(Random random, int kind) {
+    if (kind == 0) return random.nextLong() % 10_000_000_000L / Math.pow(10, random.nextInt(12));
+    if (kind == 1) return (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(14) - 4);
+    if (kind == 2) return random.nextInt(20_000_000) / 1000d;
+    return (float) random.nextDouble() * 1000;
+  }
 }
@@ -0,0 +1,152 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.data.conversion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import me.melontini.mevalex.config.ExpressionConfiguration;
+import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.types.StructureValue;
+import org.junit.jupiter.api.Test;
+
+class PojoConverterTest {
+
+  private final ExpressionConfiguration configuration =
+      ExpressionConfiguration.builder()
+          .evaluationValueConverter(
+              DefaultEvaluationValueConverter.builder().add(new PojoConverter()).build())
+          .build();
+
+  private final PojoConverter converter = new PojoConverter();
+
+  @Test
+  void testBean() {
+    EvaluationValue value = converter.convert(new Bean(), configuration);
+
+    assertThat(value).isInstanceOf(StructureValue.class);
+    assertThat(value.getStructureValue())
+        .containsOnlyKeys("amount", "active", "name", "URL", "counter");
+    assertThat(value.getStructureValue().get("amount").getNumberValue())
+        .isEqualByComparingTo("12.5");
+    assertThat(value.getStructureValue().get("active").getBooleanValue()).isTrue();
+    assertThat(value.getStructureValue().get("name").getStringValue()).isEqualTo("getter");
+    assertThat(value.getStructureValue().get("URL").getStringValue()).isEqualTo("http");
+    assertThat(value.getStructureValue().get("counter").getNumberValue()).isEqualTo("3");
+    assertThat(value.getStructureValue().get("missing")).isNull();
+  }
+
+  @Test
+  void testFluentAccessors() {
+    EvaluationValue value = converter.convert(new Fluent("abc", new Bean()), configuration);
+
+    assertThat(value.getStructureValue()).containsOnlyKeys("id", "payload");
+    assertThat(value.getStructureValue().get("id").getStringValue()).isEqualTo("abc");
+    assertThat(
+            value
+                .getStructureValue()
+                .get("payload")
+                .getStructureValue()
+                .get("amount")
+                .getNumberValue())
+        .isEqualByComparingTo("12.5");
+  }
+
+  @Test
+  void testPropertiesAreReadOnce() {
+    Bean bean = new Bean();
+    EvaluationValue value = converter.convert(bean, configuration);
+
+    EvaluationValue first = value.getStructureValue().get("counter");
+    bean.counter = 4;
+
+    assertThat(value.getStructureValue().get("counter")).isSameAs(first);
+  }
+
+  @Test
+  void testCanConvert() {
+    assertThat(converter.canConvert(new Bean())).isTrue();
+    assertThat(converter.canConvert(new Fluent("x", null))).isTrue();
+  }
+
+  @Test
+  void testCanNotConvert() {
+    assertThat(converter.canConvert(new Object())).isFalse();
+    assertThat(converter.canConvert(UUID.randomUUID())).isFalse();
+    assertThat(converter.canConvert(new Bean[0])).isFalse();
+    assertThat(converter.canConvert(new Empty())).isFalse();
+
+    assertThatThrownBy(() -> converter.convert(new Empty(), configuration))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @SuppressWarnings("unused")
+  public static class Bean {
+    public String name = "field";
+    public int counter = 3;
+    private final String hidden = "hidden";
+
+    public BigDecimal getAmount() {
+      return new BigDecimal("12.5");
+    }
+
+    public boolean isActive() {
+      return true;
+    }
+
+    public String getName() {
+      return "getter";
+    }
+
+    public String getURL() {
+      return "http";
+    }
+
+    public static String getStatic() {
+      return "static";
+    }
+
+    public String compute(int x) {
+      return "no property";
+    }
+  }
+
+  private static class Fluent {
+    private final String id;
+    private final Bean payload;
+
+    Fluent(String id, Bean payload) {
+      this.id = id;
+      this.payload = payload;
+    }
+
+    public String id() {
+      return id;
+    }
+
+    public Bean payload() {
+      return payload;
+    }
+
+    public String unrelated() {
+      return "not a field";
+    }
+  }
+
+  public static class Empty {}
+}
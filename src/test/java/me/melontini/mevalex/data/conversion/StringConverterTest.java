@@ -47,6 +47,29 @@ class StringConverterTest {
     assertThat(converted.getValue()).isEqualTo("P");
   }
 
+  @Test
+  void testNotInternedByDefault() {
+    EvaluationValue first = converter.convert("ACTIVE", defaultConfiguration);
+    EvaluationValue second = converter.convert(new StringBuilder("ACTIVE"), defaultConfiguration);
+
+    assertThat(first).isNotSameAs(second);
+  }
+
+  @Test
+  void testInternStrings() {
+    ExpressionConfiguration configuration =
+        ExpressionConfiguration.builder().internStrings(true).build();
+
+    EvaluationValue first = converter.convert("ACTIVE", configuration);
+    EvaluationValue second = converter.convert(new StringBuilder("ACTIVE"), configuration);
+    EvaluationValue other = converter.convert("INACTIVE", configuration);
+
+    assertThat(first).isSameAs(second);
+    assertThat(first.getStringValue()).isEqualTo("ACTIVE");
+    assertThat(other).isNotSameAs(first);
+    assertThat(other.getStringValue()).isEqualTo("INACTIVE");
+  }
+
   @Test
   void testCanConvert() {
     assertThat(converter.canConvert("Hello")).isTrue();
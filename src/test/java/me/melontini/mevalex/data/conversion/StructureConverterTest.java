@@ -16,11 +16,13 @@
 package me.melontini.mevalex.data.conversion;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 import me.melontini.mevalex.config.ExpressionConfiguration;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.StructureValue;
@@ -75,4 +77,44 @@ class StructureConverterTest {
     assertThat(converter.canConvert(new int[] {1, 2, 3})).isFalse();
     assertThat(converter.canConvert(new BigDecimal(1))).isFalse();
   }
+
+  @Test
+  void testValuesAreConvertedOnFirstAccess() {
+    Map<String, Object> testMap = new HashMap<>();
+    testMap.put("number", 1);
+    testMap.put("unsupported", new Object());
+
+    EvaluationValue converted = converter.convert(testMap, defaultConfiguration);
+    Map<String, EvaluationValue> structure = converted.getStructureValue();
+
+    assertThat(structure.get("number")).isSameAs(structure.get("number"));
+    assertThat(structure.containsKey("unsupported")).isTrue();
+    assertThat(structure.get("missing")).isNull();
+    assertThatThrownBy(() -> structure.get("unsupported"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void testNonStringKeys() {
+    Map<Integer, Object> testMap = new TreeMap<>();
+    testMap.put(1, "one");
+    testMap.put(2, "two");
+
+    EvaluationValue converted = converter.convert(testMap, defaultConfiguration);
+
+    assertThat(converted.getStructureValue().get("2").getStringValue()).isEqualTo("two");
+    assertThat(converted.getStructureValue().containsKey("3")).isFalse();
+    assertThat(converted.getStructureValue().keySet()).containsExactly("1", "2");
+  }
+
+  @Test
+  void testSortedStringKeysUseComparator() {
+    Map<String, Object> testMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    testMap.put("Key", "value");
+
+    EvaluationValue converted = converter.convert(testMap, defaultConfiguration);
+
+    assertThat(converted.getStructureValue().get("KEY").getStringValue()).isEqualTo("value");
+    assertThat(converted.getStructureValue().containsKey("key")).isTrue();
+  }
 }
@@ -0,0 +1,156 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.functions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import org.junit.jupiter.api.Test;
+
+class BigDecimalMathTest {
+
+  private static final MathContext MC_70 = new MathContext(70, RoundingMode.HALF_EVEN);
+  private static final MathContext MC_150 = new MathContext(150, RoundingMode.HALF_EVEN);
+
+  @Test
+  void testConstantsBeyondTable() {
+    assertThat(BigDecimalMath.pi(MC_150))
+        .hasToString(
+            "3.14159265358979323846264338327950288419716939937510582097494459230781640628620899862803482534211706798214808651328230664709384460955058223172535940813");
+    assertThat(BigDecimalMath.ln2(MC_150))
+        .hasToString(
+            "0.693147180559945309417232121458176568075500134360255254120680009493393621969694715605863326996418687542001481020570685733685520235758130557032670751635");
+    assertThat(BigDecimalMath.ln10(MC_150))
+        .hasToString(
+            "2.30258509299404568401799145468436420760110148862877297603332790096757260967735248023599720508959829834196778404228624863340952546508280675666628736910");
+  }
+
+  @Test
+  void testConstantsFromTable() {
+    assertThat(BigDecimalMath.pi(MC_70))
+        .hasToString("3.141592653589793238462643383279502884197169399375105820974944592307816");
+    assertThat(BigDecimalMath.pi(new MathContext(5))).hasToString("3.1416");
+  }
+
+  @Test
+  void testExp() {
+    assertThat(BigDecimalMath.exp(BigDecimal.ONE, MC_70))
+        .hasToString("2.718281828459045235360287471352662497757247093699959574966967627724077");
+    assertThat(BigDecimalMath.exp(BigDecimal.valueOf(-100), MC_70))
+        .isEqualByComparingTo(
+            "0.0000000000000000000000000000000000000000000372007597602083596295969580386311833735889229237678196712061387666329");
+    assertThat(BigDecimalMath.exp(BigDecimal.ZERO, MC_70)).isEqualTo(BigDecimal.ONE);
+  }
+
+  @Test
+  void testLnOfExp() {
+    BigDecimal x = new BigDecimal("123.456");
+    BigDecimal roundTrip = BigDecimalMath.ln(BigDecimalMath.exp(x, MC_150), MC_70);
+
+    assertThat(roundTrip.compareTo(x)).isZero();
+  }
+
+  @Test
+  void testLnNotPositive() {
+    assertThatThrownBy(() -> BigDecimalMath.ln(BigDecimal.ZERO, MC_70))
+        .isInstanceOf(ArithmeticException.class)
+        .hasMessage("Logarithm of a non-positive number");
+  }
+
+  @Test
+  void testPowInteger() {
+    assertThat(BigDecimalMath.pow(new BigDecimal("1.5"), BigDecimal.valueOf(3), MC_70))
+        .isEqualByComparingTo("3.375");
+  }
+
+  @Test
+  void testPowFractionalOfNegative() {
+    assertThatThrownBy(
+            () -> BigDecimalMath.pow(BigDecimal.valueOf(-2), new BigDecimal("0.5"), MC_70))
+        .isInstanceOf(ArithmeticException.class)
+        .hasMessage("Fractional power of a negative number");
+  }
+
+  @Test
+  void testDoublePrecision() {
+    assertThat(BigDecimalMath.isDoublePrecision(MathContext.DECIMAL64)).isTrue();
+    assertThat(BigDecimalMath.isDoublePrecision(MathContext.UNLIMITED)).isTrue();
+    assertThat(BigDecimalMath.isDoublePrecision(MathContext.DECIMAL128)).isFalse();
+
+    assertThat(BigDecimalMath.sin(BigDecimal.ONE, MathContext.DECIMAL64))
+        .isEqualByComparingTo(String.valueOf(Math.sin(1)));
+    assertThat(BigDecimalMath.ln(BigDecimal.TEN, MathContext.UNLIMITED))
+        .isEqualByComparingTo(String.valueOf(Math.log(10)));
+  }
+
+  @Test
+  void testTrigonometricNearMultiplesOfHalfPi() {
+    MathContext mc34 = new MathContext(34, RoundingMode.HALF_EVEN);
+    MathContext mc69 = new MathContext(69, RoundingMode.HALF_EVEN);
+    BigDecimal halfPi = BigDecimalMath.pi(MC_150).divide(BigDecimal.valueOf(2), MC_150);
+    for (int k = 1; k <= 8; k++) {
+      BigDecimal multiple = halfPi.multiply(BigDecimal.valueOf(k));
+      BigDecimal x = multiple.round(mc69);
+      BigDecimal epsilon = x.subtract(multiple);
+      // sin(k * π/2 + ε) and cos(k * π/2 + ε) are ±ε where they are close to zero
+      int sign = (k / 2) % 2 == 0 ? 1 : -1;
+      if (k % 2 == 0) {
+        assertCloseTo(BigDecimalMath.sin(x, mc34), epsilon.multiply(BigDecimal.valueOf(sign)));
+      } else {
+        assertCloseTo(BigDecimalMath.cos(x, mc34), epsilon.multiply(BigDecimal.valueOf(-sign)));
+      }
+    }
+
+    BigDecimal x = halfPi.round(new MathContext(68, RoundingMode.HALF_EVEN));
+    assertCloseTo(
+        BigDecimalMath.cos(x, new MathContext(20, RoundingMode.HALF_EVEN)), halfPi.subtract(x));
+  }
+
+  @Test
+  void testTrigonometricHugeAngle() {
+    assertThat(BigDecimalMath.sin(new BigDecimal("9e307"), MC_70)).isNotNull();
+    assertThatThrownBy(() -> BigDecimalMath.sin(new BigDecimal("1e308"), MC_70))
+        .isInstanceOf(ArithmeticException.class)
+        .hasMessage("Angle is too large");
+    assertThatThrownBy(() -> BigDecimalMath.cos(new BigDecimal("-1e5000"), MC_70))
+        .isInstanceOf(ArithmeticException.class)
+        .hasMessage("Angle is too large");
+  }
+
+  private static void assertCloseTo(BigDecimal actual, BigDecimal expected) {
+    assertThat(actual.subtract(expected).abs()).isLessThanOrEqualTo(actual.ulp());
+  }
+
+  @Test
+  void testFactorial() {
+    BigInteger expected = BigInteger.ONE;
+    for (int n = 0; n <= 5000; n++) {
+      if (n > 0) expected = expected.multiply(BigInteger.valueOf(n));
+      if (n <= 300 || n % 1000 == 0) assertThat(BigDecimalMath.factorial(n)).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void testFactorialNegative() {
+    assertThatThrownBy(() -> BigDecimalMath.factorial(-1))
+        .isInstanceOf(ArithmeticException.class)
+        .hasMessage("Factorial of a negative number");
+  }
+}
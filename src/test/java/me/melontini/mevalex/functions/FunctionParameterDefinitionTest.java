@@ -17,6 +17,7 @@ package me.melontini.mevalex.functions;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import me.melontini.mevalex.data.EvaluationType;
 import org.junit.jupiter.api.Test;
 
 class FunctionParameterDefinitionTest {
@@ -30,6 +31,7 @@ class FunctionParameterDefinitionTest {
             .isLazy(true)
             .nonZero(true)
             .nonNegative(true)
+            .type(EvaluationType.NUMBER)
             .build();
 
     assertThat(definition.getName()).isEqualTo("name");
@@ -37,10 +39,11 @@ class FunctionParameterDefinitionTest {
     assertThat(definition.isLazy()).isTrue();
     assertThat(definition.isNonZero()).isTrue();
     assertThat(definition.isNonNegative()).isTrue();
+    assertThat(definition.getType()).isEqualTo(EvaluationType.NUMBER);
 
     assertThat(definition)
         .hasToString(
             "FunctionParameterDefinition(name=name, isVarArg=true, isLazy=true, nonZero=true,"
-                + " nonNegative=true)");
+                + " nonNegative=true, lambdaParameters=0, type=NUMBER)");
   }
 }
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.data.EvaluationType;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.StringValue;
 import me.melontini.mevalex.parser.Token;
@@ -61,6 +62,32 @@ class FunctionTest {
         .hasMessage("Only last parameter may be defined as variable argument");
   }
 
+  @Test
+  void testDefaultMetadata() {
+    FunctionIfc function = new CorrectFunctionDefinitionFunction();
+
+    assertThat(function.getResultType()).isEqualTo(EvaluationType.ANY);
+    assertThat(function.isPure()).isTrue();
+    assertThat(function.isDeterministic()).isTrue();
+    assertThat(function.getCost()).isEqualTo(1);
+    assertThat(function.canInline()).isTrue();
+    assertThat(function.getFunctionParameterDefinitions().get(0).getType())
+        .isEqualTo(EvaluationType.ANY);
+  }
+
+  @Test
+  void testAnnotatedMetadata() {
+    FunctionIfc function = new MetadataFunction();
+
+    assertThat(function.getResultType()).isEqualTo(EvaluationType.STRING);
+    assertThat(function.isPure()).isTrue();
+    assertThat(function.isDeterministic()).isFalse();
+    assertThat(function.getCost()).isEqualTo(10);
+    assertThat(function.canInline()).isFalse();
+    assertThat(function.getFunctionParameterDefinitions().get(0).getType())
+        .isEqualTo(EvaluationType.NUMBER);
+  }
+
   @FunctionParameter(name = "default")
   @FunctionParameter(name = "lazy", isLazy = true)
   @FunctionParameter(name = "vararg", isVarArg = true)
@@ -82,4 +109,14 @@ class FunctionTest {
       return StringValue.of("OK");
     }
   }
+
+  @FunctionMetadata(resultType = EvaluationType.STRING, deterministic = false, cost = 10)
+  @FunctionParameter(name = "value", type = EvaluationType.NUMBER)
+  private static class MetadataFunction extends AbstractFunction {
+    @Override
+    public EvaluationValue evaluate(
+        EvaluationContext context, Token functionToken, EvaluationValue... parameterValues) {
+      return StringValue.of("OK");
+    }
+  }
 }
@@ -18,8 +18,11 @@ package me.melontini.mevalex.functions.basic;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.UnaryOperator;
 import me.melontini.mevalex.BaseEvaluationTest;
 import me.melontini.mevalex.EvaluationContext;
@@ -29,6 +32,7 @@ import me.melontini.mevalex.config.ExpressionConfiguration;
 import me.melontini.mevalex.config.TestConfigurationProvider;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.BooleanValue;
+import me.melontini.mevalex.parser.ExpressionParser;
 import me.melontini.mevalex.parser.ParseException;
 import me.melontini.mevalex.parser.Token;
 import me.melontini.mevalex.parser.Token.TokenType;
@@ -49,13 +53,39 @@ class BasicFunctionsTest extends BaseEvaluationTest {
         "FACT(3) : 6",
         "FACT(5) : 120",
         "FACT(10) : 3628800",
-        "FACT(20) : 2432902008176640000"
+        "FACT(20) : 2432902008176640000",
+        "FACT(50) : 30414093201713378043612608166064768844377641568960512000000000000",
+        "FACT(100) :"
+            + " 93326215443944152681699238856266700490715968264381621468592963895218000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000",
+        "FACT(-3) : 1"
       })
   void testFactorial(String expression, String expectedResult)
       throws EvaluationException, ParseException {
     assertExpressionHasExpectedResult(expression, expectedResult);
   }
 
+  @Test
+  void testFactorialMaxBase() {
+    assertThatThrownBy(() -> evaluate("FACT(10001)"))
+        .isInstanceOf(EvaluationException.class)
+        .hasMessage("Factorial base must not be greater than 10000");
+  }
+
+  @Test
+  void testFactorialConfiguredMaxBase() throws EvaluationException, ParseException {
+    ExpressionConfiguration configuration =
+        ExpressionConfiguration.builder().maxFactorialBase(5).build();
+
+    assertExpressionHasExpectedResult("FACT(5)", "120", configuration);
+    assertThatThrownBy(
+            () ->
+                new ExpressionParser(configuration)
+                    .parse("FACT(6)")
+                    .evaluate(UnaryOperator.identity()))
+        .isInstanceOf(EvaluationException.class)
+        .hasMessage("Factorial base must not be greater than 5");
+  }
+
   @ParameterizedTest
   @CsvSource(
       delimiter = ':',
@@ -278,6 +308,98 @@ class BasicFunctionsTest extends BaseEvaluationTest {
     assertThat(r1).isNotEqualByComparingTo(r2);
   }
 
+  @Test
+  void testRandomWithSeededSupplier() throws EvaluationException, ParseException {
+    Random first = new Random(42);
+    Random second = new Random(42);
+    Expression expression1 =
+        new ExpressionParser(ExpressionConfiguration.builder().randomSupplier(() -> first).build())
+            .parse("RANDOM()");
+    Expression expression2 =
+        new ExpressionParser(ExpressionConfiguration.builder().randomSupplier(() -> second).build())
+            .parse("RANDOM()");
+
+    for (int i = 0; i < 10; i++) {
+      assertThat(expression1.evaluate(UnaryOperator.identity()))
+          .isEqualTo(expression2.evaluate(UnaryOperator.identity()));
+    }
+  }
+
+  @Test
+  void testRandomMinMax() throws EvaluationException, ParseException {
+    Expression expression =
+        new ExpressionParser(
+                ExpressionConfiguration.builder()
+                    .randomSupplier(ThreadLocalRandom::current)
+                    .build())
+            .parse("RANDOM(-5, 10)");
+
+    for (int i = 0; i < 1000; i++) {
+      BigDecimal value = expression.evaluate(UnaryOperator.identity()).getNumberValue();
+      assertThat(value).isGreaterThanOrEqualTo(new BigDecimal(-5)).isLessThan(BigDecimal.TEN);
+    }
+  }
+
+  @Test
+  void testRandomWideRange() throws EvaluationException, ParseException {
+    Expression expression =
+        ExpressionConfiguration.defaultExpressionParser().parse("RANDOM(-1e308, 1e308)");
+
+    for (int i = 0; i < 100; i++) {
+      BigDecimal value = expression.evaluate(UnaryOperator.identity()).getNumberValue();
+      assertThat(value)
+          .isGreaterThanOrEqualTo(new BigDecimal("-1e308"))
+          .isLessThan(new BigDecimal("1e308"));
+    }
+  }
+
+  @Test
+  void testRandomBulk() throws EvaluationException, ParseException {
+    EvaluationValue values =
+        ExpressionConfiguration.defaultExpressionParser()
+            .parse("RANDOM(1, 2, 100)")
+            .evaluate(UnaryOperator.identity());
+
+    assertThat(values.getArrayValue()).hasSize(100);
+    for (EvaluationValue value : values.getArrayValue()) {
+      assertThat(value.getNumberValue())
+          .isGreaterThanOrEqualTo(BigDecimal.ONE)
+          .isLessThan(new BigDecimal(2));
+    }
+    assertThat(
+            ExpressionConfiguration.defaultExpressionParser()
+                .parse("RANDOM(1, 2, 0)")
+                .evaluate(UnaryOperator.identity())
+                .getArrayValue())
+        .isEmpty();
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = ':',
+      value = {
+        "RANDOM(1) : Expected 0, 2 or 3 parameters",
+        "RANDOM(1, 2, 3, 4) : Expected 0, 2 or 3 parameters",
+        "RANDOM(2, 1) : Parameter 'min' must be less than parameter 'max'",
+        "RANDOM(1, 1) : Parameter 'min' must be less than parameter 'max'",
+        "RANDOM(1, 2, -1) : Parameter 'count' must be a non-negative integer",
+        "RANDOM(1, 2, 1.5) : Parameter 'count' must be a non-negative integer",
+        "RANDOM(0, 1, 100001) : Parameter 'count' must not be greater than 100000",
+        "RANDOM(0, 1, 2147483647) : Parameter 'count' must not be greater than 100000",
+        "RANDOM(0, 1, 1e10) : Parameter 'count' must not be greater than 100000",
+        "RANDOM(-1e400, 1e400) : Parameters 'min' and 'max' must be within the range of a double",
+        "RANDOM(0, 1e400, 2) : Parameters 'min' and 'max' must be within the range of a double"
+      })
+  void testRandomInvalidParameters(String expression, String message) {
+    assertThatThrownBy(
+            () ->
+                ExpressionConfiguration.defaultExpressionParser()
+                    .parse(expression)
+                    .evaluate(UnaryOperator.identity()))
+        .isInstanceOf(EvaluationException.class)
+        .hasMessage(message);
+  }
+
   @ParameterizedTest
   @CsvSource(
       delimiter = ':',
@@ -336,9 +458,15 @@ class BasicFunctionsTest extends BaseEvaluationTest {
       delimiter = ':',
       value = {
         "LOG(1) : 0",
-        "LOG(10) : 2.302585092994046",
-        "LOG(2.12345) : 0.7530421244614831",
-        "LOG(1567) : 7.356918242356021"
+        "LOG(10) : 2.3025850929940456840179914546843642076011014886287729760333279009676",
+        "LOG(2.12345) : 0.7530421244614831003325675669738882329045292348677417031664109839051",
+        "LOG(1567) : 7.3569182423560208279887799997255625975873700034398077118652945652125",
+        "LOG(0.999999) :"
+            + " -0.0000010000005000003333335833335333335000001428572678572539683539683448774",
+        "LOG(0.00000000000000000001) :"
+            + " -46.051701859880913680359829093687284152022029772575459520666558019351",
+        "LOG(1.0000000000000000000001) :"
+            + " 0.000000000000000000000099999999999999999999995000000000000000000000333333333333333333333308"
       })
   void testLog(String expression, String expectedResult)
       throws EvaluationException, ParseException {
@@ -373,8 +501,10 @@ class BasicFunctionsTest extends BaseEvaluationTest {
       value = {
         "LOG10(1) : 0",
         "LOG10(10) : 1",
-        "LOG10(2.12345) : 0.3270420392943239",
-        "LOG10(1567) : 3.1950689964685903"
+        "LOG10(2.12345) : 0.32704203929432388276732686480064255538938448402407087683012738343244",
+        "LOG10(1567) : 3.1950689964685901310045843028380378844870821067582126070296443075022",
+        "LOG10(1000) : 3",
+        "LOG10(0.001) : -3"
       })
   void testLog10(String expression, String expectedResult)
       throws EvaluationException, ParseException {
@@ -0,0 +1,172 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.functions.basic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import me.melontini.mevalex.BaseEvaluationTest;
+import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.config.ExpressionConfiguration;
+import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.parser.ExpressionParser;
+import me.melontini.mevalex.parser.ParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class HigherOrderFunctionsTest extends BaseEvaluationTest {
+
+  private final ExpressionParser parser = ExpressionConfiguration.defaultExpressionParser();
+
+  private final int[] numbers = {3, 8, 1, 12, 5};
+
+  private final List<Map<String, Object>> items =
+      List.of(
+          Map.of("name", "apple", "price", 4, "quantity", 10),
+          Map.of("name", "melon", "price", 12, "quantity", 2),
+          Map.of("name", "cherry", "price", 25, "quantity", 1));
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = ':',
+      value = {
+        "MAP(numbers, x -> x * 2) : [6, 16, 2, 24, 10]",
+        "MAP(numbers, (x) -> x > 4) : [false, true, false, true, true]",
+        "FILTER(numbers, x -> x > 4) : [8, 12, 5]",
+        "FILTER(numbers, x -> x > 4 && x < 10) : [8, 5]",
+        "FILTER(numbers, x -> false) : []",
+        "REDUCE(numbers, 0, (sum, x) -> sum + x) : 29",
+        "REDUCE(numbers, 0, (max, x) -> IF(x > max, x, max)) : 12",
+        "ANY(numbers, x -> x == 12) : true",
+        "ANY(numbers, x -> x > 12) : false",
+        "ALL(numbers, x -> x > 0) : true",
+        "ALL(numbers, x -> x > 1) : false",
+        "SUM(MAP(numbers, x -> x * x)) : 243",
+        "COUNT(FILTER(numbers, x -> x > 2)) : 4",
+      })
+  void testNumbers(String expression, String expectedResult)
+      throws EvaluationException, ParseException {
+    assertThat(toStrings(evaluateWithParameters(expression))).isEqualTo(expectedResult);
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = ':',
+      value = {
+        "MAP(items, x -> x.name) : [apple, melon, cherry]",
+        "MAP(FILTER(items, x -> x.price > 10), x -> x.name) : [melon, cherry]",
+        "REDUCE(items, 0, (total, x) -> total + x.price * x.quantity) : 89",
+        "ANY(items, item -> item.quantity == 1) : true",
+        "ALL(items, item -> item.price < limit) : true",
+        "ALL(items, item -> item.price < limit / 2) : false",
+      })
+  void testStructures(String expression, String expectedResult)
+      throws EvaluationException, ParseException {
+    assertThat(toStrings(evaluateWithParameters(expression))).isEqualTo(expectedResult);
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = ':',
+      value = {
+        "MAP(numbers, x -> COUNT(FILTER(numbers, y -> y < x))) : [1, 3, 0, 4, 2]",
+        "MAP(numbers, x -> MAP(numbers, x -> x)) : [[3, 8, 1, 12, 5], [3, 8, 1, 12, 5],"
+            + " [3, 8, 1, 12, 5], [3, 8, 1, 12, 5], [3, 8, 1, 12, 5]]",
+        "FILTER(numbers, e -> e > 10) : [12]",
+        "MAP(FILTER(numbers, x -> x < 4), x -> x) : [3, 1]",
+        "x + SUM(MAP(numbers, x -> x)) : 29.5",
+      })
+  void testScopes(String expression, String expectedResult)
+      throws EvaluationException, ParseException {
+    assertThat(toStrings(evaluateWithParameters(expression))).isEqualTo(expectedResult);
+  }
+
+  @Test
+  void testEmptyArray() throws EvaluationException, ParseException {
+    assertThat(evaluate("MAP(values, x -> x / 0)", new int[0]).getArrayValue()).isEmpty();
+    assertThat(evaluate("FILTER(values, x -> x / 0 > 1)", new int[0]).getArrayValue()).isEmpty();
+    assertThat(evaluate("REDUCE(values, 7, (a, x) -> a / 0)", new int[0]).getStringValue())
+        .isEqualTo("7");
+    assertThat(evaluate("ANY(values, x -> x / 0 > 1)", new int[0]).getBooleanValue()).isFalse();
+    assertThat(evaluate("ALL(values, x -> x / 0 > 1)", new int[0]).getBooleanValue()).isTrue();
+  }
+
+  @Test
+  void testShortCircuit() throws EvaluationException, ParseException {
+    int[] values = {2, 1, 0};
+    assertThat(evaluate("ANY(values, x -> 2 / x == 2)", values).getBooleanValue()).isTrue();
+    assertThat(evaluate("ALL(values, x -> 2 / x > 1)", values).getBooleanValue()).isFalse();
+    assertThatThrownBy(() -> evaluate("ALL(values, x -> 2 / x > 0)", values))
+        .isInstanceOf(EvaluationException.class)
+        .hasMessage("Division by zero");
+  }
+
+  @Test
+  void testNonArrayInput() {
+    assertThatThrownBy(() -> evaluate("MAP(values, x -> x)", 5))
+        .isInstanceOf(EvaluationException.class)
+        .hasMessage("Unsupported data types in operation");
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = ':',
+      value = {
+        "MAP(numbers, 5) : Parameter 'function' must be a lambda expression",
+        "MAP(numbers, (a, b) -> a) : Lambda expression must have 1 parameter",
+        "REDUCE(numbers, 0, a -> a) : Lambda expression must have 2 parameters",
+        "SUM(numbers, x -> x) : Lambda expression not allowed here",
+        "x -> x : Lambda expression not allowed here",
+        "1 + (x -> x) : Lambda expression not allowed here",
+        "MAP(numbers, x -> ) : Missing lambda expression body",
+        "MAP(numbers, (x, x) -> x) : Duplicate lambda parameter 'x'",
+        "MAP(numbers, (1) -> 1) : Invalid lambda parameters",
+      })
+  void testParseErrors(String expression, String expectedMessage) {
+    assertThatThrownBy(() -> parser.parse(expression))
+        .isInstanceOf(ParseException.class)
+        .hasMessage(expectedMessage);
+  }
+
+  private EvaluationValue evaluateWithParameters(String expression)
+      throws EvaluationException, ParseException {
+    return parser
+        .parse(expression)
+        .evaluate(
+            builder ->
+                builder
+                    .parameter("numbers", numbers)
+                    .parameter("items", items)
+                    .parameter("limit", 30)
+                    .parameter("x", 0.5));
+  }
+
+  private static String toStrings(EvaluationValue value) {
+    if (!value.isArrayValue()) return value.getStringValue();
+    return value.getArrayValue().stream()
+        .map(HigherOrderFunctionsTest::toStrings)
+        .collect(Collectors.joining(", ", "[", "]"));
+  }
+
+  private EvaluationValue evaluate(String expression, Object values)
+      throws EvaluationException, ParseException {
+    return parser.parse(expression).evaluate(builder -> builder.parameter("values", values));
+  }
+}
@@ -0,0 +1,267 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.functions.basic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.Random;
+import me.melontini.mevalex.BaseEvaluationTest;
+import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.config.ExpressionConfiguration;
+import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.parser.ExpressionParser;
+import me.melontini.mevalex.parser.ParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class StatisticalFunctionsTest extends BaseEvaluationTest {
+
+  private final ExpressionParser parser = ExpressionConfiguration.defaultExpressionParser();
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = ':',
+      value = {
+        "MEDIAN(5) : 5",
+        "MEDIAN(3, 1, 2) : 2",
+        "MEDIAN(4, 1, 3, 2) : 2.5",
+        "MEDIAN(-1, -1, 7, -1) : -1",
+        "PERCENTILE(5, 30) : 5",
+        "VARIANCE(1, 2, 3, 4, 5) : 2.5",
+        "VARIANCE(2, 4, 4, 4, 5, 5, 7, 9) :"
+            + " 4.5714285714285714285714285714285714285714285714285714285714285714286",
+        "VARIANCE(3, 3, 3) : 0",
+        "STDDEV(2, 4, 6) : 2",
+        "STDDEV(1, 3) : 1.4142135623730950488016887242096980785696718753769480731766797379907",
+        "COUNT(7) : 1",
+        "COUNT(1, \"a\", true, null) : 4"
+      })
+  void testStatisticalFunctions(String expression, String expectedResult)
+      throws EvaluationException, ParseException {
+    assertExpressionHasExpectedResult(expression, expectedResult);
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = ':',
+      value = {
+        "0 : 1",
+        "25 : 3.25",
+        "50 : 5.5",
+        "90 : 9.1",
+        "100 : 10",
+      })
+  void testPercentileOfArrays(String percentile, String expectedResult)
+      throws EvaluationException, ParseException {
+    int[] ints = {7, 3, 10, 1, 5, 9, 2, 8, 4, 6};
+    long[] longs = {7, 3, 10, 1, 5, 9, 2, 8, 4, 6};
+    double[] doubles = {7, 3, 10, 1, 5, 9, 2, 8, 4, 6};
+    Integer[] boxed = {7, 3, 10, 1, 5, 9, 2, 8, 4, 6};
+
+    for (Object values : new Object[] {ints, longs, doubles, boxed}) {
+      EvaluationValue result =
+          parser
+              .parse("PERCENTILE(values, " + percentile + ")")
+              .evaluate(builder -> builder.parameter("values", values));
+      assertThat(result.getStringValue()).isEqualTo(expectedResult);
+    }
+  }
+
+  @Test
+  void testMedianOfMixedArrays() throws EvaluationException, ParseException {
+    int[] ints = {4, 1};
+    double[] doubles = {-2.5, 0.25};
+    Integer[][] nested = {{3}, {2, 10}};
+
+    assertThat(
+            parser
+                .parse("MEDIAN(ints, doubles, nested)")
+                .evaluate(
+                    builder ->
+                        builder
+                            .parameter("ints", ints)
+                            .parameter("doubles", doubles)
+                            .parameter("nested", nested))
+                .getStringValue())
+        .isEqualTo("2");
+    assertThat(
+            parser
+                .parse("MEDIAN(doubles, 0.5)")
+                .evaluate(builder -> builder.parameter("doubles", doubles))
+                .getStringValue())
+        .isEqualTo("0.25");
+    assertThat(
+            parser
+                .parse("COUNT(ints, doubles, nested, 1)")
+                .evaluate(
+                    builder ->
+                        builder
+                            .parameter("ints", ints)
+                            .parameter("doubles", doubles)
+                            .parameter("nested", nested))
+                .getStringValue())
+        .isEqualTo("8");
+  }
+
+  @Test
+  void testPercentileMatchesSortedArray() throws EvaluationException, ParseException {
+    Random random = new Random(42);
+    for (int size : new int[] {1, 2, 3, 10, 101, 5000}) {
+      long[] longs = new long[size];
+      double[] doubles = new double[size];
+      for (int i = 0; i < size; i++) {
+        // few distinct values, so that there are many duplicates
+        longs[i] = random.nextInt(size / 3 + 1) - size / 6;
+        doubles[i] = longs[i] / 8.0;
+      }
+      long[] sortedLongs = longs.clone();
+      Arrays.sort(sortedLongs);
+
+      for (int percentile : new int[] {0, 1, 33, 50, 99, 100}) {
+        BigDecimal position =
+            BigDecimal.valueOf(percentile).movePointLeft(2).multiply(BigDecimal.valueOf(size - 1));
+        int index = position.intValue();
+        BigDecimal weight = position.subtract(BigDecimal.valueOf(index));
+        BigDecimal lower = BigDecimal.valueOf(sortedLongs[index]);
+        BigDecimal expected =
+            weight.signum() == 0
+                ? lower
+                : lower.add(
+                    BigDecimal.valueOf(sortedLongs[index + 1]).subtract(lower).multiply(weight));
+
+        EvaluationValue longResult =
+            parser
+                .parse("PERCENTILE(values, " + percentile + ")")
+                .evaluate(builder -> builder.parameter("values", longs));
+        EvaluationValue doubleResult =
+            parser
+                .parse("PERCENTILE(values, " + percentile + ") * 8")
+                .evaluate(builder -> builder.parameter("values", doubles));
+
+        assertThat(longResult.getNumberValue()).isEqualByComparingTo(expected);
+        assertThat(doubleResult.getNumberValue()).isEqualByComparingTo(expected);
+      }
+    }
+  }
+
+  @Test
+  void testVarianceOfPrimitiveArrays() throws EvaluationException, ParseException {
+    long[] longs = {Long.MAX_VALUE, Long.MAX_VALUE - 2, Long.MIN_VALUE, Long.MIN_VALUE + 2};
+    double[] doubles = {0.5, 1.5, 2.5, 3.5};
+
+    assertThat(
+            parser
+                .parse("VARIANCE(values)")
+                .evaluate(builder -> builder.parameter("values", Arrays.copyOf(longs, 2)))
+                .getStringValue())
+        .isEqualTo("2");
+    assertThat(
+            parser
+                .parse("VARIANCE(values)")
+                .evaluate(builder -> builder.parameter("values", longs))
+                .getStringValue())
+        .isEqualTo("113427455640312821117564714329836967257.66666666666666666666666666667");
+    assertThat(
+            parser
+                .parse("VARIANCE(values)")
+                .evaluate(builder -> builder.parameter("values", doubles))
+                .getStringValue())
+        .isEqualTo("1.6666666666666666666666666666666666666666666666666666666666666666667");
+
+    ExpressionConfiguration doublePrecision =
+        ExpressionConfiguration.builder().mathContext(MathContext.DECIMAL64).build();
+    assertThat(
+            new ExpressionParser(doublePrecision)
+                .parse("VARIANCE(values)")
+                .evaluate(builder -> builder.parameter("values", doubles))
+                .getStringValue())
+        .isEqualTo("1.666666666666667");
+  }
+
+  @Test
+  void testParallelAggregationMatchesSequential() throws EvaluationException, ParseException {
+    Random random = new Random(7);
+    long[] longs = new long[100_000];
+    double[] doubles = new double[longs.length];
+    for (int i = 0; i < longs.length; i++) {
+      longs[i] = random.nextLong() >> random.nextInt(64);
+      doubles[i] = random.nextGaussian() * 1000;
+    }
+    ExpressionParser parallel =
+        new ExpressionParser(
+            ExpressionConfiguration.builder().parallelAggregationThreshold(1000).build());
+    ExpressionParser parallelDoublePrecision =
+        new ExpressionParser(
+            ExpressionConfiguration.builder()
+                .mathContext(MathContext.DECIMAL64)
+                .parallelAggregationThreshold(1000)
+                .build());
+    ExpressionParser sequentialDoublePrecision =
+        new ExpressionParser(
+            ExpressionConfiguration.builder().mathContext(MathContext.DECIMAL64).build());
+
+    for (String function : new String[] {"VARIANCE(longs)", "STDDEV(longs)", "VARIANCE(doubles)"}) {
+      EvaluationValue expected =
+          parser
+              .parse(function)
+              .evaluate(builder -> builder.parameter("longs", longs).parameter("doubles", doubles));
+      EvaluationValue actual =
+          parallel
+              .parse(function)
+              .evaluate(builder -> builder.parameter("longs", longs).parameter("doubles", doubles));
+      assertThat(actual.getNumberValue()).isEqualByComparingTo(expected.getNumberValue());
+    }
+
+    // chunks are merged in a different order of operations, so only almost all digits match
+    BigDecimal expected =
+        sequentialDoublePrecision
+            .parse("VARIANCE(doubles)")
+            .evaluate(builder -> builder.parameter("doubles", doubles))
+            .getNumberValue();
+    BigDecimal actual =
+        parallelDoublePrecision
+            .parse("VARIANCE(doubles)")
+            .evaluate(builder -> builder.parameter("doubles", doubles))
+            .getNumberValue();
+    assertThat(actual.subtract(expected).abs()).isLessThan(expected.movePointLeft(12));
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = ':',
+      value = {
+        "MEDIAN(values) : Median of an empty array",
+        "PERCENTILE(values, 50) : Percentile of an empty array",
+        "PERCENTILE(1, 100.5) : Percentile must not be greater than 100",
+        "PERCENTILE(1, -1) : Parameter must not be negative",
+        "VARIANCE(values) : At least two values are required",
+        "STDDEV(1) : At least two values are required"
+      })
+  void testStatisticalFunctionsThrowException(String expression, String message) {
+    assertThatThrownBy(
+            () ->
+                parser
+                    .parse(expression)
+                    .evaluate(builder -> builder.parameter("values", new int[0])))
+        .isInstanceOf(EvaluationException.class)
+        .hasMessage(message);
+  }
+}
@@ -16,10 +16,16 @@
 package me.melontini.mevalex.functions.basic;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.math.MathContext;
 import me.melontini.mevalex.EvaluationException;
 import me.melontini.mevalex.Expression;
 import me.melontini.mevalex.config.ExpressionConfiguration;
+import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.conversion.ArrayConverter;
+import me.melontini.mevalex.data.conversion.DefaultEvaluationValueConverter;
+import me.melontini.mevalex.parser.ExpressionParser;
 import me.melontini.mevalex.parser.ParseException;
 import org.junit.jupiter.api.Test;
 
@@ -198,4 +204,154 @@ class SumMinMaxArrayTest {
             expression.evaluate(builder -> builder.parameter("numbers", numbers)).getStringValue())
         .isEqualTo("9");
   }
+
+  @Test
+  void testSumPrimitiveLongArrayOverflow() throws EvaluationException, ParseException {
+    long[] numbers = {Long.MAX_VALUE, Long.MAX_VALUE, 2, Long.MIN_VALUE, 1};
+
+    Expression expression = ExpressionConfiguration.defaultExpressionParser().parse("SUM(numbers)");
+
+    assertThat(
+            expression.evaluate(builder -> builder.parameter("numbers", numbers)).getStringValue())
+        .isEqualTo("9223372036854775809");
+  }
+
+  @Test
+  void testSumPrimitiveDoubleArrayIsDecimal() throws EvaluationException, ParseException {
+    double[] numbers = {0.1, 0.2, 0.3};
+
+    Expression expression = ExpressionConfiguration.defaultExpressionParser().parse("SUM(numbers)");
+
+    assertThat(
+            expression.evaluate(builder -> builder.parameter("numbers", numbers)).getStringValue())
+        .isEqualTo("0.6");
+  }
+
+  @Test
+  void testSumPrimitiveDoubleArrayCompensated() throws EvaluationException, ParseException {
+    double[] numbers = {1e16, 1.0, -1e16, 0.5};
+    ExpressionConfiguration configuration =
+        ExpressionConfiguration.builder().mathContext(MathContext.DECIMAL64).build();
+
+    Expression expression = new ExpressionParser(configuration).parse("SUM(numbers)");
+
+    assertThat(
+            expression.evaluate(builder -> builder.parameter("numbers", numbers)).getStringValue())
+        .isEqualTo("1.5");
+  }
+
+  @Test
+  void testAggregatesParallel() throws EvaluationException, ParseException {
+    int[] numbers = new int[100_000];
+    double[] doubles = new double[numbers.length];
+    for (int i = 0; i < numbers.length; i++) {
+      numbers[i] = (i * 7919) % numbers.length - 50_000;
+      doubles[i] = numbers[i] / 4.0;
+    }
+    ExpressionConfiguration configuration =
+        ExpressionConfiguration.builder().parallelAggregationThreshold(1000).build();
+    ExpressionParser sequential = ExpressionConfiguration.defaultExpressionParser();
+    ExpressionParser parallel = new ExpressionParser(configuration);
+
+    for (String function : new String[] {"SUM", "AVERAGE", "MIN", "MAX"}) {
+      String expressionString = function + "(numbers, doubles)";
+      EvaluationValue expected =
+          sequential
+              .parse(expressionString)
+              .evaluate(
+                  builder -> builder.parameter("numbers", numbers).parameter("doubles", doubles));
+      EvaluationValue actual =
+          parallel
+              .parse(expressionString)
+              .evaluate(
+                  builder -> builder.parameter("numbers", numbers).parameter("doubles", doubles));
+
+      assertThat(actual).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void testMinMaxPrimitiveArrays() throws EvaluationException, ParseException {
+    long[] longs = {5, -2, 9};
+    double[] doubles = {2.5, -0.75, 1e-3};
+    ExpressionParser parser = ExpressionConfiguration.defaultExpressionParser();
+
+    assertThat(
+            parser
+                .parse("MIN(longs, doubles)")
+                .evaluate(
+                    builder -> builder.parameter("longs", longs).parameter("doubles", doubles))
+                .getStringValue())
+        .isEqualTo("-2");
+    assertThat(
+            parser
+                .parse("MAX(longs, doubles)")
+                .evaluate(
+                    builder -> builder.parameter("longs", longs).parameter("doubles", doubles))
+                .getStringValue())
+        .isEqualTo("9");
+    assertThat(
+            parser
+                .parse("MIN(doubles)")
+                .evaluate(builder -> builder.parameter("doubles", doubles))
+                .getStringValue())
+        .isEqualTo("-0.75");
+  }
+
+  @Test
+  void testAggregatesMemoizedPrimitiveArray() throws EvaluationException, ParseException {
+    int[] numbers = {4, 8, 15, 16, 23, 42};
+    ExpressionConfiguration configuration =
+        ExpressionConfiguration.builder()
+            .evaluationValueConverter(
+                DefaultEvaluationValueConverter.builder()
+                    .addFirst(new ArrayConverter(true))
+                    .build())
+            .build();
+    ExpressionParser parser = new ExpressionParser(configuration);
+
+    assertThat(
+            parser
+                .parse("SUM(numbers) / AVERAGE(numbers) + MAX(numbers) - MIN(numbers)")
+                .evaluate(builder -> builder.parameter("numbers", numbers))
+                .getStringValue())
+        .isEqualTo("44");
+  }
+
+  @Test
+  void testAverageArray() throws EvaluationException, ParseException {
+    int[] numbers = {1, 2, 3, 4};
+    Integer[][] nested = {{1, 2}, {3}};
+    ExpressionParser parser = ExpressionConfiguration.defaultExpressionParser();
+
+    assertThat(
+            parser
+                .parse("AVERAGE(numbers)")
+                .evaluate(builder -> builder.parameter("numbers", numbers))
+                .getStringValue())
+        .isEqualTo("2.5");
+    assertThat(
+            parser
+                .parse("AVERAGE(numbers, 15)")
+                .evaluate(builder -> builder.parameter("numbers", numbers))
+                .getStringValue())
+        .isEqualTo("5");
+    assertThat(
+            parser
+                .parse("AVERAGE(nested)")
+                .evaluate(builder -> builder.parameter("nested", nested))
+                .getStringValue())
+        .isEqualTo("2");
+  }
+
+  @Test
+  void testAverageEmptyArray() throws EvaluationException, ParseException {
+    Expression expression =
+        ExpressionConfiguration.defaultExpressionParser().parse("AVERAGE(numbers)");
+
+    assertThatThrownBy(
+            () -> expression.evaluate(builder -> builder.parameter("numbers", new int[0])))
+        .isInstanceOf(EvaluationException.class)
+        .hasMessage("Average of an empty array");
+  }
 }
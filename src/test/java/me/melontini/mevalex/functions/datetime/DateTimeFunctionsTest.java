@@ -27,9 +27,12 @@ import java.util.Locale;
 import java.util.function.UnaryOperator;
 import me.melontini.mevalex.BaseEvaluationTest;
 import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.Expression;
 import me.melontini.mevalex.config.ExpressionConfiguration;
 import me.melontini.mevalex.config.TestConfigurationProvider;
+import me.melontini.mevalex.parser.ExpressionParser;
 import me.melontini.mevalex.parser.ParseException;
+import me.melontini.mevalex.parser.Token;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -201,6 +204,56 @@ class DateTimeFunctionsTest extends BaseEvaluationTest {
         .hasMessage("Illegal date-time format in parameter 3: 'defect'");
   }
 
+  @Test
+  void testDateTimeParseWithConstantFormats() throws EvaluationException, ParseException {
+    Expression expression =
+        new ExpressionParser(DateTimeTestConfiguration)
+            .parse("DT_DATE_PARSE(value, NULL, \"dd.MM.yyyy\", \"dd.MM.yyyy HH:mm\")");
+
+    assertThat(
+            expression
+                .evaluate(builder -> builder.parameter("value", "23.11.2023 14:35"))
+                .getDateTimeValue())
+        .isEqualTo(Instant.parse("2023-11-23T13:35:00Z"));
+    assertThat(
+            expression
+                .evaluate(builder -> builder.parameter("value", "24.11.2023"))
+                .getDateTimeValue())
+        .isEqualTo(Instant.parse("2023-11-23T23:00:00Z"));
+  }
+
+  @Test
+  void testDateTimeParseIllegalConstantFormatWithVariable() {
+    assertThatThrownBy(
+            () ->
+                ExpressionConfiguration.defaultExpressionParser()
+                    .parse("DT_DATE_PARSE(value, NULL, \"defect\")")
+                    .evaluate(builder -> builder.parameter("value", "2023-01-01")))
+        .isInstanceOf(EvaluationException.class)
+        .hasMessage("Illegal date-time format in parameter 3: 'defect'");
+  }
+
+  @Test
+  void testDateTimeParseIllegalVariableFormat() {
+    assertThatThrownBy(
+            () ->
+                ExpressionConfiguration.defaultExpressionParser()
+                    .parse("DT_DATE_PARSE(\"2023-01-01\", NULL, format)")
+                    .evaluate(builder -> builder.parameter("format", "defect")))
+        .isInstanceOf(EvaluationException.class)
+        .hasMessage("Illegal date-time format in parameter 3: 'defect'");
+  }
+
+  @Test
+  void testDateTimeFormatterCache() throws EvaluationException {
+    Token token = new Token(1, "DT_DATE_PARSE", Token.TokenType.FUNCTION);
+
+    assertThat(DateTimeFormatterCache.get(token, "dd.MM.yyyy", Locale.GERMAN, 2))
+        .isSameAs(DateTimeFormatterCache.get(token, "dd.MM.yyyy", Locale.GERMAN, 2));
+    assertThat(DateTimeFormatterCache.get(token, "dd.MM.yyyy", Locale.ENGLISH, 2).getLocale())
+        .isEqualTo(Locale.ENGLISH);
+  }
+
   @Test
   void testDateTimeParseUnableToParse() {
     assertThatThrownBy(
@@ -230,6 +283,22 @@ class DateTimeFunctionsTest extends BaseEvaluationTest {
     assertExpressionHasExpectedResult(expression, expectedResult, DateTimeTestConfiguration);
   }
 
+  @Test
+  void testDateTimeFormatWithConstantFormat() throws EvaluationException, ParseException {
+    Expression expression =
+        new ExpressionParser(DateTimeTestConfiguration)
+            .parse("DT_DATE_FORMAT(value, \"dd.MM.yyyy HH:mm:ss\", \"America/New_York\")");
+
+    for (int i = 0; i < 2; i++) {
+      assertThat(
+              expression
+                  .evaluate(
+                      builder -> builder.parameter("value", Instant.parse("2022-12-20T10:50:20Z")))
+                  .getStringValue())
+          .isEqualTo("20.12.2022 05:50:20");
+    }
+  }
+
   @Test
   void testDateTimeFormatTooManyParameters() {
     assertThatThrownBy(
@@ -0,0 +1,145 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.functions.string;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import me.melontini.mevalex.BaseEvaluationTest;
+import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.config.ExpressionConfiguration;
+import me.melontini.mevalex.parser.ExpressionParser;
+import me.melontini.mevalex.parser.ParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class RegexFunctionsTest extends BaseEvaluationTest {
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = ':',
+      value = {
+        "STR_MATCHES(\"abc123\", \"[a-z]+[0-9]+\") : true",
+        "STR_MATCHES(\"abc123x\", \"[a-z]+[0-9]+\") : false",
+        "STR_MATCHES(\"ABC\", \"abc\") : false",
+        "STR_MATCHES(\"\", \".*\") : true",
+        "STR_MATCHES(\"order-42\", \"order-\" + \"\\\\d+\") : true",
+        "STR_FIND(\"price 12.50 EUR\", \"[0-9]+\\\\.[0-9]+\") : 12.50",
+        "STR_FIND(\"a1b2\", \"[0-9]\") : 1",
+        "STR_REPLACE_REGEX(\"a1b22c333\", \"[0-9]+\", \"#\") : a#b#c#",
+        "STR_REPLACE_REGEX(\"John Smith\", \"(\\\\w+) (\\\\w+)\", \"$2, $1\") : Smith, John",
+        "STR_REPLACE_REGEX(\"abc\", \"x\", \"y\") : abc"
+      })
+  void testConstantPatterns(String expression, String expectedResult)
+      throws EvaluationException, ParseException {
+    assertExpressionHasExpectedResult(expression, expectedResult);
+  }
+
+  @Test
+  void testFindWithoutMatch() throws EvaluationException, ParseException {
+    assertThat(evaluate("STR_FIND(\"abc\", \"[0-9]\")").isNullValue()).isTrue();
+  }
+
+  @Test
+  void testVariablePatterns() throws EvaluationException, ParseException {
+    ExpressionParser parser = ExpressionConfiguration.defaultExpressionParser();
+    var expression = parser.parse("STR_MATCHES(value, pattern)");
+    assertThat(
+            expression
+                .evaluate(
+                    builder -> builder.parameter("value", "a-1").parameter("pattern", "a-\\d"))
+                .getBooleanValue())
+        .isTrue();
+    assertThat(
+            expression
+                .evaluate(builder -> builder.parameter("value", "a-1").parameter("pattern", "b.*"))
+                .getBooleanValue())
+        .isFalse();
+    assertThat(
+            parser
+                .parse("STR_REPLACE_REGEX(value, pattern, replacement)")
+                .evaluate(
+                    builder ->
+                        builder
+                            .parameter("value", "2024-05-17")
+                            .parameter("pattern", "(\\d+)-(\\d+)-(\\d+)")
+                            .parameter("replacement", "$3.$2.$1"))
+                .getStringValue())
+        .isEqualTo("17.05.2024");
+  }
+
+  @Test
+  void testIllegalPattern() {
+    assertThatThrownBy(() -> evaluate("STR_MATCHES(\"abc\", \"[a-\")"))
+        .isInstanceOf(EvaluationException.class)
+        .hasMessage("Illegal regular expression in parameter 2: '[a-'");
+    assertThatThrownBy(
+            () ->
+                ExpressionConfiguration.defaultExpressionParser()
+                    .parse("STR_FIND(\"abc\", pattern)")
+                    .evaluate(builder -> builder.parameter("pattern", "(")))
+        .isInstanceOf(EvaluationException.class)
+        .hasMessage("Illegal regular expression in parameter 2: '('");
+  }
+
+  @Test
+  void testIllegalReplacement() {
+    assertThatThrownBy(() -> evaluate("STR_REPLACE_REGEX(\"abc\", \"b\", \"$2\")"))
+        .isInstanceOf(EvaluationException.class)
+        .hasMessage("Illegal replacement: '$2'");
+  }
+
+  @Test
+  void testMaxRegexSteps() throws EvaluationException, ParseException {
+    ExpressionParser parser =
+        new ExpressionParser(ExpressionConfiguration.builder().maxRegexSteps(10_000).build());
+    String input =
+        "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa!";
+
+    assertThat(
+            parser
+                .parse("STR_MATCHES(value, \"a+!\")")
+                .evaluate(builder -> builder.parameter("value", input))
+                .getBooleanValue())
+        .isTrue();
+    assertThatThrownBy(
+            () ->
+                parser
+                    .parse("STR_MATCHES(value, pattern)")
+                    .evaluate(
+                        builder ->
+                            builder.parameter("value", input).parameter("pattern", "(.*a){12}")))
+        .isInstanceOf(EvaluationException.class)
+        .hasMessage("Regular expression exceeded the maximum number of steps");
+  }
+
+  @Test
+  void testDeepRecursion() {
+    StringBuilder input = new StringBuilder();
+    for (int i = 0; i < 50_000; i++) input.append("ab");
+    ExpressionParser parser =
+        new ExpressionParser(ExpressionConfiguration.builder().maxRegexSteps(10_000_000).build());
+
+    assertThatThrownBy(
+            () ->
+                parser
+                    .parse("STR_MATCHES(value, \"(a|b)*\")")
+                    .evaluate(builder -> builder.parameter("value", input.toString())))
+        .isInstanceOf(EvaluationException.class)
+        .hasMessage("Regular expression exceeded the maximum recursion depth");
+  }
+}
@@ -17,6 +17,9 @@ package me.melontini.mevalex.functions.trigonometric;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
 import java.util.function.UnaryOperator;
 import me.melontini.mevalex.BaseEvaluationTest;
 import me.melontini.mevalex.EvaluationException;
@@ -42,6 +45,19 @@ class TrigonometricFunctionsTest extends BaseEvaluationTest {
     assertExpressionHasExpectedResult(expression, expectedResult);
   }
 
+  @Test
+  void testRadiansHugeAngleThrowsException() {
+    for (String function : new String[] {"SINR", "COSR", "TANR", "COTR", "SECR", "CSCR"}) {
+      assertThatThrownBy(
+              () ->
+                  ExpressionConfiguration.defaultExpressionParser()
+                      .parse(function + "(x)")
+                      .evaluate(builder -> builder.parameter("x", new BigDecimal("1e5000"))))
+          .isInstanceOf(EvaluationException.class)
+          .hasMessage("Angle is too large");
+    }
+  }
+
   @Test
   void testAcosThrowsExceptionPositive() {
     assertThatThrownBy(
@@ -355,9 +371,9 @@ class TrigonometricFunctionsTest extends BaseEvaluationTest {
   @CsvSource(
       delimiter = ':',
       value = {
-        "CSC(1) : 57.298688498550185",
-        "CSC(19) : 3.0715534867572423",
-        "CSC(-19) : -3.0715534867572423"
+        "CSC(1) : 57.298688498550183476612683735173779889969877177276091549613256621127",
+        "CSC(19) : 3.0715534867572423567483210381945563571489806493259975195281774660734",
+        "CSC(-19) : -3.0715534867572423567483210381945563571489806493259975195281774660734"
       })
   void testCSC(String expression, String expectedResult)
       throws EvaluationException, ParseException {
@@ -381,9 +397,9 @@ class TrigonometricFunctionsTest extends BaseEvaluationTest {
   @CsvSource(
       delimiter = ':',
       value = {
-        "CSCR(1) : 1.1883951057781212",
-        "CSCR(19) : 6.672128486037505",
-        "CSCR(-19) : -6.672128486037505"
+        "CSCR(1) : 1.1883951057781212162615994523745510035278298340979626252652536663592",
+        "CSCR(19) : 6.6721284860375060477794840958751656176410259023522778817189490916001",
+        "CSCR(-19) : -6.6721284860375060477794840958751656176410259023522778817189490916001"
       })
   void testCSCR(String expression, String expectedResult)
       throws EvaluationException, ParseException {
@@ -394,9 +410,9 @@ class TrigonometricFunctionsTest extends BaseEvaluationTest {
   @CsvSource(
       delimiter = ':',
       value = {
-        "COT(1) : 57.28996163075943",
-        "COT(19) : 2.9042108776758226",
-        "COT(-19) : -2.9042108776758226"
+        "COT(1) : 57.289961630759424687278147537112577980217522235143926472581103606529",
+        "COT(19) : 2.9042108776758228025793255345270912540312619218462216683630247113937",
+        "COT(-19) : -2.9042108776758228025793255345270912540312619218462216683630247113937"
       })
   void testCoTan(String expression, String expectedResult)
       throws EvaluationException, ParseException {
@@ -407,9 +423,9 @@ class TrigonometricFunctionsTest extends BaseEvaluationTest {
   @CsvSource(
       delimiter = ':',
       value = {
-        "COTR(1) : 0.6420926159343306",
-        "COTR(19) : 6.596764247280111",
-        "COTR(-19) : -6.596764247280111"
+        "COTR(1) : 0.64209261593433070300641998659426562023027811391817137910116228042628",
+        "COTR(19) : 6.5967642472801119903729439538219289597475962396777740388404820143114",
+        "COTR(-19) : -6.5967642472801119903729439538219289597475962396777740388404820143114"
       })
   void testCoTanR(String expression, String expectedResult)
       throws EvaluationException, ParseException {
@@ -443,9 +459,9 @@ class TrigonometricFunctionsTest extends BaseEvaluationTest {
       delimiter = ':',
       value = {
         "COS(0) : 1",
-        "COS(1) : 0.9998476951563913",
-        "COS(19) : 0.9455185755993168",
-        "COS(-19) : 0.9455185755993168"
+        "COS(1) : 0.99984769515639123915701155881391485169274031058318593965832071451154",
+        "COS(19) : 0.9455185755993168103481247075194031776764587259189527030101408209676",
+        "COS(-19) : 0.9455185755993168103481247075194031776764587259189527030101408209676"
       })
   void testCos(String expression, String expectedResult)
       throws EvaluationException, ParseException {
@@ -470,9 +486,9 @@ class TrigonometricFunctionsTest extends BaseEvaluationTest {
       delimiter = ':',
       value = {
         "COSR(0) : 1",
-        "COSR(1) : 0.5403023058681398",
-        "COSR(19) : 0.9887046181866692",
-        "COSR(-19) : 0.9887046181866692"
+        "COSR(1) : 0.5403023058681397174009366074429766037323104206179222276700972553811",
+        "COSR(19) : 0.9887046181866692528983528565481572681733945559567684649703787304743",
+        "COSR(-19) : 0.9887046181866692528983528565481572681733945559567684649703787304743"
       })
   void testCosR(String expression, String expectedResult)
       throws EvaluationException, ParseException {
@@ -570,9 +586,9 @@ class TrigonometricFunctionsTest extends BaseEvaluationTest {
   @CsvSource(
       delimiter = ':',
       value = {
-        "SEC(1) : 1.0001523280439077",
-        "SEC(19) : 1.0576206811866706",
-        "SEC(-19) : 1.0576206811866706"
+        "SEC(1) : 1.000152328043907665428426434212573801478911804221445564714033783037",
+        "SEC(19) : 1.0576206811866706550878639673129101886797137583689813190946914273507",
+        "SEC(-19) : 1.0576206811866706550878639673129101886797137583689813190946914273507"
       })
   void testSec(String expression, String expectedResult)
       throws EvaluationException, ParseException {
@@ -607,9 +623,9 @@ class TrigonometricFunctionsTest extends BaseEvaluationTest {
   @CsvSource(
       delimiter = ':',
       value = {
-        "SECR(1) : 1.8508157176809255",
-        "SECR(19) : 1.01142442505634",
-        "SECR(-19) : 1.01142442505634"
+        "SECR(1) : 1.8508157176809256179117532413986501934703966550940092988351582778588",
+        "SECR(19) : 1.0114244250563398887771625171798917686891765389075409305573477291315",
+        "SECR(-19) : 1.0114244250563398887771625171798917686891765389075409305573477291315"
       })
   void testSecR(String expression, String expectedResult)
       throws EvaluationException, ParseException {
@@ -641,7 +657,12 @@ class TrigonometricFunctionsTest extends BaseEvaluationTest {
   @ParameterizedTest
   @CsvSource(
       delimiter = ':',
-      value = {"SIN(0) : 0", "SIN(1) : 0.01745240643728351", "SIN(90) : 1", "SIN(-90) : -1"})
+      value = {
+        "SIN(0) : 0",
+        "SIN(1) : 0.017452406437283512819418978516316192472252720307139642683612427640597",
+        "SIN(90) : 1",
+        "SIN(-90) : -1"
+      })
   void testSin(String expression, String expectedResult)
       throws EvaluationException, ParseException {
     assertExpressionHasExpectedResult(expression, expectedResult);
@@ -665,9 +686,9 @@ class TrigonometricFunctionsTest extends BaseEvaluationTest {
       delimiter = ':',
       value = {
         "SINR(0) : 0",
-        "SINR(1) : 0.8414709848078965",
-        "SINR(90) : 0.8939966636005579",
-        "SINR(-90) : -0.8939966636005579"
+        "SINR(1) : 0.84147098480789650665250232163029899962256306079837106567275170999191",
+        "SINR(90) : 0.8939966636005578905182694984042098800464305236663045123522694151395",
+        "SINR(-90) : -0.8939966636005578905182694984042098800464305236663045123522694151395"
       })
   void testSinR(String expression, String expectedResult)
       throws EvaluationException, ParseException {
@@ -679,9 +700,9 @@ class TrigonometricFunctionsTest extends BaseEvaluationTest {
       delimiter = ':',
       value = {
         "TAN(0) : 0",
-        "TAN(1) : 0.017455064928217585",
-        "TAN(19) : 0.34432761328966527",
-        "TAN(-19) : -0.34432761328966527"
+        "TAN(1) : 0.017455064928217585765128895219727824314101588839875276904711427102105",
+        "TAN(19) : 0.3443276132896652419572658393831088697849581513053029069624425191129",
+        "TAN(-19) : -0.3443276132896652419572658393831088697849581513053029069624425191129"
       })
   void testTan(String expression, String expectedResult)
       throws EvaluationException, ParseException {
@@ -706,12 +727,73 @@ class TrigonometricFunctionsTest extends BaseEvaluationTest {
       delimiter = ':',
       value = {
         "TANR(0) : 0",
-        "TANR(1) : 1.5574077246549023",
-        "TANR(19) : 0.15158947061240008",
-        "TANR(-19) : -0.15158947061240008"
+        "TANR(1) : 1.5574077246549022305069748074583601730872507723815200383839466056989",
+        "TANR(19) : 0.1515894706124000692467340983330426302838871482096273371729680479204",
+        "TANR(-19) : -0.1515894706124000692467340983330426302838871482096273371729680479204"
       })
   void testTanR(String expression, String expectedResult)
       throws EvaluationException, ParseException {
     assertExpressionHasExpectedResult(expression, expectedResult);
   }
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = ':',
+      value = {
+        "SIN(30) : 0.5",
+        "SIN(-330) : 0.5",
+        "SIN(180) : 0",
+        "COS(60) : 0.5",
+        "COS(90) : 0",
+        "TAN(45) : 1",
+        "TAN(-135) : 1",
+        "COT(225) : 1",
+        "SEC(180) : -1",
+        "CSC(270) : -1",
+        "COS(135) : -0.70710678118654752440084436210484903928483593768847403658833986899537",
+        "TAN(89.9999) : 572957.79513024143235064998680258971286054745849011827734911937188366",
+        "SINR(355) : -0.000030144353359488449214330280008650099590255807066324649105789848240674",
+        "COSR(1000000) : 0.93675212753314478693853253507491877570809780421236587972057834111681"
+      })
+  void testHighPrecision(String expression, String expectedResult)
+      throws EvaluationException, ParseException {
+    assertExpressionHasExpectedResult(expression, expectedResult);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"TAN(90)", "TAN(-270)", "COT(180)", "SEC(90)", "CSC(180)"})
+  void testHighPrecisionPoleThrowsException(String expression) {
+    assertThatThrownBy(() -> evaluate(expression))
+        .isInstanceOf(EvaluationException.class)
+        .hasMessage("Division by zero");
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = ':',
+      value = {
+        "SIN(1) : 0.01745240643728351",
+        "COSR(1) : 0.5403023058681398",
+        "TAN(90) : 16331239353195370",
+        "COT(1) : 57.28996163075943"
+      })
+  void testDoublePrecision(String expression, String expectedResult)
+      throws EvaluationException, ParseException {
+    assertExpressionHasExpectedResult(
+        expression,
+        expectedResult,
+        ExpressionConfiguration.builder()
+            .mathContext(new MathContext(16, RoundingMode.HALF_EVEN))
+            .build());
+  }
+
+  @Test
+  void testPrecisionFromMathContext() throws EvaluationException, ParseException {
+    assertExpressionHasExpectedResult(
+        "SINR(1)",
+        "0.8414709848078965066525023216302989996225630607983710656727517099919104043912396689486397435430526959",
+        ExpressionConfiguration.builder()
+            .mathContext(new MathContext(100, RoundingMode.HALF_EVEN))
+            .build());
+  }
 }
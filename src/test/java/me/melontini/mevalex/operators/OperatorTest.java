@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.data.EvaluationType;
 import me.melontini.mevalex.data.EvaluationValue;
 import me.melontini.mevalex.data.types.StringValue;
 import me.melontini.mevalex.parser.Token;
@@ -63,6 +64,22 @@ class OperatorTest {
     assertThat(operator.isInfix()).isTrue();
   }
 
+  @Test
+  void testOperatorMetadata() {
+    OperatorIfc defaults = new CorrectInfixOperator();
+    assertThat(defaults.getResultType()).isEqualTo(EvaluationType.ANY);
+    assertThat(defaults.isPure()).isTrue();
+    assertThat(defaults.isDeterministic()).isTrue();
+    assertThat(defaults.getCost()).isEqualTo(1);
+    assertThat(defaults.canInline()).isTrue();
+
+    OperatorIfc annotated = new MetadataInfixOperator();
+    assertThat(annotated.getResultType()).isEqualTo(EvaluationType.BOOLEAN);
+    assertThat(annotated.isPure()).isFalse();
+    assertThat(annotated.getCost()).isEqualTo(3);
+    assertThat(annotated.canInline()).isFalse();
+  }
+
   @Test
   void testThrowsFunctionParameterAnnotationNotFoundException() {
 
@@ -83,6 +100,13 @@ class OperatorTest {
   @InfixOperator(precedence = OPERATOR_PRECEDENCE_MULTIPLICATIVE)
   private static class CorrectInfixOperator extends DummyAnnotationOperator {}
 
+  @InfixOperator(
+      precedence = OPERATOR_PRECEDENCE_MULTIPLICATIVE,
+      resultType = EvaluationType.BOOLEAN,
+      pure = false,
+      cost = 3)
+  private static class MetadataInfixOperator extends DummyAnnotationOperator {}
+
   private static class DummyAnnotationOperator extends AbstractOperator {
     @Override
     public EvaluationValue evaluate(
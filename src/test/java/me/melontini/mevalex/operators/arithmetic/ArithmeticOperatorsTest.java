@@ -15,12 +15,16 @@
 */
 package me.melontini.mevalex.operators.arithmetic;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.math.MathContext;
 import java.time.ZoneId;
 import me.melontini.mevalex.BaseEvaluationTest;
 import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.config.ExpressionConfiguration;
 import me.melontini.mevalex.config.TestConfigurationProvider;
+import me.melontini.mevalex.parser.ExpressionParser;
 import me.melontini.mevalex.parser.ParseException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -214,8 +218,12 @@ class ArithmeticOperatorsTest extends BaseEvaluationTest {
         "1^2 : 1",
         "2^2 : 4",
         "4^4 : 256",
-        "2.3^2.2 : 6.248866394748043436",
+        "2.3^2.2 : 6.2488663947480437990773257982655145321884808511962873877259696954099",
         "2^-3 : 0.125",
+        "2^0.5 : 1.4142135623730950488016887242096980785696718753769480731766797379907",
+        "2^-0.5 : 0.70710678118654752440084436210484903928483593768847403658833986899537",
+        "10^2.5 : 316.22776601683793319988935444327185337195551393252168268575048527926",
+        "0.5^-1.5 : 2.8284271247461900976033774484193961571393437507538961463533594759815",
         "-2^-3 : -0.125",
         "-2^-3 : -0.125"
       })
@@ -224,6 +232,35 @@ class ArithmeticOperatorsTest extends BaseEvaluationTest {
     assertExpressionHasExpectedResult(expression, expectedResult);
   }
 
+  @Test
+  void testInfixPowerUnlimitedPrecision() throws EvaluationException, ParseException {
+    ExpressionParser parser =
+        new ExpressionParser(
+            ExpressionConfiguration.builder().mathContext(MathContext.UNLIMITED).build());
+    for (String expression : new String[] {"2^0.5", "x^0.5", "x^y"}) {
+      assertThat(
+              parser
+                  .parse(expression)
+                  .evaluate(builder -> builder.parameter("x", 2).parameter("y", 0.5))
+                  .getStringValue())
+          .isEqualTo("1.4142135623730951");
+    }
+  }
+
+  @Test
+  void testInfixPowerFractionalOfNegative() {
+    assertThatThrownBy(() -> evaluate("-8^0.5"))
+        .isInstanceOf(EvaluationException.class)
+        .hasMessage("Fractional power of a negative number");
+  }
+
+  @Test
+  void testInfixPowerNegativeFractionalOfZero() {
+    assertThatThrownBy(() -> evaluate("0^-0.5"))
+        .isInstanceOf(EvaluationException.class)
+        .hasMessage("Division by zero");
+  }
+
   @ParameterizedTest
   @CsvSource(
       delimiter = ':',
@@ -0,0 +1,178 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.TreeMap;
+import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.Expression;
+import me.melontini.mevalex.config.ExpressionConfiguration;
+import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.types.NumberValue;
+import me.melontini.mevalex.data.types.StringValue;
+import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
+import me.melontini.mevalex.functions.FunctionParameter;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveSolvableTest {
+
+  private static final int THRESHOLD = 10;
+
+  private final ExpressionParser parser =
+      new ExpressionParser(
+          ExpressionConfiguration.builder().adaptiveOptimizationThreshold(THRESHOLD).build());
+
+  @Test
+  void testHotExpressionIsOptimized() throws ParseException, EvaluationException {
+    Expression expression = parser.parse("a + b * 2");
+    AdaptiveSolvable adaptive = (AdaptiveSolvable) expression.getSolvable();
+
+    for (int i = 0; i < THRESHOLD; i++) {
+      assertThat(adaptive.isOptimized()).isFalse();
+      int a = i;
+      assertThat(
+              expression
+                  .evaluate(builder -> builder.parameter("a", a).parameter("b", 3))
+                  .getNumberValue())
+          .isEqualByComparingTo(BigDecimal.valueOf(a + 6));
+    }
+    assertThat(adaptive.isOptimized()).isTrue();
+
+    assertThat(
+            expression
+                .evaluate(builder -> builder.parameter("a", 1.5).parameter("b", 3))
+                .getNumberValue())
+        .isEqualByComparingTo("7.5");
+    assertThat(adaptive.isOptimized()).isTrue();
+  }
+
+  @Test
+  void testUnexpectedTypeDeoptimizes() throws ParseException, EvaluationException {
+    Expression expression = parser.parse("a + b * 2");
+    AdaptiveSolvable adaptive = (AdaptiveSolvable) expression.getSolvable();
+    for (int i = 0; i < THRESHOLD; i++) {
+      expression.evaluate(builder -> builder.parameter("a", 1).parameter("b", 3));
+    }
+    assertThat(adaptive.isOptimized()).isTrue();
+
+    assertThat(expression.evaluate(builder -> builder.parameter("a", "x").parameter("b", 3)))
+        .isEqualTo(StringValue.of("x6"));
+    assertThat(adaptive.isOptimized()).isFalse();
+
+    // After another round of profiling, a is no longer speculated to be a number.
+    for (int i = 0; i < THRESHOLD; i++) {
+      expression.evaluate(builder -> builder.parameter("a", 1).parameter("b", 3));
+    }
+    assertThat(adaptive.isOptimized()).isTrue();
+    assertThat(expression.evaluate(builder -> builder.parameter("a", "y").parameter("b", 1)))
+        .isEqualTo(StringValue.of("y2"));
+    assertThat(adaptive.isOptimized()).isTrue();
+  }
+
+  @Test
+  void testUntakenBranchDeoptimizes() throws ParseException, EvaluationException {
+    Expression expression = parser.parse("IF(a > 0, a, b * 2) + 1");
+    AdaptiveSolvable adaptive = (AdaptiveSolvable) expression.getSolvable();
+    for (int i = 0; i < THRESHOLD; i++) {
+      expression.evaluate(builder -> builder.parameter("a", 1));
+    }
+    assertThat(adaptive.isOptimized()).isTrue();
+
+    assertThat(expression.evaluate(builder -> builder.parameter("a", -1).parameter("b", 4)))
+        .isEqualTo(NumberValue.of(new BigDecimal(9)));
+    assertThat(adaptive.isOptimized()).isFalse();
+  }
+
+  @Test
+  void testGivesUpAfterMaxRecompilations() throws ParseException, EvaluationException {
+    Expression expression = parser.parse("IF(a > 0, 1, IF(a > -10, 2, IF(a > -20, 3, 4)))");
+    AdaptiveSolvable adaptive = (AdaptiveSolvable) expression.getSolvable();
+
+    // each round takes a branch that was never taken before, which discards the optimization
+    for (int round = 1; round <= AdaptiveSolvable.MAX_RECOMPILATIONS; round++) {
+      for (int i = 0; i < THRESHOLD; i++) {
+        expression.evaluate(builder -> builder.parameter("a", 1));
+      }
+      assertThat(adaptive.isOptimized()).isTrue();
+      int a = -10 * round + 5;
+      assertThat(expression.evaluate(builder -> builder.parameter("a", a)).getNumberValue())
+          .isEqualByComparingTo(BigDecimal.valueOf(round + 1));
+      assertThat(adaptive.isOptimized()).isFalse();
+    }
+
+    int optimizeCalls = adaptive.getOptimizeCalls();
+    for (int i = 0; i < 10 * THRESHOLD; i++) {
+      expression.evaluate(builder -> builder.parameter("a", 1));
+    }
+    assertThat(adaptive.isOptimized()).isFalse();
+    assertThat(adaptive.getOptimizeCalls()).isEqualTo(optimizeCalls);
+    assertThat(expression.evaluate(builder -> builder.parameter("a", -30)).getNumberValue())
+        .isEqualByComparingTo("4");
+  }
+
+  @Test
+  void testPredicateIsOptimized() throws ParseException, EvaluationException {
+    Expression expression = parser.parse("a > 1 && s == \"x\"");
+    AdaptiveSolvable adaptive = (AdaptiveSolvable) expression.getBooleanSolvable();
+    for (int i = 0; i < THRESHOLD; i++) {
+      assertThat(expression.test(builder -> builder.parameter("a", 0).parameter("s", "x")))
+          .isFalse();
+    }
+    assertThat(adaptive.isOptimized()).isTrue();
+
+    assertThat(expression.test(builder -> builder.parameter("a", 2).parameter("s", "x"))).isTrue();
+    assertThat(adaptive.isOptimized()).isFalse();
+    assertThat(expression.test(builder -> builder.parameter("a", 2).parameter("s", "y"))).isFalse();
+  }
+
+  @Test
+  void testImpureExpressionIsNotAdaptive() throws ParseException, EvaluationException {
+    ExpressionParser impureParser =
+        new ExpressionParser(
+            ExpressionConfiguration.builder()
+                .adaptiveOptimizationThreshold(THRESHOLD)
+                .functionDictionary(
+                    ExpressionConfiguration.getStandardFunctions(
+                            () -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER))
+                        .add("IMPURE", new ImpureFunction())
+                        .build())
+                .build());
+
+    assertThat(impureParser.parse("IMPURE(a) + 1").getSolvable())
+        .isNotInstanceOf(AdaptiveSolvable.class);
+    assertThat(impureParser.parse("a + 1").getSolvable()).isInstanceOf(AdaptiveSolvable.class);
+  }
+
+  @Test
+  void testDisabledByDefault() throws ParseException, EvaluationException {
+    assertThat(ExpressionConfiguration.defaultExpressionParser().parse("a + 1").getSolvable())
+        .isNotInstanceOf(AdaptiveSolvable.class);
+  }
+
+  @FunctionMetadata(pure = false)
+  @FunctionParameter(name = "value")
+  private static class ImpureFunction extends AbstractFunction {
+    @Override
+    public EvaluationValue evaluate(
+        EvaluationContext context, Token functionToken, EvaluationValue... parameterValues) {
+      return parameterValues[0];
+    }
+  }
+}
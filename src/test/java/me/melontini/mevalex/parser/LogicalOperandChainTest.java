@@ -0,0 +1,195 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.TreeMap;
+import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.Expression;
+import me.melontini.mevalex.config.ExpressionConfiguration;
+import me.melontini.mevalex.data.EvaluationValue;
+import me.melontini.mevalex.data.types.BooleanValue;
+import me.melontini.mevalex.functions.AbstractFunction;
+import me.melontini.mevalex.functions.FunctionMetadata;
+import me.melontini.mevalex.functions.FunctionParameter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class LogicalOperandChainTest {
+
+  private final CountingFunction expensive = new CountingFunction();
+  private final ImpureFunction impure = new ImpureFunction();
+
+  private ExpressionParser parser(boolean statistics) {
+    return new ExpressionParser(
+        ExpressionConfiguration.builder()
+            .reorderLogicalOperands(true)
+            .logicalOperandStatistics(statistics)
+            .functionDictionary(
+                ExpressionConfiguration.getStandardFunctions(
+                        () -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER))
+                    .add("EXPENSIVE", expensive)
+                    .add("CHEAP", new CheapFunction())
+                    .add("IMPURE", impure)
+                    .build())
+            .build());
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = ':',
+      value = {
+        "EXPENSIVE(a) && b && c",
+        "EXPENSIVE(a) || b || c",
+        "EXPENSIVE(a) && (b || c)",
+        "(EXPENSIVE(a) || b) && !c",
+        "a && b || EXPENSIVE(c) && a",
+        "STR_UPPER(\"x\") == \"X\" && a != b",
+      })
+  void testReorderedResultsMatchSourceOrder(String expressionString)
+      throws ParseException, EvaluationException {
+    Expression reordered = parser(false).parse(expressionString);
+    Expression expected =
+        new ExpressionParser(
+                ExpressionConfiguration.builder()
+                    .functionDictionary(
+                        ExpressionConfiguration.getStandardFunctions(
+                                () -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER))
+                            .add("EXPENSIVE", new CountingFunction())
+                            .build())
+                    .build())
+            .parse(expressionString);
+
+    for (int i = 0; i < 8; i++) {
+      boolean a = (i & 1) != 0;
+      boolean b = (i & 2) != 0;
+      boolean c = (i & 4) != 0;
+      assertThat(
+              reordered.evaluate(
+                  builder -> builder.parameter("a", a).parameter("b", b).parameter("c", c)))
+          .isEqualTo(
+              expected.evaluate(
+                  builder -> builder.parameter("a", a).parameter("b", b).parameter("c", c)));
+      assertThat(
+              reordered.test(
+                  builder -> builder.parameter("a", a).parameter("b", b).parameter("c", c)))
+          .isEqualTo(
+              expected.test(
+                  builder -> builder.parameter("a", a).parameter("b", b).parameter("c", c)));
+    }
+  }
+
+  @Test
+  void testCheapOperandIsEvaluatedFirst() throws ParseException, EvaluationException {
+    Expression expression = parser(false).parse("EXPENSIVE(a) && b > 1");
+
+    assertThat(expression.test(builder -> builder.parameter("a", true).parameter("b", 0)))
+        .isFalse();
+    assertThat(
+            expression
+                .evaluate(builder -> builder.parameter("a", true).parameter("b", 0))
+                .getBooleanValue())
+        .isFalse();
+    assertThat(expensive.invocations).isZero();
+    assertThat(((LogicalOperandChain) expression.getBooleanSolvable()).getOrder())
+        .containsExactly(1, 0);
+  }
+
+  @Test
+  void testChainsAreFlattened() throws ParseException, EvaluationException {
+    Expression expression = parser(false).parse("(EXPENSIVE(a) || EXPENSIVE(b)) || c || d");
+
+    assertThat(((LogicalOperandChain) expression.getBooleanSolvable()).getOrder())
+        .containsExactly(2, 3, 0, 1);
+  }
+
+  @Test
+  void testGuardIsRespectedWhenReorderedEvaluationFails()
+      throws ParseException, EvaluationException {
+    Expression expression = parser(false).parse("EXPENSIVE(a != 0) && 1 / a > 0");
+
+    assertThat(expression.test(builder -> builder.parameter("a", 0))).isFalse();
+    assertThat(expression.test(builder -> builder.parameter("a", 2))).isTrue();
+  }
+
+  @Test
+  void testErrorInSourceOrderIsThrown() throws ParseException, EvaluationException {
+    Expression expression = parser(false).parse("EXPENSIVE(a == 0) && 1 / a > 0");
+
+    assertThatThrownBy(() -> expression.test(builder -> builder.parameter("a", 0)))
+        .isInstanceOf(EvaluationException.class)
+        .hasMessage("Division by zero");
+  }
+
+  @Test
+  void testImpureOperandsAreNotReordered() throws ParseException, EvaluationException {
+    Expression expression = parser(false).parse("IMPURE(a) && b > 1");
+
+    assertThat(expression.test(builder -> builder.parameter("a", true).parameter("b", 0)))
+        .isFalse();
+    assertThat(impure.invocations).isEqualTo(1);
+    assertThat(((LogicalOperandChain) expression.getBooleanSolvable()).getOrder())
+        .containsExactly(0, 1);
+  }
+
+  @Test
+  void testStatisticsAdaptOrder() throws ParseException, EvaluationException {
+    // Both operands have the same cost, but the second one decides the result more often.
+    Expression expression = parser(true).parse("CHEAP(a) && CHEAP(b)");
+    LogicalOperandChain chain = (LogicalOperandChain) expression.getBooleanSolvable();
+    assertThat(chain.getOrder()).containsExactly(0, 1);
+
+    for (int i = 0; i < LogicalOperandChain.STATISTICS_INTERVAL + 1; i++) {
+      boolean b = i % 10 == 0;
+      assertThat(expression.test(builder -> builder.parameter("a", true).parameter("b", b)))
+          .isEqualTo(b);
+    }
+
+    assertThat(chain.getOrder()).containsExactly(1, 0);
+  }
+
+  @Test
+  void testReorderingIsDisabledByDefault() throws ParseException, EvaluationException {
+    Expression expression = ExpressionConfiguration.defaultExpressionParser().parse("a && b");
+
+    assertThat(expression.getBooleanSolvable()).isNotInstanceOf(LogicalOperandChain.class);
+  }
+
+  @FunctionMetadata(cost = 100)
+  @FunctionParameter(name = "value")
+  private static class CountingFunction extends AbstractFunction {
+    int invocations;
+
+    @Override
+    public EvaluationValue evaluate(
+        EvaluationContext context, Token functionToken, EvaluationValue... parameterValues) {
+      invocations++;
+      return BooleanValue.of(parameterValues[0].getBooleanValue());
+    }
+  }
+
+  @FunctionMetadata(cost = 2)
+  @FunctionParameter(name = "value")
+  private static class CheapFunction extends CountingFunction {}
+
+  @FunctionMetadata(pure = false, cost = 100)
+  @FunctionParameter(name = "value")
+  private static class ImpureFunction extends CountingFunction {}
+}
@@ -0,0 +1,83 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.parser;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import me.melontini.mevalex.parser.Token.TokenType;
+import org.junit.jupiter.api.Test;
+
+class TokenizerLambdaTest extends BaseParserTest {
+
+  @Test
+  void testSingleParameter() throws ParseException {
+    assertAllTokensParsedCorrectly(
+        "MAP(a, x -> x - 1)",
+        new Token(1, "MAP", TokenType.FUNCTION),
+        new Token(4, "(", TokenType.BRACE_OPEN),
+        new Token(5, "a", TokenType.VARIABLE_OR_CONSTANT),
+        new Token(6, ",", TokenType.COMMA),
+        new Token(8, "x", TokenType.LAMBDA_PARAMETER),
+        new Token(10, "->", TokenType.LAMBDA),
+        new Token(13, "x", TokenType.VARIABLE_OR_CONSTANT),
+        new Token(15, "-", TokenType.INFIX_OPERATOR),
+        new Token(17, "1", TokenType.NUMBER_LITERAL),
+        new Token(18, ")", TokenType.BRACE_CLOSE));
+  }
+
+  @Test
+  void testMultipleParameters() throws ParseException {
+    assertAllTokensParsedCorrectly(
+        "REDUCE(a, 0, (s, x) -> s)",
+        new Token(1, "REDUCE", TokenType.FUNCTION),
+        new Token(7, "(", TokenType.BRACE_OPEN),
+        new Token(8, "a", TokenType.VARIABLE_OR_CONSTANT),
+        new Token(9, ",", TokenType.COMMA),
+        new Token(11, "0", TokenType.NUMBER_LITERAL),
+        new Token(12, ",", TokenType.COMMA),
+        new Token(15, "s", TokenType.LAMBDA_PARAMETER),
+        new Token(18, "x", TokenType.LAMBDA_PARAMETER),
+        new Token(21, "->", TokenType.LAMBDA),
+        new Token(24, "s", TokenType.VARIABLE_OR_CONSTANT),
+        new Token(25, ")", TokenType.BRACE_CLOSE));
+  }
+
+  @Test
+  void testMinusFollowedByGreaterIsNoLambda() throws ParseException {
+    assertAllTokensParsedCorrectly(
+        "a - -1 > 2",
+        new Token(1, "a", TokenType.VARIABLE_OR_CONSTANT),
+        new Token(3, "-", TokenType.INFIX_OPERATOR),
+        new Token(5, "-", TokenType.PREFIX_OPERATOR),
+        new Token(6, "1", TokenType.NUMBER_LITERAL),
+        new Token(8, ">", TokenType.INFIX_OPERATOR),
+        new Token(10, "2", TokenType.NUMBER_LITERAL));
+  }
+
+  @Test
+  void testMissingBody() {
+    assertThatThrownBy(() -> new Tokenizer(configuration).parse("MAP(a, x ->)"))
+        .isInstanceOf(ParseException.class)
+        .hasMessage("Missing lambda expression body");
+  }
+
+  @Test
+  void testLambdaNotAllowed() {
+    assertThatThrownBy(() -> new Tokenizer(configuration).parse("MAP(a, 2 * x -> x)"))
+        .isInstanceOf(ParseException.class)
+        .hasMessage("Lambda expression not allowed here");
+  }
+}
@@ -0,0 +1,216 @@
+/*
+  Copyright 2012-2026 Udo Klimaschewski
+
+  Licensed under the Apache License, Version 2.0 (the "License");
+  you may not use this file except in compliance with the License.
+  You may obtain a copy of the License at
+
+      http://www.apache.org/licenses/LICENSE-2.0
+
+  Unless required by applicable law or agreed to in writing, software
+  distributed under the License is distributed on an "AS IS" BASIS,
+  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+  See the License for the specific language governing permissions and
+  limitations under the License.
+*/
+package me.melontini.mevalex.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import me.melontini.mevalex.EvaluationContext;
+import me.melontini.mevalex.EvaluationException;
+import me.melontini.mevalex.Expression;
+import me.melontini.mevalex.config.ExpressionConfiguration;
+import me.melontini.mevalex.data.EvaluationType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class TypeInferenceTest {
+
+  private static final Map<String, EvaluationType> SCHEMA =
+      Map.of(
+          "n",
+          EvaluationType.NUMBER,
+          "m",
+          EvaluationType.NUMBER,
+          "s",
+          EvaluationType.STRING,
+          "b",
+          EvaluationType.BOOLEAN,
+          "d",
+          EvaluationType.DATE_TIME,
+          "p",
+          EvaluationType.DURATION,
+          "a",
+          EvaluationType.ARRAY,
+          "x",
+          EvaluationType.STRUCTURE);
+
+  private final ExpressionParser parser = ExpressionConfiguration.defaultExpressionParser();
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = ':',
+      value = {
+        "n + m : NUMBER",
+        "n + 1 : NUMBER",
+        "s + n : STRING",
+        "s + u : STRING",
+        "u + s : STRING",
+        "n + u : ANY",
+        "d + p : DATE_TIME",
+        "d - d : DURATION",
+        "p + p : DURATION",
+        "s * n : STRING",
+        "-n : NUMBER",
+        "n / m % 2 ^ 2 : NUMBER",
+        "n > m : BOOLEAN",
+        "s == u : BOOLEAN",
+        "n > 1 && b : BOOLEAN",
+        "!b : BOOLEAN",
+        "u : ANY",
+        "a[0] : ANY",
+        "s[0] : STRING",
+        "x.field : ANY",
+        "SUM(n, m) : NUMBER",
+        "SQRT(n) : NUMBER",
+        "STR_UPPER(s) : STRING",
+        "DT_DATE_TO_EPOCH(d) : NUMBER",
+        "IF(b, n, m) : NUMBER",
+        "IF(b, n, s) : ANY",
+        "\"abc\" : STRING",
+      })
+  void testInferredTypes(String expression, EvaluationType expectedType)
+      throws ParseException, EvaluationException {
+    ASTNode root = parseAndInline(expression);
+
+    assertThat(new TypeInference(SCHEMA).infer(root)).isEqualTo(expectedType);
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = ':',
+      value = {
+        "n - s : -",
+        "s - n : -",
+        "b * n : *",
+        "n * s : *",
+        "s / n : /",
+        "n % b : %",
+        "n ^ s : ^",
+        "-s : -",
+        "+b : +",
+        "d - s : -",
+        "p - d : -",
+        "n[0] : [",
+        "a[s] : [",
+        "n.field : .",
+        "IF(n > 0, n - s, 0) : -",
+      })
+  void testTypeErrorsAreReportedWhenParsing(String expression, String token) {
+    assertThatThrownBy(() -> parser.parse(expression, SCHEMA))
+        .isInstanceOf(ParseException.class)
+        .hasMessage("Unsupported data types in operation")
+        .extracting("tokenString")
+        .isEqualTo(token);
+  }
+
+  @ParameterizedTest
+  @CsvSource(
+      delimiter = ':',
+      value = {
+        "n + m",
+        "n - m",
+        "n * m",
+        "n / m",
+        "n % m",
+        "n ^ 2",
+        "-n + +m",
+        "s + n",
+        "n + s",
+        "s * 3",
+        "d + p",
+        "d - p",
+        "d - d",
+        "n > m",
+        "n <= m",
+        "n == m",
+        "n != m",
+        "s < \"b\"",
+        "s == s",
+        "n > 1 && b",
+        "a[1]",
+        "s[1]",
+        "x.name",
+      })
+  void testTypedEvaluationMatchesUntypedEvaluation(String expressionString)
+      throws ParseException, EvaluationException {
+    Expression typed = parser.parse(expressionString, SCHEMA);
+    Expression untyped = parser.parse(expressionString);
+
+    assertThat(typed.evaluate(this::values)).isEqualTo(untyped.evaluate(this::values));
+    assertThat(typed.test(this::values)).isEqualTo(untyped.test(this::values));
+  }
+
+  @Test
+  void testDeclaredVariableTypeIsCheckedOnEvaluation() throws ParseException, EvaluationException {
+    Expression expression = parser.parse("n + 1", SCHEMA);
+
+    assertThatThrownBy(() -> expression.evaluate(builder -> builder.parameter("n", "text")))
+        .isInstanceOf(EvaluationException.class)
+        .hasMessage("Variable 'n' is declared as NUMBER, but has a value of type STRING");
+  }
+
+  @Test
+  void testFunctionParameterTypesAreCheckedWhenParsing() {
+    assertThatThrownBy(() -> parser.parse("SQRT(s)", SCHEMA))
+        .isInstanceOf(ParseException.class)
+        .hasMessage("Parameter 'value' must be of type NUMBER, but is of type STRING");
+  }
+
+  @Test
+  void testVariableTypesAreCaseInsensitive() throws ParseException, EvaluationException {
+    assertThatThrownBy(() -> parser.parse("N - S", SCHEMA))
+        .isInstanceOf(ParseException.class)
+        .hasMessage("Unsupported data types in operation");
+  }
+
+  @Test
+  void testSubExpressionParameterIsChecked() throws ParseException, EvaluationException {
+    Expression expression = parser.parse("n * 2", SCHEMA);
+    Solvable subExpression = parser.parse("4 + 3").getSolvable();
+
+    assertThat(expression.evaluate(builder -> builder.parameter("n", subExpression)).getValue())
+        .isEqualTo(new BigDecimal("14"));
+  }
+
+  private ASTNode parseAndInline(String expression) throws ParseException, EvaluationException {
+    ASTNode root =
+        parser
+            .getConverter()
+            .toAbstractSyntaxTree(parser.getTokenizer().parse(expression), expression);
+    Expression proxy =
+        new Expression(expression, parser.toSolvable(root), parser.getConfiguration());
+    return parser.inline(proxy, root);
+  }
+
+  private EvaluationContext.EvaluationContextBuilder values(
+      EvaluationContext.EvaluationContextBuilder builder) {
+    return builder
+        .parameter("n", 7)
+        .parameter("m", new BigDecimal("2.5"))
+        .parameter("s", "abc")
+        .parameter("b", true)
+        .parameter("d", Instant.parse("2024-01-01T00:00:00Z"))
+        .parameter("p", Duration.ofHours(2))
+        .parameter("a", List.of(1, 2, 3))
+        .parameter("x", Map.of("name", "value"));
+  }
+}